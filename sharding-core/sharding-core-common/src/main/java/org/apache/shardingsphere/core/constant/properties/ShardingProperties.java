@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.constant.properties;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
 import lombok.Getter;
 import org.apache.shardingsphere.core.util.StringUtil;
 
@@ -38,6 +39,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class ShardingProperties {
     
+    private static final Map<String, String> REMOVED_KEYS_AND_REPLACEMENTS = ImmutableMap.of(
+            "proxy.frontend.flush.threshold", "'proxy.frontend.flush.bytes' and 'proxy.frontend.flush.interval.microseconds'");
+    
     @Getter
     private final Properties props;
     
@@ -52,6 +56,10 @@ public final class ShardingProperties {
         Set<String> propertyNames = props.stringPropertyNames();
         Collection<String> errorMessages = new ArrayList<>(propertyNames.size());
         for (String each : propertyNames) {
+            if (REMOVED_KEYS_AND_REPLACEMENTS.containsKey(each)) {
+                errorMessages.add(String.format("Property '%s' is removed, please use %s instead.", each, REMOVED_KEYS_AND_REPLACEMENTS.get(each)));
+                continue;
+            }
             ShardingPropertiesConstant shardingPropertiesConstant = ShardingPropertiesConstant.findByKey(each);
             if (null == shardingPropertiesConstant) {
                 continue;
@@ -81,9 +81,44 @@ public enum ShardingPropertiesConstant {
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
     /**
-     * Sharding-Proxy's flush threshold for every records from databases.
+     * Bytes threshold to flush data written to frontend connection for Sharding-Proxy.
+     * <p>
+     * Written data are flushed when unflushed bytes reach this value or flush interval elapsed, whichever comes first.
+     * It replaces removed row count threshold {@code proxy.frontend.flush.threshold}, which is rejected if configured.
+     * Default: 16384
+     * </p>
+     */
+    PROXY_FRONTEND_FLUSH_BYTES("proxy.frontend.flush.bytes", String.valueOf(16384), int.class),
+    
+    /**
+     * Max interval in microseconds from first unflushed data written to frontend connection to flush for Sharding-Proxy.
+     * <p>
+     * Default: 1000
+     * </p>
      */
-    PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
+    PROXY_FRONTEND_FLUSH_INTERVAL_MICROSECONDS("proxy.frontend.flush.interval.microseconds", String.valueOf(1000), long.class),
+    
+    /**
+     * Max pending commands of each frontend connection for Sharding-Proxy.
+     * <p>
+     * Commands of one connection are executed one by one in arrival order,
+     * Sharding-Proxy stops reading from the connection when its pending commands reach this value, and resumes when they are drained to half.
+     * Default: 16
+     * </p>
+     */
+    PROXY_FRONTEND_MAX_PENDING_COMMANDS("proxy.frontend.max.pending.commands", String.valueOf(16), int.class),
+    
+    /**
+     * Enable or Disable to execute lightweight commands in I/O thread for Sharding-Proxy.
+     * <p>
+     * If this property is true, commands which do not access backend databases (such as COM_PING, COM_INIT_DB and SCTL)
+     * are executed in netty I/O thread directly when no other commands of the same connection are pending.
+     * It only takes effect for LOCAL transaction without thread occupied for per connection,
+     * and is skipped while connection is in transaction, because switching schema or transaction type waits for transaction terminated.
+     * Default: false
+     * </p>
+     */
+    PROXY_FRONTEND_LIGHTWEIGHT_COMMAND_IN_IO_THREAD_ENABLED("proxy.frontend.lightweight.command.in.io.thread.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
     /**
      * Transaction type of proxy.
@@ -114,7 +149,108 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * Timeout in seconds to wait first responses of backend databases for each query of Sharding-Proxy.
+     *
+     * <p>
+     * It takes effect only if {@code proxy.backend.use.nio} is true, counted from SQL of all route units sent to their first responses received.
+     * 0 means no timeout.
+     * Default: 0
+     * </p>
+     */
+    PROXY_BACKEND_QUERY_TIMEOUT_SECONDS("proxy.backend.query.timeout.seconds", String.valueOf(0), int.class),
+    
+    /**
+     * Timeout in seconds to wait next row of backend databases for Sharding-Proxy.
+     *
+     * <p>
+     * It takes effect only if {@code proxy.backend.use.nio} is true, and is also max time consumer may not read any row while backend channel stopped reading,
+     * backend channel is closed after that.
+     * 0 means no timeout.
+     * Default: 0
+     * </p>
+     */
+    PROXY_BACKEND_READ_TIMEOUT_SECONDS("proxy.backend.read.timeout.seconds", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to access MySQL backend databases by native protocol for Sharding-Proxy.
+     *
+     * <p>
+     * If this property is true, queries out of transaction are sent to backend MySQL databases over pooled netty channels instead of JDBC connections,
+     * size of channels for each data source is {@code proxy.backend.max.connections},
+     * timeout to connect and acquire channel is {@code proxy.backend.connection.timeout.seconds},
+     * timeout to wait response is {@code proxy.backend.query.timeout.seconds} and timeout to wait row is {@code proxy.backend.read.timeout.seconds}.
+     * Default: false
+     * </p>
+     */
+    PROXY_BACKEND_USE_NIO("proxy.backend.use.nio", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of prepared statement cache for each physical backend connection of Sharding-Proxy.
+     *
+     * <p>
+     * Prepared statements of binary protocol in LOCAL transaction are cached by rewritten SQL until physical connections closed,
+     * least recently used statements will be closed when cache size exceeded, 0 means disable the cache.
+     * Default: 256
+     * </p>
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy.backend.prepared.statement.cache.size", String.valueOf(256), int.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Directory to persist table meta data snapshot.
+     * 
+     * <p>
+     * If this property is not empty, loaded table meta data will be written into a versioned snapshot file in this directory,
+     * next start with same rule and data sources will use the snapshot directly and refresh table meta data in background.
+     * Default: empty, means disable the snapshot
+     * </p>
+     */
+    TABLE_METADATA_SNAPSHOT_DIRECTORY("table.metadata.snapshot.directory", "", String.class),
+    
+    /**
+     * Max size of parsing result cache.
+     * 
+     * <p>
+     * Least recently used parsing results will be evicted when cache size exceeded.
+     * Default: 65535
+     * </p>
+     */
+    PARSING_RESULT_CACHE_SIZE("parsing.result.cache.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Enable or Disable to normalize literals of simple query SQL.
+     * 
+     * <p>
+     * If this property is true, literals of Statement or COM_QUERY SQL will be replaced with parameter markers,
+     * SQLs only different with literals will share one parsing result in parsing result cache.
+     * Default: false
+     * </p>
+     */
+    PARSING_LITERAL_NORMALIZE_ENABLED("parsing.literal.normalize.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of routing result cache.
+     * 
+     * <p>
+     * Routed data nodes of standard routing are cached by logic table and sharding values if this property is greater than 0,
+     * sharding algorithms must always return same targets for same sharding values when cache enabled.
+     * Default: 0
+     * </p>
+     */
+    ROUTING_RESULT_CACHE_SIZE("routing.result.cache.size", String.valueOf(0), long.class),
+    
+    /**
+     * Max groups of group by memory merging held in memory.
+     * 
+     * <p>
+     * If this property is greater than 0 and groups exceed it, partial aggregated groups will be spilled into local temporary files,
+     * and merged from files after all rows aggregated.
+     * Default: 0, means no limit
+     * </p>
+     */
+    GROUP_BY_MAX_MEMORY_ROWS("group.by.max.memory.rows", String.valueOf(0), int.class);
     
     private final String key;
     
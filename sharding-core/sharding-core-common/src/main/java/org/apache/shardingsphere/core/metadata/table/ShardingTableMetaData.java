@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Sharding table meta data.
@@ -37,6 +38,10 @@ public final class ShardingTableMetaData {
     @Getter
     private final Map<String, TableMetaData> tables;
     
+    private final Map<String, Long> modifiedVersions = new ConcurrentHashMap<>();
+    
+    private long version;
+    
     /**
      * Get table meta data by table name.
      * @param logicTableName logicTableName logic table name
@@ -52,8 +57,9 @@ public final class ShardingTableMetaData {
      * @param logicTableName logic table name
      * @param tableMetaData table meta data
      */
-    public void put(final String logicTableName, final TableMetaData tableMetaData) {
+    public synchronized void put(final String logicTableName, final TableMetaData tableMetaData) {
         tables.put(logicTableName, tableMetaData);
+        modifiedVersions.put(logicTableName, ++version);
     }
     
     /**
@@ -61,8 +67,56 @@ public final class ShardingTableMetaData {
      *
      * @param logicTableName logic table name
      */
-    public void remove(final String logicTableName) {
+    public synchronized void remove(final String logicTableName) {
         tables.remove(logicTableName);
+        modifiedVersions.put(logicTableName, ++version);
+    }
+    
+    /**
+     * Get version of table meta data.
+     * 
+     * <p>Version is increased by every modification, it should be got before loading table meta data which may be put with {@code putIfNotModified}.</p>
+     *
+     * @return version of table meta data
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Add table meta data if it is not modified after the version.
+     *
+     * @param logicTableName logic table name
+     * @param tableMetaData table meta data
+     * @param version version got before table meta data loaded
+     * @return table meta data is added or not
+     */
+    public synchronized boolean putIfNotModified(final String logicTableName, final TableMetaData tableMetaData, final long version) {
+        if (isModified(logicTableName, version)) {
+            return false;
+        }
+        put(logicTableName, tableMetaData);
+        return true;
+    }
+    
+    /**
+     * Remove table meta data if it is not modified after the version.
+     *
+     * @param logicTableName logic table name
+     * @param version version got before table meta data loaded
+     * @return table meta data is removed or not
+     */
+    public synchronized boolean removeIfNotModified(final String logicTableName, final long version) {
+        if (isModified(logicTableName, version)) {
+            return false;
+        }
+        remove(logicTableName);
+        return true;
+    }
+    
+    private boolean isModified(final String logicTableName, final long version) {
+        Long modifiedVersion = modifiedVersions.get(logicTableName);
+        return null != modifiedVersion && modifiedVersion > version;
     }
     
     /**
@@ -21,15 +21,22 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SPI service loader for new instance for every call.
+ * 
+ * <p>
+ * Service classes are resolved once at register, creating instances does not scan class path again.
+ * </p>
  *
  * @author zhangliang
  * @author zhaojun
@@ -37,7 +44,7 @@ import java.util.ServiceLoader;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class NewInstanceServiceLoader {
     
-    private static final Map<Class, Collection<Class<?>>> SERVICE_MAP = new HashMap<>();
+    private static final Map<Class, Class<?>[]> SERVICE_MAP = new ConcurrentHashMap<>();
     
     /**
      * Register SPI service into map for new instance.
@@ -45,20 +52,15 @@ public final class NewInstanceServiceLoader {
      * @param service service type
      * @param <T> type of service
      */
-    public static <T> void register(final Class<T> service) {
-        for (T each : ServiceLoader.load(service)) {
-            registerServiceClass(service, each);
+    public static synchronized <T> void register(final Class<T> service) {
+        Collection<Class<?>> serviceClasses = new LinkedHashSet<>();
+        if (SERVICE_MAP.containsKey(service)) {
+            serviceClasses.addAll(Arrays.asList(SERVICE_MAP.get(service)));
         }
-    }
-    
-    @SuppressWarnings("unchecked")
-    private static <T> void registerServiceClass(final Class<T> service, final T instance) {
-        Collection<Class<?>> serviceClasses = SERVICE_MAP.get(service);
-        if (null == serviceClasses) {
-            serviceClasses = new LinkedHashSet<>();
+        for (T each : ServiceLoader.load(service)) {
+            serviceClasses.add(each.getClass());
         }
-        serviceClasses.add(instance.getClass());
-        SERVICE_MAP.put(service, serviceClasses);
+        SERVICE_MAP.put(service, serviceClasses.toArray(new Class<?>[serviceClasses.size()]));
     }
     
     /**
@@ -71,11 +73,12 @@ public final class NewInstanceServiceLoader {
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public static <T> Collection<T> newServiceInstances(final Class<T> service) {
-        Collection<T> result = new LinkedList<>();
-        if (null == SERVICE_MAP.get(service)) {
-            return result;
+        Class<?>[] serviceClasses = SERVICE_MAP.get(service);
+        if (null == serviceClasses || 0 == serviceClasses.length) {
+            return Collections.emptyList();
         }
-        for (Class<?> each : SERVICE_MAP.get(service)) {
+        List<T> result = new ArrayList<>(serviceClasses.length);
+        for (Class<?> each : serviceClasses) {
             result.add((T) each.newInstance());
         }
         return result;
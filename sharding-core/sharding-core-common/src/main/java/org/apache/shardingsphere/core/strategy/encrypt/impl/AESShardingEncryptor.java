@@ -19,7 +19,7 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
@@ -33,20 +33,40 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 /**
  * AES sharding encryptor.
+ * 
+ * <p>
+ * Secret key is derived once per properties, and initialized ciphers are reused through bounded idle queues of the encryptor.
+ * Ciphers are not held by thread locals, so they are released with the encryptor when it is replaced.
+ * </p>
  *
  * @author panjuan
  */
-@Getter
-@Setter
 public final class AESShardingEncryptor implements ShardingEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
+    private static final int MAX_IDLE_CIPHERS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    @Getter
     private Properties properties = new Properties();
     
+    private volatile SecretKeySpec secretKey;
+    
+    private final Queue<CipherHolder> idleEncryptCiphers = new ArrayBlockingQueue<>(MAX_IDLE_CIPHERS);
+    
+    private final Queue<CipherHolder> idleDecryptCiphers = new ArrayBlockingQueue<>(MAX_IDLE_CIPHERS);
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        secretKey = null;
+    }
+    
     @Override
     public String getType() {
         return "AES";
@@ -59,7 +79,9 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
     @Override
     @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        CipherHolder cipherHolder = acquireCipher(Cipher.ENCRYPT_MODE, idleEncryptCiphers);
+        byte[] result = cipherHolder.cipher.doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        idleEncryptCiphers.offer(cipherHolder);
         return Base64.encodeBase64String(result);
     }
     
@@ -69,14 +91,30 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        CipherHolder cipherHolder = acquireCipher(Cipher.DECRYPT_MODE, idleDecryptCiphers);
+        byte[] result = cipherHolder.cipher.doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        idleDecryptCiphers.offer(cipherHolder);
         return new String(result);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+    private CipherHolder acquireCipher(final int decryptMode, final Queue<CipherHolder> idleCiphers) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+        SecretKeySpec currentSecretKey = getSecretKey();
+        CipherHolder result = idleCiphers.poll();
+        if (null != result && currentSecretKey == result.secretKey) {
+            return result;
+        }
+        Cipher cipher = Cipher.getInstance(getType());
+        cipher.init(decryptMode, currentSecretKey);
+        return new CipherHolder(currentSecretKey, cipher);
+    }
+    
+    private SecretKeySpec getSecretKey() {
+        SecretKeySpec result = secretKey;
+        if (null == result) {
+            Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
+            result = new SecretKeySpec(createSecretKey(), getType());
+            secretKey = result;
+        }
         return result;
     }
     
@@ -84,4 +122,12 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
         return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
     }
+    
+    @RequiredArgsConstructor
+    private static final class CipherHolder {
+        
+        private final SecretKeySpec secretKey;
+        
+        private final Cipher cipher;
+    }
 }
@@ -21,10 +21,16 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.BatchShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Snowflake distributed primary key generator.
@@ -48,10 +54,14 @@ import java.util.Properties;
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
  * 
+ * <p>
+ * Last milliseconds, sequence offset and sequence are packed into one atomic state, keys are allocated by CAS without lock.
+ * </p>
+ * 
  * @author gaohongtao
  * @author panjuan
  */
-public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+public final class SnowflakeShardingKeyGenerator implements BatchShardingKeyGenerator {
     
     public static final long EPOCH;
     
@@ -71,18 +81,23 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
+    private static final long SEQUENCE_OFFSET_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long STATE_MILLISECONDS_LEFT_SHIFT_BITS = SEQUENCE_OFFSET_LEFT_SHIFT_BITS + 1;
+    
+    private static final long WAIT_NEXT_TIME_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
     @Getter
-    @Setter
     private Properties properties = new Properties();
     
-    private byte sequenceOffset;
+    private volatile long workerId = WORKER_ID;
     
-    private long sequence;
+    private volatile int maxTolerateTimeDifferenceMilliseconds = MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS;
     
-    private long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -100,54 +115,92 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public void setProperties(final Properties properties) {
+        workerId = getWorkerId(properties);
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds(properties);
+        this.properties = properties;
+    }
+    
+    private long getWorkerId(final Properties properties) {
+        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
+        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds(final Properties properties) {
+        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        List<Comparable<?>> result = new ArrayList<>(1);
+        allocate(1, result);
+        return result.get(0);
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        List<Comparable<?>> result = new ArrayList<>(count);
+        while (result.size() < count) {
+            allocate(count - result.size(), result);
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private void allocate(final int count, final List<Comparable<?>> keys) {
+        while (true) {
+            long lastState = state.get();
+            long lastMilliseconds = lastState >>> STATE_MILLISECONDS_LEFT_SHIFT_BITS;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long sequenceOffset = (lastState >>> SEQUENCE_OFFSET_LEFT_SHIFT_BITS) & 1;
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                long lastSequence = lastState & SEQUENCE_MASK;
+                if (lastSequence < SEQUENCE_MASK) {
+                    firstSequence = lastSequence + 1;
+                } else {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                    firstSequence = 0L;
+                }
+            } else {
+                sequenceOffset = ~sequenceOffset & 1;
+                firstSequence = sequenceOffset;
+            }
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            long nextState = (currentMilliseconds << STATE_MILLISECONDS_LEFT_SHIFT_BITS) | (sequenceOffset << SEQUENCE_OFFSET_LEFT_SHIFT_BITS) | lastSequence;
+            if (state.compareAndSet(lastState, nextState)) {
+                for (long each = firstSequence; each <= lastSequence; each++) {
+                    keys.add(((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | each);
+                }
+                return;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
         long timeDifferenceMilliseconds = lastMilliseconds - currentMilliseconds;
-        Preconditions.checkState(timeDifferenceMilliseconds < getMaxTolerateTimeDifferenceMilliseconds(), 
+        Preconditions.checkState(timeDifferenceMilliseconds < maxTolerateTimeDifferenceMilliseconds, 
                 "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds", lastMilliseconds, currentMilliseconds);
         Thread.sleep(timeDifferenceMilliseconds);
         return true;
     }
     
-    private long getWorkerId() {
-        long result = Long.valueOf(properties.getProperty("worker.id", String.valueOf(WORKER_ID)));
-        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE);
-        return result;
-    }
-    
-    private int getMaxTolerateTimeDifferenceMilliseconds() {
-        return Integer.valueOf(properties.getProperty("max.tolerate.time.difference.milliseconds", String.valueOf(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS)));
-    }
-    
     private long waitUntilNextTime(final long lastTime) {
         long result = timeService.getCurrentMillis();
         while (result <= lastTime) {
+            LockSupport.parkNanos(WAIT_NEXT_TIME_PARK_NANOS);
             result = timeService.getCurrentMillis();
         }
         return result;
     }
-    
-    private void vibrateSequenceOffset() {
-        sequenceOffset = (byte) (~sequenceOffset & 1);
-    }
 }
@@ -26,11 +26,10 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
+import org.apache.shardingsphere.core.util.ModuloInlineExpression;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -44,12 +43,16 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final Closure<?> closure;
     
+    private final ModuloInlineExpression moduloInlineExpression;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
-        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        InlineExpressionParser inlineExpressionParser = new InlineExpressionParser(algorithmExpression);
+        closure = inlineExpressionParser.evaluateClosure();
+        moduloInlineExpression = inlineExpressionParser.compileModuloExpression().orNull();
     }
     
     @Override
@@ -62,19 +65,15 @@ public final class InlineShardingStrategy implements ShardingStrategy {
         return result;
     }
     
-    private Collection<String> doSharding(final ListRouteValue shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            result.add(execute(each));
-        }
-        return result;
-    }
-    
     @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListRouteValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
+    private Collection<String> doSharding(final ListRouteValue<?> shardingValue) {
+        Collection<String> result = new LinkedList<>();
         for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
+            if (null != moduloInlineExpression && moduloInlineExpression.isEvaluable(shardingValue.getColumnName(), each)) {
+                result.add(moduloInlineExpression.evaluate(each));
+            } else {
+                result.add(execute(new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each)));
+            }
         }
         return result;
     }
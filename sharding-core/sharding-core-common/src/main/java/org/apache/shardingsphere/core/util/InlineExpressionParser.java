@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
@@ -34,6 +35,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Inline expression parser.
@@ -50,6 +53,10 @@ public final class InlineExpressionParser {
     
     private static final GroovyShell SHELL = new GroovyShell();
     
+    private static final Pattern MODULO_PATTERN = Pattern.compile("([^$\\{}\"\\\\]*)\\$\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*%\\s*(\\d{1,9})\\s*}([^$\\{}\"\\\\]*)");
+    
+    private static final int MAX_MODULO = 4096;
+    
     private final String inlineExpression;
     
     /**
@@ -83,6 +90,28 @@ public final class InlineExpressionParser {
         return (Closure) evaluate(Joiner.on("").join("{it -> \"", inlineExpression, "\"}"));
     }
     
+    /**
+     * Compile modulo expression.
+     * 
+     * <p>Only simple expression like {@code ds_${user_id % 4}} can be compiled, others should be evaluated by closure.</p>
+     *
+     * @return modulo inline expression
+     */
+    public Optional<ModuloInlineExpression> compileModuloExpression() {
+        if (null == inlineExpression) {
+            return Optional.absent();
+        }
+        Matcher matcher = MODULO_PATTERN.matcher(handlePlaceHolder(inlineExpression));
+        if (!matcher.matches()) {
+            return Optional.absent();
+        }
+        int modulo = Integer.parseInt(matcher.group(3));
+        if (0 == modulo || modulo > MAX_MODULO) {
+            return Optional.absent();
+        }
+        return Optional.of(new ModuloInlineExpression(matcher.group(1), matcher.group(2), modulo, matcher.group(4)));
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import lombok.Getter;
+
+/**
+ * Modulo inline expression.
+ * 
+ * <p>
+ * Compiled form of inline expression like {@code t_order_${order_id % 16}}.
+ * All target names are pre-built, so evaluation need not run groovy closure.
+ * </p>
+ */
+public final class ModuloInlineExpression {
+    
+    @Getter
+    private final String columnName;
+    
+    private final String[] targetNames;
+    
+    public ModuloInlineExpression(final String prefix, final String columnName, final int modulo, final String suffix) {
+        this.columnName = columnName;
+        targetNames = new String[modulo];
+        for (int i = 0; i < modulo; i++) {
+            targetNames[i] = prefix + i + suffix;
+        }
+    }
+    
+    /**
+     * Judge whether sharding value can be evaluated without groovy.
+     * 
+     * @param columnName column name of sharding value
+     * @param value sharding value
+     * @return can be evaluated or not
+     */
+    public boolean isEvaluable(final String columnName, final Object value) {
+        return this.columnName.equals(columnName) && isIntegral(value) && ((Number) value).longValue() % targetNames.length >= 0;
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Evaluate target name.
+     * 
+     * @param value sharding value, must be evaluable
+     * @return target name
+     */
+    public String evaluate(final Object value) {
+        return targetNames[(int) (((Number) value).longValue() % targetNames.length)];
+    }
+}
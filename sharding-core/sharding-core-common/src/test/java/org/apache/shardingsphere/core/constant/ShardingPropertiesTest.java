@@ -27,6 +27,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class ShardingPropertiesTest {
     
@@ -70,4 +71,16 @@ public final class ShardingPropertiesTest {
         prop.put("other", "other");
         new ShardingProperties(prop);
     }
+    
+    @Test
+    public void assertValidateFailureWithRemovedKey() {
+        Properties prop = new Properties();
+        prop.put("proxy.frontend.flush.threshold", "128");
+        try {
+            new ShardingProperties(prop);
+            fail("IllegalArgumentException should be thrown.");
+        } catch (final IllegalArgumentException ex) {
+            assertThat(ex.getMessage(), is("Property 'proxy.frontend.flush.threshold' is removed, please use 'proxy.frontend.flush.bytes' and 'proxy.frontend.flush.interval.microseconds' instead."));
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.metadata.datasource.dialect.MySQLDataSourc
 import org.apache.shardingsphere.core.metadata.datasource.dialect.OracleDataSourceMetaDataTest;
 import org.apache.shardingsphere.core.metadata.datasource.dialect.PostgreSQLDataSourceMetaDataTest;
 import org.apache.shardingsphere.core.metadata.datasource.dialect.SQLServerDataSourceMetaDataTest;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaDataTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -36,7 +37,8 @@ import org.junit.runners.Suite.SuiteClasses;
         PostgreSQLDataSourceMetaDataTest.class, 
         SQLServerDataSourceMetaDataTest.class, 
         DataSourceMetaDataFactoryTest.class, 
-        ShardingDataSourceMetaDataTest.class
+        ShardingDataSourceMetaDataTest.class, 
+        ShardingTableMetaDataTest.class
 })
 public final class AllMetaDataTests {
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metadata.table;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingTableMetaDataTest {
+    
+    private final ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(new HashMap<String, TableMetaData>());
+    
+    @Test
+    public void assertPutIfNotModified() {
+        long version = shardingTableMetaData.getVersion();
+        TableMetaData tableMetaData = createTableMetaData();
+        assertTrue(shardingTableMetaData.putIfNotModified("t_order", tableMetaData, version));
+        assertThat(shardingTableMetaData.get("t_order"), is(tableMetaData));
+    }
+    
+    @Test
+    public void assertPutIfNotModifiedWhenModifiedAfterVersion() {
+        long version = shardingTableMetaData.getVersion();
+        TableMetaData tableMetaData = createTableMetaData();
+        shardingTableMetaData.put("t_order", tableMetaData);
+        assertFalse(shardingTableMetaData.putIfNotModified("t_order", createTableMetaData(), version));
+        assertThat(shardingTableMetaData.get("t_order"), is(tableMetaData));
+        assertTrue(shardingTableMetaData.putIfNotModified("t_order_item", createTableMetaData(), version));
+    }
+    
+    @Test
+    public void assertRemoveIfNotModifiedWhenModifiedAfterVersion() {
+        shardingTableMetaData.put("t_order", createTableMetaData());
+        long version = shardingTableMetaData.getVersion();
+        assertTrue(shardingTableMetaData.removeIfNotModified("t_order", version));
+        assertNull(shardingTableMetaData.get("t_order"));
+        TableMetaData tableMetaData = createTableMetaData();
+        shardingTableMetaData.put("t_order", tableMetaData);
+        assertFalse(shardingTableMetaData.removeIfNotModified("t_order", version));
+        assertThat(shardingTableMetaData.get("t_order"), is(tableMetaData));
+    }
+    
+    private TableMetaData createTableMetaData() {
+        return new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "int", true)));
+    }
+}
@@ -20,11 +20,19 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public final class AESShardingEncryptorTest {
     
@@ -54,11 +62,60 @@ public final class AESShardingEncryptorTest {
         assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
     }
     
+    @Test
+    public void assertEncodeAfterKeyChanged() {
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "other");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeConcurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(new Callable<Boolean>() {
+                    
+                    @Override
+                    public Boolean call() {
+                        for (int j = 0; j < 100; j++) {
+                            if (!"test".equals(encryptor.decrypt(encryptor.encrypt("test")))) {
+                                return false;
+                            }
+                        }
+                        return "dSpPiyENQGDUXMKFMJPGWA==".equals(encryptor.encrypt("test"));
+                    }
+                }));
+            }
+            for (Future<Boolean> each : futures) {
+                assertThat(each.get(), is(true));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
     @Test
     public void assertDecode() {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertDecodeAfterFailure() {
+        try {
+            encryptor.decrypt("dSpPiyENQGDUXMKF");
+            fail("Expected decrypt failure.");
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+        }
+        assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
+    }
+    
     @Test
     public void assertDecodeWithNull() {
         assertNull(encryptor.decrypt(null));
@@ -20,11 +20,13 @@ package org.apache.shardingsphere.core.strategy.route;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.RangeShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.BetweenRouteValue;
@@ -32,6 +34,7 @@ import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -62,4 +65,12 @@ public final class ShardingStrategyTest {
         assertThat(strategy.doSharding(targets, Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "logicTable", Collections.singletonList(1)))), 
                 is((Collection<String>) Sets.newHashSet("1", "2", "3")));
     }
+    
+    @Test
+    public void assertDoShardingForInlineModuloExpression() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "t_order_${column % 2}"));
+        Collection<String> actual = strategy.doSharding(Sets.newHashSet("t_order_0", "t_order_1"), 
+                Collections.<RouteValue>singletonList(new ListRouteValue<>("column", "t_order", Arrays.<Comparable<?>>asList(1, 2L, -5))));
+        assertThat(actual, is((Collection<String>) Sets.newHashSet("t_order_0", "t_order_1", "t_order_-1")));
+    }
 }
@@ -24,6 +24,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class InlineExpressionParserTest {
@@ -106,4 +107,26 @@ public final class InlineExpressionParserTest {
         assertThat(expected.size(), is(1024));
         assertThat(expected, hasItems("ds_0.t_user_0", "ds_15.t_user_1023"));
     }
+    
+    @Test
+    public void assertCompileModuloExpression() {
+        ModuloInlineExpression actual = new InlineExpressionParser("t_order_${ order_id % 16 }").compileModuloExpression().get();
+        assertThat(actual.getColumnName(), is("order_id"));
+        assertThat(actual.evaluate(17), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertCompileModuloExpressionWithPlaceHolderAndSuffix() {
+        ModuloInlineExpression actual = new InlineExpressionParser("ds_$->{user_id%4}_bak").compileModuloExpression().get();
+        assertThat(actual.getColumnName(), is("user_id"));
+        assertThat(actual.evaluate(6L), is("ds_2_bak"));
+    }
+    
+    @Test
+    public void assertCompileNotModuloExpression() {
+        assertFalse(new InlineExpressionParser("t_order_${order_id.intdiv(16)}").compileModuloExpression().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${order_id % 16}_${user_id % 2}").compileModuloExpression().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${order_id % 0}").compileModuloExpression().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${order_id % 100000}").compileModuloExpression().isPresent());
+    }
 }
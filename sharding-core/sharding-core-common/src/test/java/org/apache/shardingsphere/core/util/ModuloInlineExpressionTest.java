@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ModuloInlineExpressionTest {
+    
+    private final ModuloInlineExpression moduloInlineExpression = new ModuloInlineExpression("t_order_", "order_id", 4, "");
+    
+    @Test
+    public void assertIsEvaluable() {
+        assertTrue(moduloInlineExpression.isEvaluable("order_id", 1));
+        assertTrue(moduloInlineExpression.isEvaluable("order_id", 1L));
+        assertTrue(moduloInlineExpression.isEvaluable("order_id", (short) 1));
+        assertTrue(moduloInlineExpression.isEvaluable("order_id", (byte) 1));
+    }
+    
+    @Test
+    public void assertIsNotEvaluable() {
+        assertFalse(moduloInlineExpression.isEvaluable("user_id", 1));
+        assertFalse(moduloInlineExpression.isEvaluable("order_id", "1"));
+        assertFalse(moduloInlineExpression.isEvaluable("order_id", new BigDecimal("1")));
+        assertFalse(moduloInlineExpression.isEvaluable("order_id", -1));
+        assertFalse(moduloInlineExpression.isEvaluable("order_id", null));
+    }
+    
+    @Test
+    public void assertEvaluate() {
+        assertThat(moduloInlineExpression.evaluate(0), is("t_order_0"));
+        assertThat(moduloInlineExpression.evaluate(7L), is("t_order_3"));
+        assertThat(moduloInlineExpression.evaluate(-4), is("t_order_0"));
+    }
+}
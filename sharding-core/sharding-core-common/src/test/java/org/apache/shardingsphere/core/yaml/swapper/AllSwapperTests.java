@@ -23,6 +23,7 @@ import org.apache.shardingsphere.core.yaml.swapper.impl.MasterSlaveRuleConfigura
 import org.apache.shardingsphere.core.yaml.swapper.impl.ProxyUserYamlSwapperTest;
 import org.apache.shardingsphere.core.yaml.swapper.impl.ShardingRuleConfigurationYamlSwapperTest;
 import org.apache.shardingsphere.core.yaml.swapper.impl.ShardingStrategyConfigurationYamlSwapperTest;
+import org.apache.shardingsphere.core.yaml.swapper.impl.TableMetaDataYamlSwapperTest;
 import org.apache.shardingsphere.core.yaml.swapper.impl.TableRuleConfigurationYamlSwapperTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -36,7 +37,8 @@ import org.junit.runners.Suite.SuiteClasses;
         ShardingStrategyConfigurationYamlSwapperTest.class, 
         KeyGeneratorConfigurationYamlSwapperTest.class, 
         EncryptorRuleConfigurationYamlSwapperTest.class, 
-        ProxyUserYamlSwapperTest.class
+        ProxyUserYamlSwapperTest.class, 
+        TableMetaDataYamlSwapperTest.class
 })
 public final class AllSwapperTests {
 }
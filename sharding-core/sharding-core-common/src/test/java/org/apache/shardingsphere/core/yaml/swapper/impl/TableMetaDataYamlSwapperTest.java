@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.yaml.swapper.impl;
+
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlColumnMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlTableMetaData;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataYamlSwapperTest {
+    
+    @Test
+    public void assertSwapToYaml() {
+        YamlTableMetaData actual = new TableMetaDataYamlSwapper().swap(new TableMetaData(Arrays.asList(new ColumnMetaData("id", "int", true), new ColumnMetaData("name", "varchar", false))));
+        assertThat(actual.getColumns().size(), is(2));
+        assertThat(actual.getColumns().get(0).getColumnName(), is("id"));
+        assertThat(actual.getColumns().get(0).getDataType(), is("int"));
+        assertTrue(actual.getColumns().get(0).isPrimaryKey());
+        assertThat(actual.getColumns().get(1).getColumnName(), is("name"));
+        assertThat(actual.getColumns().get(1).getDataType(), is("varchar"));
+        assertFalse(actual.getColumns().get(1).isPrimaryKey());
+    }
+    
+    @Test
+    public void assertSwapToObject() {
+        YamlTableMetaData yamlConfiguration = new YamlTableMetaData();
+        yamlConfiguration.getColumns().add(createYamlColumnMetaData("id", "int", true));
+        yamlConfiguration.getColumns().add(createYamlColumnMetaData("name", "varchar", false));
+        TableMetaData actual = new TableMetaDataYamlSwapper().swap(yamlConfiguration);
+        assertThat(actual, is(new TableMetaData(Arrays.asList(new ColumnMetaData("id", "int", true), new ColumnMetaData("name", "varchar", false)))));
+    }
+    
+    private YamlColumnMetaData createYamlColumnMetaData(final String columnName, final String dataType, final boolean primaryKey) {
+        YamlColumnMetaData result = new YamlColumnMetaData();
+        result.setColumnName(columnName);
+        result.setDataType(dataType);
+        result.setPrimaryKey(primaryKey);
+        return result;
+    }
+}
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.core;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.token.SQLToken;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLLogger;
@@ -55,6 +58,8 @@ public abstract class BaseShardingEngine {
     
     private final SPIRoutingHook routingHook = new SPIRoutingHook();
     
+    private volatile GeneratedSQLTokens generatedSQLTokens;
+    
     /**
      * Shard.
      *
@@ -77,6 +82,8 @@ public abstract class BaseShardingEngine {
     
     protected abstract SQLRouteResult route(String sql, List<Object> parameters);
     
+    protected abstract SQLUnit convertSQLUnit(SQLUnit sqlUnit);
+    
     private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
         routingHook.start(sql);
         try {
@@ -99,12 +106,31 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    private List<SQLToken> getSQLTokens(final SQLStatement sqlStatement) {
+        GeneratedSQLTokens generatedSQLTokens = this.generatedSQLTokens;
+        if (null != generatedSQLTokens && sqlStatement == generatedSQLTokens.getSqlStatement()) {
+            return generatedSQLTokens.getSqlTokens();
+        }
+        List<SQLToken> result = SQLRewriteEngine.generateSQLTokens(sqlStatement, shardingRule);
+        this.generatedSQLTokens = new GeneratedSQLTokens(sqlStatement, result);
+        return result;
+    }
+    
     private Collection<RouteUnit> rewriteAndConvert(final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
-        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, databaseType, sqlRouteResult, parameters);
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, databaseType, sqlRouteResult, parameters, getSQLTokens(sqlRouteResult.getSqlStatement()));
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
-            result.add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each)));
+            result.add(new RouteUnit(each.getDataSourceName(), convertSQLUnit(rewriteEngine.generateSQL(each))));
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GeneratedSQLTokens {
+        
+        private final SQLStatement sqlStatement;
+        
+        private final List<SQLToken> sqlTokens;
+    }
 }
@@ -21,8 +21,11 @@ import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.ArrayList;
@@ -45,9 +48,16 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     private final PreparedStatementRoutingEngine routingEngine;
     
     public PreparedQueryShardingEngine(final String sql, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
-                                       final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
+                                       final ShardingMetaData metaData, final DatabaseType databaseType, 
+                                       final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
+        this(sql, null, shardingRule, shardingProperties, metaData, databaseType, parsingResultCache, routingResultCache);
+    }
+    
+    public PreparedQueryShardingEngine(final String sql, final SQLStatement sqlStatement, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
+                                       final ShardingMetaData metaData, final DatabaseType databaseType, 
+                                       final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
         super(shardingRule, shardingProperties, metaData, databaseType);
-        routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, databaseType, cache);
+        routingEngine = new PreparedStatementRoutingEngine(sql, sqlStatement, shardingRule, metaData, databaseType, parsingResultCache, routingResultCache);
     }
     
     @Override
@@ -59,4 +69,9 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(parameters);
     }
+    
+    @Override
+    protected SQLUnit convertSQLUnit(final SQLUnit sqlUnit) {
+        return sqlUnit;
+    }
 }
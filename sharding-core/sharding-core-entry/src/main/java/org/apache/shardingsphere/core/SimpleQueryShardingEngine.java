@@ -17,16 +17,26 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parse.normalize.NormalizedSQL;
+import org.apache.shardingsphere.core.parse.normalize.SQLLiteralNormalizer;
+import org.apache.shardingsphere.core.parse.normalize.SQLLiteralRestorer;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding engine for simple query.
@@ -44,19 +54,40 @@ public final class SimpleQueryShardingEngine extends BaseShardingEngine {
     
     private final StatementRoutingEngine routingEngine;
     
+    private final boolean literalNormalizeEnabled;
+    
+    private Map<Object, String> literalTexts = Collections.emptyMap();
+    
     public SimpleQueryShardingEngine(final ShardingRule shardingRule, 
-                                     final ShardingProperties shardingProperties, final ShardingMetaData metaData, final DatabaseType databaseType, final ParsingResultCache cache) {
+                                     final ShardingProperties shardingProperties, final ShardingMetaData metaData, final DatabaseType databaseType, 
+                                     final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
         super(shardingRule, shardingProperties, metaData, databaseType);
-        routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, cache);
+        routingEngine = new StatementRoutingEngine(shardingRule, metaData, databaseType, parsingResultCache, routingResultCache);
+        literalNormalizeEnabled = shardingProperties.getValue(ShardingPropertiesConstant.PARSING_LITERAL_NORMALIZE_ENABLED);
+    }
+    
+    @Override
+    public SQLRouteResult shard(final String sql, final List<Object> parameters) {
+        Optional<NormalizedSQL> normalizedSQL = literalNormalizeEnabled && !HintManager.isDatabaseShardingOnly() ? new SQLLiteralNormalizer(sql).normalize() : Optional.<NormalizedSQL>absent();
+        if (!normalizedSQL.isPresent()) {
+            return super.shard(sql, parameters);
+        }
+        literalTexts = normalizedSQL.get().getLiteralTexts();
+        return super.shard(normalizedSQL.get().getSql(), normalizedSQL.get().getParameters());
     }
     
     @Override
     protected List<Object> cloneParameters(final List<Object> parameters) {
-        return Collections.emptyList();
+        return parameters.isEmpty() ? Collections.emptyList() : new ArrayList<>(parameters);
     }
     
     @Override
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
-        return routingEngine.route(sql);
+        return parameters.isEmpty() ? routingEngine.route(sql) : routingEngine.route(sql, parameters);
+    }
+    
+    @Override
+    protected SQLUnit convertSQLUnit(final SQLUnit sqlUnit) {
+        return sqlUnit.getParameters().isEmpty() ? sqlUnit : new SQLUnit(SQLLiteralRestorer.restore(sqlUnit.getSql(), sqlUnit.getParameters(), literalTexts), Collections.emptyList());
     }
 }
@@ -19,19 +19,28 @@ package org.apache.shardingsphere.core;
 
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.StatementRoutingEngine;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -49,7 +58,8 @@ public final class SimpleQueryShardingEngineTest extends BaseShardingEngineTest
     
     @Before
     public void setUp() {
-        shardingEngine = new SimpleQueryShardingEngine(mock(ShardingRule.class), getShardingProperties(), mock(ShardingMetaData.class), DatabaseType.MySQL, new ParsingResultCache());
+        shardingEngine = new SimpleQueryShardingEngine(mock(ShardingRule.class), getShardingProperties(), 
+                mock(ShardingMetaData.class), DatabaseType.MySQL, new ParsingResultCache(), new RoutingResultCache());
         setRoutingEngine();
     }
     
@@ -66,4 +76,34 @@ public final class SimpleQueryShardingEngineTest extends BaseShardingEngineTest
         when(routingEngine.route(getSql())).thenReturn(sqlRouteResult);
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
+    
+    @Test
+    public void assertShardWithLiteralNormalized() {
+        assertShardWithLiteralNormalized("SELECT * FROM t_order WHERE order_id = 1", "SELECT * FROM t_order WHERE order_id = ?", 1);
+    }
+    
+    @Test
+    public void assertShardWithQuotedStringLiteralNormalized() {
+        assertShardWithLiteralNormalized("SELECT * FROM t_order WHERE status = 'O''Brien'", "SELECT * FROM t_order WHERE status = ?", "O'Brien");
+    }
+    
+    @Test
+    public void assertShardWithNumberLiteralTextNormalized() {
+        assertShardWithLiteralNormalized("SELECT * FROM t_order WHERE price = 1e3", "SELECT * FROM t_order WHERE price = ?", new BigDecimal("1e3"));
+    }
+    
+    private void assertShardWithLiteralNormalized(final String sql, final String normalizedSQL, final Object shardingValue) {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PARSING_LITERAL_NORMALIZE_ENABLED.getKey(), Boolean.TRUE.toString());
+        shardingEngine = new SimpleQueryShardingEngine(mock(ShardingRule.class), new ShardingProperties(props), 
+                mock(ShardingMetaData.class), DatabaseType.MySQL, new ParsingResultCache(), new RoutingResultCache());
+        setRoutingEngine();
+        SQLRouteResult sqlRouteResult = createSQLRouteResult();
+        sqlRouteResult.getSqlStatement().setLogicSQL(normalizedSQL);
+        when(routingEngine.route(normalizedSQL, Collections.singletonList(shardingValue))).thenReturn(sqlRouteResult);
+        SQLRouteResult actual = shardingEngine.shard(sql, Collections.emptyList());
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getSql(), is(sql));
+        assertTrue(actual.getRouteUnits().iterator().next().getSqlUnit().getParameters().isEmpty());
+    }
 }
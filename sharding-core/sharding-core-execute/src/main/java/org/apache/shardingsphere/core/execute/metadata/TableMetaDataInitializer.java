@@ -19,9 +19,12 @@ package org.apache.shardingsphere.core.execute.metadata;
 
 import com.google.common.base.Optional;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
@@ -30,16 +33,20 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Table meta data initializer.
  *
  * @author zhangliang
  */
+@Slf4j
 public final class TableMetaDataInitializer {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
@@ -67,6 +74,18 @@ public final class TableMetaDataInitializer {
         return tableMetaDataLoader.load(logicTableName, shardingRule);
     }
     
+    /**
+     * Load table meta data of logic tables in bulk.
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return table meta data map, key is logic table name
+     */
+    @SneakyThrows
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) {
+        return tableMetaDataLoader.load(logicTableNames, shardingRule);
+    }
+    
     /**
      * Load all table meta data.
      * 
@@ -75,27 +94,72 @@ public final class TableMetaDataInitializer {
      */
     @SneakyThrows
     public Map<String, TableMetaData> load(final ShardingRule shardingRule) {
-        Map<String, TableMetaData> result = new HashMap<>();
-        result.putAll(loadShardingTables(shardingRule));
-        result.putAll(loadDefaultTables(shardingRule));
-        return result;
+        return tableMetaDataLoader.load(getLogicTableNames(shardingRule), shardingRule);
     }
     
-    private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
-        for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+    /**
+     * Load all table meta data with snapshot.
+     * 
+     * <p>
+     * If snapshot matched, table meta data in snapshot will be returned directly and refreshed in background,
+     * tables modified during refreshing (such as by DDL) are kept instead of being overwritten by refreshed ones,
+     * otherwise table meta data will be loaded from databases and persisted into snapshot.
+     * </p>
+     *
+     * @param shardingRule sharding rule
+     * @param snapshot table meta data snapshot
+     * @return sharding table meta data
+     */
+    public ShardingTableMetaData load(final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) {
+        Optional<Map<String, TableMetaData>> snapshotTables = snapshot.load();
+        if (!snapshotTables.isPresent()) {
+            Map<String, TableMetaData> tables = load(shardingRule);
+            snapshot.persist(tables);
+            return new ShardingTableMetaData(tables);
         }
+        ShardingTableMetaData result = new ShardingTableMetaData(new ConcurrentHashMap<>(snapshotTables.get()));
+        refreshInBackground(result, shardingRule, snapshot);
         return result;
     }
     
-    private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+    private void refreshInBackground(final ShardingTableMetaData shardingTableMetaData, final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) {
+        ShardingThreadFactoryBuilder.build("TableMetaDataRefresh-%d").newThread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    refresh(shardingTableMetaData, shardingRule, snapshot);
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Cannot refresh table meta data of snapshot '{}'.", snapshot.getFile(), ex);
+                }
+            }
+        }).start();
+    }
+    
+    private void refresh(final ShardingTableMetaData shardingTableMetaData, final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) {
+        long version = shardingTableMetaData.getVersion();
+        Map<String, TableMetaData> tables = load(shardingRule);
+        for (String each : new ArrayList<>(shardingTableMetaData.getTables().keySet())) {
+            if (!tables.containsKey(each)) {
+                shardingTableMetaData.removeIfNotModified(each, version);
+            }
+        }
+        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+            shardingTableMetaData.putIfNotModified(entry.getKey(), entry.getValue(), version);
+        }
+        snapshot.persist(new HashMap<>(shardingTableMetaData.getTables()));
+    }
+    
+    private Collection<String> getLogicTableNames(final ShardingRule shardingRule) throws SQLException {
+        Collection<String> result = new LinkedHashSet<>();
+        for (TableRule each : shardingRule.getTableRules()) {
+            result.add(each.getLogicTable());
+        }
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
         if (actualDefaultDataSourceName.isPresent()) {
-            for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
-            }
+            result.addAll(getAllTableNames(actualDefaultDataSourceName.get()));
         }
         return result;
     }
@@ -34,13 +34,19 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 
 /**
  * Table meta data loader.
@@ -75,15 +81,154 @@ public final class TableMetaDataLoader {
         return actualTableMetaDataList.iterator().next();
     }
     
+    /**
+     * Load table meta data of logic tables in bulk.
+     * 
+     * <p>
+     * Tables and columns of all actual tables in one data source are fetched with one query each on one connection, data sources are loaded in parallel.
+     * Table names reported by database are matched with actual table names ignoring case if not matched exactly, such as upper case names of Oracle.
+     * Actual tables are loaded one by one if current schema of connection is unknown, or they are not found in current schema.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return table meta data map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        Map<String, Map<String, List<DataNode>>> dataNodeGroupsMap = new LinkedHashMap<>(logicTableNames.size(), 1);
+        Map<String, Collection<String>> actualTableNamesMap = new LinkedHashMap<>();
+        for (String each : logicTableNames) {
+            Map<String, List<DataNode>> dataNodeGroups = getDataNodeGroups(each, shardingRule);
+            dataNodeGroupsMap.put(each, dataNodeGroups);
+            for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
+                if (!actualTableNamesMap.containsKey(entry.getKey())) {
+                    actualTableNamesMap.put(entry.getKey(), new LinkedHashSet<String>());
+                }
+                for (DataNode dataNode : entry.getValue()) {
+                    actualTableNamesMap.get(entry.getKey()).add(dataNode.getTableName());
+                }
+            }
+        }
+        Map<String, Map<String, TableMetaData>> actualTableMetaDataMap = loadActualTableMetaData(actualTableNamesMap, shardingRule.getShardingDataSourceNames());
+        Map<String, TableMetaData> result = new LinkedHashMap<>(logicTableNames.size(), 1);
+        for (Entry<String, Map<String, List<DataNode>>> entry : dataNodeGroupsMap.entrySet()) {
+            List<TableMetaData> actualTableMetaDataList = new LinkedList<>();
+            for (List<DataNode> dataNodes : entry.getValue().values()) {
+                for (DataNode each : dataNodes) {
+                    actualTableMetaDataList.add(actualTableMetaDataMap.get(each.getDataSourceName()).get(each.getTableName()));
+                }
+            }
+            checkUniformed(entry.getKey(), actualTableMetaDataList);
+            result.put(entry.getKey(), actualTableMetaDataList.iterator().next());
+        }
+        return result;
+    }
+    
+    private Map<String, Map<String, TableMetaData>> loadActualTableMetaData(
+            final Map<String, Collection<String>> actualTableNamesMap, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
+        Collection<ShardingExecuteGroup<String>> executeGroups = new LinkedList<>();
+        for (String each : actualTableNamesMap.keySet()) {
+            executeGroups.add(new ShardingExecuteGroup<>(Collections.singletonList(each)));
+        }
+        List<Map<String, TableMetaData>> actualTableMetaDataList = executeEngine.groupExecute(executeGroups, new ShardingGroupExecuteCallback<String, Map<String, TableMetaData>>() {
+            
+            @Override
+            public Collection<Map<String, TableMetaData>> execute(
+                    final Collection<String> dataSourceNames, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                String dataSourceName = dataSourceNames.iterator().next();
+                return Collections.singletonList(
+                        loadActualTableMetaData(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), getCatalog(dataSourceName), actualTableNamesMap.get(dataSourceName)));
+            }
+        });
+        Map<String, Map<String, TableMetaData>> result = new HashMap<>(actualTableNamesMap.size(), 1);
+        Iterator<Map<String, TableMetaData>> actualTableMetaDataIterator = actualTableMetaDataList.iterator();
+        for (String each : actualTableNamesMap.keySet()) {
+            result.put(each, actualTableMetaDataIterator.next());
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> loadActualTableMetaData(final String dataSourceName, final String catalog, final Collection<String> actualTableNames) throws SQLException {
+        Map<String, TableMetaData> result = new HashMap<>(actualTableNames.size(), 1);
+        try (Connection connection = connectionManager.getConnection(dataSourceName)) {
+            String schema = getCurrentSchemaName(connection);
+            Map<String, String> existedTableNames = null == schema ? Collections.<String, String>emptyMap() : getExistedTableNames(connection, catalog, schema, actualTableNames);
+            Map<String, Map<String, String>> columnTypesMap = existedTableNames.isEmpty()
+                    ? Collections.<String, Map<String, String>>emptyMap() : getColumnTypesMap(connection, catalog, schema, existedTableNames.values());
+            for (String each : actualTableNames) {
+                String tableName = existedTableNames.get(each);
+                result.put(each, null != tableName && columnTypesMap.containsKey(tableName)
+                        ? new TableMetaData(getColumnMetaDataList(columnTypesMap.get(tableName), getPrimaryKeys(connection, catalog, tableName))) : load(connection, catalog, each));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, String> getExistedTableNames(final Connection connection, final String catalog, final String schema, final Collection<String> actualTableNames) throws SQLException {
+        Map<String, String> actualTableNamesIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : actualTableNames) {
+            actualTableNamesIgnoreCase.put(each, each);
+        }
+        Map<String, String> result = new HashMap<>(actualTableNames.size(), 1);
+        try (ResultSet resultSet = connection.getMetaData().getTables(catalog, schema, null, null)) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString("TABLE_NAME");
+                if (actualTableNames.contains(tableName)) {
+                    result.put(tableName, tableName);
+                } else if (actualTableNamesIgnoreCase.containsKey(tableName) && !result.containsKey(actualTableNamesIgnoreCase.get(tableName))) {
+                    result.put(actualTableNamesIgnoreCase.get(tableName), tableName);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Map<String, String>> getColumnTypesMap(final Connection connection, final String catalog, final String schema, final Collection<String> actualTableNames) throws SQLException {
+        Map<String, Map<String, String>> result = new HashMap<>(actualTableNames.size(), 1);
+        try (ResultSet resultSet = connection.getMetaData().getColumns(catalog, schema, "%", "%")) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString("TABLE_NAME");
+                if (!actualTableNames.contains(tableName)) {
+                    continue;
+                }
+                if (!result.containsKey(tableName)) {
+                    result.put(tableName, new LinkedHashMap<String, String>());
+                }
+                result.get(tableName).put(resultSet.getString("COLUMN_NAME"), resultSet.getString("TYPE_NAME"));
+            }
+        }
+        return result;
+    }
+    
+    private List<ColumnMetaData> getColumnMetaDataList(final Map<String, String> columnTypes, final Collection<String> primaryKeys) {
+        List<ColumnMetaData> result = new LinkedList<>();
+        for (Entry<String, String> entry : columnTypes.entrySet()) {
+            result.add(new ColumnMetaData(entry.getKey(), entry.getValue(), primaryKeys.contains(entry.getKey())));
+        }
+        return result;
+    }
+    
+    private String getCurrentSchemaName(final Connection connection) throws SQLException {
+        try {
+            return connection.getSchema();
+        } catch (final AbstractMethodError | SQLFeatureNotSupportedException ignore) {
+            return null;
+        }
+    }
+    
+    private String getCatalog(final String dataSourceName) {
+        DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
+        return null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
+    }
+    
     private List<TableMetaData> load(final Map<String, List<DataNode>> dataNodeGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
         return executeEngine.groupExecute(getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, TableMetaData>() {
             
             @Override
             public Collection<TableMetaData> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
                 String dataSourceName = dataNodes.iterator().next().getDataSourceName();
-                DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
-                String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
-                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes);
+                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), getCatalog(dataSourceName), dataNodes);
             }
         });
     }
@@ -92,13 +237,16 @@ public final class TableMetaDataLoader {
         Collection<TableMetaData> result = new LinkedList<>();
         try (Connection connection = connectionManager.getConnection(dataSourceName)) {
             for (DataNode each : dataNodes) {
-                result.add(new TableMetaData(
-                        isTableExist(connection, catalog, each.getTableName()) ? getColumnMetaDataList(connection, catalog, each.getTableName()) : Collections.<ColumnMetaData>emptyList()));
+                result.add(load(connection, catalog, each.getTableName()));
             }
         }
         return result;
     }
     
+    private TableMetaData load(final Connection connection, final String catalog, final String actualTableName) throws SQLException {
+        return new TableMetaData(isTableExist(connection, catalog, actualTableName) ? getColumnMetaDataList(connection, catalog, actualTableName) : Collections.<ColumnMetaData>emptyList());
+    }
+    
     private Map<String, List<DataNode>> getDataNodeGroups(final String logicTableName, final ShardingRule shardingRule) {
         Map<String, List<DataNode>> result = shardingRule.getTableRule(logicTableName).getDataNodeGroups();
         if (isCheckingMetaData) {
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlTableMetaData;
+import org.apache.shardingsphere.core.yaml.config.metadata.YamlTableMetaDataSnapshot;
+import org.apache.shardingsphere.core.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.core.yaml.swapper.impl.TableMetaDataYamlSwapper;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Table meta data snapshot persisted in local disk.
+ * 
+ * <p>
+ * Snapshot file is named by fingerprint of sharding rule and data source URLs, 
+ * so snapshot will not be used after rule or data sources changed.
+ * </p>
+ */
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final int VERSION = 1;
+    
+    private final TableMetaDataYamlSwapper swapper = new TableMetaDataYamlSwapper();
+    
+    @Getter
+    private final String fingerprint;
+    
+    @Getter
+    private final File file;
+    
+    public TableMetaDataSnapshot(final String directory, final ShardingRule shardingRule, final Map<String, String> dataSourceURLs) {
+        fingerprint = createFingerprint(shardingRule, dataSourceURLs);
+        file = new File(directory, String.format("table-metadata-%s.yaml", fingerprint));
+    }
+    
+    private String createFingerprint(final ShardingRule shardingRule, final Map<String, String> dataSourceURLs) {
+        StringBuilder result = new StringBuilder();
+        result.append(VERSION).append('\n');
+        for (TableRule each : shardingRule.getTableRules()) {
+            result.append(each.getLogicTable()).append(':');
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.append(dataNode.getDataSourceName()).append('.').append(dataNode.getTableName()).append(',');
+            }
+            result.append('\n');
+        }
+        result.append(shardingRule.getBroadcastTables()).append('\n');
+        result.append(shardingRule.getShardingDataSourceNames().getDefaultDataSourceName()).append('\n');
+        for (Entry<String, String> entry : new TreeMap<>(dataSourceURLs).entrySet()) {
+            result.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        return Hashing.md5().hashString(result, Charsets.UTF_8).toString();
+    }
+    
+    /**
+     * Load table meta data from snapshot.
+     * 
+     * @return table meta data map, absent if snapshot not exist or not matched
+     */
+    public Optional<Map<String, TableMetaData>> load() {
+        if (!file.isFile()) {
+            return Optional.absent();
+        }
+        YamlTableMetaDataSnapshot yamlSnapshot;
+        try {
+            yamlSnapshot = YamlEngine.unmarshal(file, YamlTableMetaDataSnapshot.class);
+        } catch (final IOException | YAMLException ex) {
+            log.warn("Cannot read table meta data snapshot '{}'.", file, ex);
+            return Optional.absent();
+        }
+        if (null == yamlSnapshot || VERSION != yamlSnapshot.getVersion() || !fingerprint.equals(yamlSnapshot.getFingerprint())) {
+            return Optional.absent();
+        }
+        Map<String, TableMetaData> result = new LinkedHashMap<>(yamlSnapshot.getTables().size(), 1);
+        for (Entry<String, YamlTableMetaData> entry : yamlSnapshot.getTables().entrySet()) {
+            result.put(entry.getKey(), swapper.swap(entry.getValue()));
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Persist table meta data into snapshot.
+     * 
+     * <p>
+     * Snapshot is replaced atomically, failure of persisting will be logged and ignored.
+     * </p>
+     * 
+     * @param tables table meta data map
+     */
+    public void persist(final Map<String, TableMetaData> tables) {
+        YamlTableMetaDataSnapshot yamlSnapshot = new YamlTableMetaDataSnapshot();
+        yamlSnapshot.setVersion(VERSION);
+        yamlSnapshot.setFingerprint(fingerprint);
+        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+            yamlSnapshot.getTables().put(entry.getKey(), swapper.swap(entry.getValue()));
+        }
+        File tempFile = null;
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            tempFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+            Files.write(tempFile.toPath(), YamlEngine.marshal(yamlSnapshot).getBytes(Charsets.UTF_8));
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Cannot write table meta data snapshot '{}'.", file, ex);
+        } finally {
+            if (null != tempFile) {
+                tempFile.delete();
+            }
+        }
+    }
+}
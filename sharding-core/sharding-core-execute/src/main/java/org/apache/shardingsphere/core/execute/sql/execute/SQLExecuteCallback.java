@@ -34,6 +34,7 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Statement execute callback interface.
@@ -50,6 +51,8 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     
     private final boolean isExceptionThrown;
     
+    private final Map<String, DataSourceMetaData> cachedDataSourceMetaDataMap = new ConcurrentHashMap<>();
+    
     @Override
     public final Collection<T> execute(final Collection<StatementExecuteUnit> statementExecuteUnits, final boolean isTrunkThread,
                                        final Map<String, Object> shardingExecuteDataMap) throws SQLException {
@@ -62,7 +65,7 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = DataSourceMetaDataFactory.newInstance(databaseType, statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
+        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit);
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
@@ -76,5 +79,15 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
         }
     }
     
+    private DataSourceMetaData getDataSourceMetaData(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+        String dataSourceName = statementExecuteUnit.getRouteUnit().getDataSourceName();
+        DataSourceMetaData result = cachedDataSourceMetaDataMap.get(dataSourceName);
+        if (null == result) {
+            result = DataSourceMetaDataFactory.newInstance(databaseType, statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
+            cachedDataSourceMetaDataMap.put(dataSourceName, result);
+        }
+        return result;
+    }
+    
     protected abstract T executeSQL(RouteUnit routeUnit, Statement statement, ConnectionMode connectionMode) throws SQLException;
 }
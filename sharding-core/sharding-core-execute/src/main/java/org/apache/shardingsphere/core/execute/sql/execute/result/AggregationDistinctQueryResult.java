@@ -30,6 +30,7 @@ import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -80,6 +81,11 @@ public final class AggregationDistinctQueryResult extends DistinctQueryResult {
         }));
     }
     
+    @Override
+    public DistinctQueryResult sort(final Comparator<QueryRow> comparator) {
+        return new AggregationDistinctQueryResult(getColumnLabelAndIndexMap(), getSortedResultData(comparator), metaData);
+    }
+    
     private Object getValue(final int columnIndex) {
         if (metaData.isAggregationDistinctColumnIndex(columnIndex)) {
             return AggregationType.COUNT == metaData.getAggregationType(columnIndex) ? 1 : super.getValue(columnIndex, Object.class);
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar result data for memory loading.
+ * 
+ * <p>
+ * Rows are buffered column-wise to avoid boxing values of every row.
+ * Integral and boolean values are buffered in long arrays, floating values are buffered in double arrays, 
+ * string values are dictionary encoded, and nulls are marked by bitmaps.
+ * Values are boxed into same types as {@code QueryResultUtil} when read.
+ * </p>
+ */
+public final class ColumnarResultData {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final Column[] columns;
+    
+    @Getter
+    private int rowCount;
+    
+    public ColumnarResultData(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        columns = new Column[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = createColumn(metaData.getColumnType(i + 1));
+        }
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].append(resultSet, i + 1, rowCount);
+            }
+            rowCount++;
+        }
+        for (Column each : columns) {
+            each.trim(rowCount);
+        }
+    }
+    
+    private Column createColumn(final int columnType) {
+        switch (columnType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongColumn(columnType);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringColumn();
+            default:
+                return new ObjectColumn();
+        }
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value, {@code null} if the value is SQL {@code NULL}
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        Preconditions.checkElementIndex(rowIndex, rowCount);
+        Column column = columns[columnIndex - 1];
+        return column.isNull(rowIndex) ? null : column.getValue(rowIndex);
+    }
+    
+    private abstract static class Column {
+        
+        private final BitSet nulls = new BitSet();
+        
+        final void append(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+            ensureCapacity(rowIndex + 1);
+            appendValue(resultSet, columnIndex, rowIndex);
+            if (resultSet.wasNull()) {
+                nulls.set(rowIndex);
+            }
+        }
+        
+        final boolean isNull(final int rowIndex) {
+            return nulls.get(rowIndex);
+        }
+        
+        final int getNewCapacity(final int currentCapacity, final int minCapacity) {
+            return Math.max(minCapacity, Math.max(INITIAL_CAPACITY, currentCapacity + (currentCapacity >> 1)));
+        }
+        
+        abstract void ensureCapacity(int minCapacity);
+        
+        abstract void appendValue(ResultSet resultSet, int columnIndex, int rowIndex) throws SQLException;
+        
+        abstract Object getValue(int rowIndex);
+        
+        abstract void trim(int rowCount);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LongColumn extends Column {
+        
+        private final int columnType;
+        
+        private long[] values = new long[0];
+        
+        @Override
+        void ensureCapacity(final int minCapacity) {
+            if (minCapacity > values.length) {
+                values = Arrays.copyOf(values, getNewCapacity(values.length, minCapacity));
+            }
+        }
+        
+        @Override
+        void appendValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+            switch (columnType) {
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    values[rowIndex] = resultSet.getBoolean(columnIndex) ? 1L : 0L;
+                    break;
+                case Types.TINYINT:
+                    values[rowIndex] = resultSet.getByte(columnIndex);
+                    break;
+                case Types.SMALLINT:
+                    values[rowIndex] = resultSet.getShort(columnIndex);
+                    break;
+                case Types.INTEGER:
+                    values[rowIndex] = resultSet.getInt(columnIndex);
+                    break;
+                default:
+                    values[rowIndex] = resultSet.getLong(columnIndex);
+                    break;
+            }
+        }
+        
+        @Override
+        Object getValue(final int rowIndex) {
+            long result = values[rowIndex];
+            switch (columnType) {
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    return 0L != result;
+                case Types.TINYINT:
+                    return (byte) result;
+                case Types.SMALLINT:
+                    return (short) result;
+                case Types.INTEGER:
+                    return (int) result;
+                default:
+                    return result;
+            }
+        }
+        
+        @Override
+        void trim(final int rowCount) {
+            values = Arrays.copyOf(values, rowCount);
+        }
+    }
+    
+    private static final class DoubleColumn extends Column {
+        
+        private double[] values = new double[0];
+        
+        @Override
+        void ensureCapacity(final int minCapacity) {
+            if (minCapacity > values.length) {
+                values = Arrays.copyOf(values, getNewCapacity(values.length, minCapacity));
+            }
+        }
+        
+        @Override
+        void appendValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+            values[rowIndex] = resultSet.getDouble(columnIndex);
+        }
+        
+        @Override
+        Object getValue(final int rowIndex) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        void trim(final int rowCount) {
+            values = Arrays.copyOf(values, rowCount);
+        }
+    }
+    
+    private static final class StringColumn extends Column {
+        
+        private final List<String> dictionary = new ArrayList<>();
+        
+        private Map<String, Integer> dictionaryIndexes = new HashMap<>();
+        
+        private int[] codes = new int[0];
+        
+        @Override
+        void ensureCapacity(final int minCapacity) {
+            if (minCapacity > codes.length) {
+                codes = Arrays.copyOf(codes, getNewCapacity(codes.length, minCapacity));
+            }
+        }
+        
+        @Override
+        void appendValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+            String value = resultSet.getString(columnIndex);
+            if (null == value) {
+                return;
+            }
+            Integer code = dictionaryIndexes.get(value);
+            if (null == code) {
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryIndexes.put(value, code);
+            }
+            codes[rowIndex] = code;
+        }
+        
+        @Override
+        Object getValue(final int rowIndex) {
+            return dictionary.get(codes[rowIndex]);
+        }
+        
+        @Override
+        void trim(final int rowCount) {
+            codes = Arrays.copyOf(codes, rowCount);
+            dictionaryIndexes = null;
+        }
+    }
+    
+    private static final class ObjectColumn extends Column {
+        
+        private Object[] values = new Object[0];
+        
+        @Override
+        void ensureCapacity(final int minCapacity) {
+            if (minCapacity > values.length) {
+                values = Arrays.copyOf(values, getNewCapacity(values.length, minCapacity));
+            }
+        }
+        
+        @Override
+        void appendValue(final ResultSet resultSet, final int columnIndex, final int rowIndex) throws SQLException {
+            values[rowIndex] = QueryResultUtil.getValueByColumnType(resultSet, columnIndex);
+        }
+        
+        @Override
+        Object getValue(final int rowIndex) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        void trim(final int rowCount) {
+            values = Arrays.copyOf(values, rowCount);
+        }
+    }
+}
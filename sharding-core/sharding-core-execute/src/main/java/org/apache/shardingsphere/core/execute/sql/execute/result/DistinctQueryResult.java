@@ -36,6 +36,8 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -116,6 +118,22 @@ public class DistinctQueryResult implements QueryResult {
         }));
     }
     
+    /**
+     * Sort rows of distinct query result.
+     *
+     * @param comparator comparator of rows
+     * @return sorted distinct query result
+     */
+    public DistinctQueryResult sort(final Comparator<QueryRow> comparator) {
+        return new DistinctQueryResult(columnLabelAndIndexMap, getSortedResultData(comparator));
+    }
+    
+    protected final Iterator<QueryRow> getSortedResultData(final Comparator<QueryRow> comparator) {
+        List<QueryRow> result = Lists.newArrayList(resultData);
+        Collections.sort(result, comparator);
+        return result.iterator();
+    }
+    
     @Override
     public final boolean next() {
         if (resultData.hasNext()) {
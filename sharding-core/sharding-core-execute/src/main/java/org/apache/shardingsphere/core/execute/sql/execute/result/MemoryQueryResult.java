@@ -19,7 +19,6 @@ package org.apache.shardingsphere.core.execute.sql.execute.result;
 
 import com.google.common.base.Optional;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorEngine;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
@@ -29,12 +28,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
@@ -44,75 +38,68 @@ import java.util.List;
  */
 public final class MemoryQueryResult implements QueryResult {
     
-    private final Iterator<QueryRow> resultData;
+    private final ColumnarResultData resultData;
     
-    private QueryRow currentRow;
+    private int currentRowIndex = -1;
     
     private final QueryResultMetaData metaData;
     
     @SneakyThrows 
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final ShardingEncryptorEngine shardingEncryptorEngine) {
-        resultData = getResultData(resultSet);
+        resultData = new ColumnarResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule, shardingEncryptorEngine);
     }
     
     @SneakyThrows
     public MemoryQueryResult(final ResultSet resultSet) {
-        resultData = getResultData(resultSet);
+        resultData = new ColumnarResultData(resultSet);
         metaData = new QueryResultMetaData(resultSet.getMetaData());
     }
-        
-    @SneakyThrows
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) {
-        Collection<QueryRow> result = new LinkedList<>();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(QueryResultUtil.getValue(resultSet, columnIndex));
-            }
-            result.add(new QueryRow(rowData));
-        }
-        return result.iterator();
-    }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
-            return true;
+        if (currentRowIndex < resultData.getRowCount()) {
+            currentRowIndex++;
         }
-        currentRow = null;
-        return false;
+        return hasCurrentRow();
+    }
+    
+    private boolean hasCurrentRow() {
+        return currentRowIndex >= 0 && currentRowIndex < resultData.getRowCount();
+    }
+    
+    private Object getColumnValue(final int columnIndex) {
+        return resultData.getValue(currentRowIndex, columnIndex);
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return decrypt(columnIndex, currentRow.getColumnValue(columnIndex));
+        return decrypt(columnIndex, getColumnValue(columnIndex));
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return decrypt(columnLabel, currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return decrypt(columnLabel, getColumnValue(metaData.getColumnIndex(columnLabel)));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(columnIndex);
+        return getColumnValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(metaData.getColumnIndex(columnLabel));
+        return getColumnValue(metaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getColumnValue(columnIndex));
+        return getInputStream(getColumnValue(columnIndex));
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return getInputStream(currentRow.getColumnValue(metaData.getColumnIndex(columnLabel)));
+        return getInputStream(getColumnValue(metaData.getColumnIndex(columnLabel)));
     }
     
     @SneakyThrows
@@ -127,7 +114,7 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return !hasCurrentRow();
     }
     
     @Override
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -44,6 +45,8 @@ public final class QueryResultMetaData {
     
     private final ShardingEncryptorEngine shardingEncryptorEngine;
     
+    private final Map<Integer, Optional<ShardingEncryptor>> shardingEncryptors = new HashMap<>();
+    
     @SneakyThrows 
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData, final ShardingRule shardingRule, final ShardingEncryptorEngine shardingEncryptorEngine) {
         columnLabelAndIndexes = getColumnLabelAndIndexMap(resultSetMetaData);
@@ -111,12 +114,21 @@ public final class QueryResultMetaData {
     /**
      * Get sharding encryptor.
      * 
+     * <p>
+     * Sharding encryptor is resolved once per column and reused for every row.
+     * </p>
+     * 
      * @param columnIndex column index
      * @return sharding encryptor optional
      */
     @SneakyThrows
     public Optional<ShardingEncryptor> getShardingEncryptor(final int columnIndex) {
-        return shardingEncryptorEngine.getShardingEncryptor(getTableName(columnIndex), resultSetMetaData.getColumnName(columnIndex));
+        Optional<ShardingEncryptor> result = shardingEncryptors.get(columnIndex);
+        if (null == result) {
+            result = shardingEncryptorEngine.getShardingEncryptor(getTableName(columnIndex), resultSetMetaData.getColumnName(columnIndex));
+            shardingEncryptors.put(columnIndex, result);
+        }
+        return result;
     }
     
     private String getTableName(final int columnIndex) throws SQLException {
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.execute;
 
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHookTest;
 import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHookTest;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshotTest;
 import org.apache.shardingsphere.core.execute.sql.execute.AllExecuteTests;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplateTest;
 import org.apache.shardingsphere.core.execute.threadlocal.ExecutorExceptionHandlerTest;
@@ -33,6 +34,7 @@ import org.junit.runners.Suite.SuiteClasses;
         ShardingExecuteEngineTest.class, 
         SPIRootInvokeHookTest.class, 
         SPISQLExecutionHookTest.class, 
+        TableMetaDataSnapshotTest.class, 
         AllExecuteTests.class
 })
 public final class AllExecutorTests {
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataSnapshotTest {
+    
+    private File directory;
+    
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("table-metadata-snapshot").toFile();
+    }
+    
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (null != files) {
+            for (File each : files) {
+                each.delete();
+            }
+        }
+        directory.delete();
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshotFile() {
+        assertFalse(new TableMetaDataSnapshot(directory.getPath(), createShardingRule("ds_${0..1}.t_order"), createDataSourceURLs()).load().isPresent());
+    }
+    
+    @Test
+    public void assertPersistAndLoad() {
+        Map<String, TableMetaData> tables = new LinkedHashMap<>(2, 1);
+        tables.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false))));
+        tables.put("t_empty", new TableMetaData(Collections.<ColumnMetaData>emptyList()));
+        new TableMetaDataSnapshot(directory.getPath(), createShardingRule("ds_${0..1}.t_order"), createDataSourceURLs()).persist(tables);
+        Optional<Map<String, TableMetaData>> actual = new TableMetaDataSnapshot(directory.getPath(), createShardingRule("ds_${0..1}.t_order"), createDataSourceURLs()).load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(tables));
+    }
+    
+    @Test
+    public void assertLoadWithChangedRule() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(directory.getPath(), createShardingRule("ds_${0..1}.t_order"), createDataSourceURLs());
+        snapshot.persist(Collections.singletonMap("t_order", new TableMetaData(Collections.singletonList(new ColumnMetaData("order_id", "int", true)))));
+        TableMetaDataSnapshot changedSnapshot = new TableMetaDataSnapshot(directory.getPath(), createShardingRule("ds_0.t_order"), createDataSourceURLs());
+        assertThat(changedSnapshot.getFingerprint(), not(snapshot.getFingerprint()));
+        assertFalse(changedSnapshot.load().isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithCorruptedSnapshotFile() throws IOException {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(directory.getPath(), createShardingRule("ds_${0..1}.t_order"), createDataSourceURLs());
+        Files.write(snapshot.getFile().toPath(), "tables: [".getBytes("UTF-8"));
+        assertFalse(snapshot.load().isPresent());
+    }
+    
+    private ShardingRule createShardingRule(final String actualDataNodes) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", actualDataNodes));
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private Map<String, String> createDataSourceURLs() {
+        Map<String, String> result = new LinkedHashMap<>(2, 1);
+        result.put("ds_0", "jdbc:mysql://127.0.0.1:3306/ds_0");
+        result.put("ds_1", "jdbc:mysql://127.0.0.1:3306/ds_1");
+        return result;
+    }
+}
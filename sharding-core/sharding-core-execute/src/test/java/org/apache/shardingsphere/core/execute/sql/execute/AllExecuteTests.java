@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.execute.sql.execute;
 
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryMetaDataTest;
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResultTest;
+import org.apache.shardingsphere.core.execute.sql.execute.result.ColumnarResultDataTest;
 import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResultTest;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaDataTest;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultUtilTest;
@@ -33,6 +34,7 @@ import org.junit.runners.Suite.SuiteClasses;
         AggregationDistinctQueryMetaDataTest.class,
         AggregationDistinctQueryResultTest.class,
         DistinctQueryResultTest.class,
+        ColumnarResultDataTest.class,
         QueryResultMetaDataTest.class,
         QueryResultUtilTest.class
 })
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ColumnarResultDataTest {
+    
+    @Test
+    public void assertGetValue() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.INTEGER, Types.BIGINT, Types.BOOLEAN, Types.DOUBLE, Types.VARCHAR, Types.DECIMAL);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 0, 3);
+        when(resultSet.getLong(2)).thenReturn(10L, 20L, 30L);
+        when(resultSet.getBoolean(3)).thenReturn(true, false, true);
+        when(resultSet.getDouble(4)).thenReturn(1.5D, 2.5D, 3.5D);
+        when(resultSet.getString(5)).thenReturn("foo", "bar", "foo");
+        when(resultSet.getBigDecimal(6)).thenReturn(new BigDecimal("1.1"), new BigDecimal("2.2"), null);
+        when(resultSet.wasNull()).thenReturn(false, false, false, false, false, false, true, false, false, false, false, false, false, false, false, false, false, true);
+        ColumnarResultData actual = new ColumnarResultData(resultSet);
+        assertThat(actual.getRowCount(), is(3));
+        assertThat(actual.getValue(0, 1), is((Object) 1));
+        assertThat(actual.getValue(0, 2), is((Object) 10L));
+        assertThat(actual.getValue(0, 3), is((Object) true));
+        assertThat(actual.getValue(0, 4), is((Object) 1.5D));
+        assertThat(actual.getValue(0, 5), is((Object) "foo"));
+        assertThat(actual.getValue(0, 6), is((Object) new BigDecimal("1.1")));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(1, 3), is((Object) false));
+        assertThat(actual.getValue(1, 5), is((Object) "bar"));
+        assertThat(actual.getValue(2, 5), is((Object) "foo"));
+        assertNull(actual.getValue(2, 6));
+    }
+    
+    @Test
+    public void assertGetValueForEmptyResultSet() throws SQLException {
+        ColumnarResultData actual = new ColumnarResultData(mockResultSet(Types.TINYINT, Types.SMALLINT));
+        assertThat(actual.getRowCount(), is(0));
+    }
+    
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void assertGetValueWithOutOfRangeRowIndex() throws SQLException {
+        new ColumnarResultData(mockResultSet(Types.INTEGER)).getValue(0, 1);
+    }
+    
+    private ResultSet mockResultSet(final int... columnTypes) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(metaData.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+        }
+        return result;
+    }
+}
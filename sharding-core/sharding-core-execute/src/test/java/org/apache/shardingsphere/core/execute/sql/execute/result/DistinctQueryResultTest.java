@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.execute.sql.execute.result;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -31,6 +32,7 @@ import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -74,6 +76,22 @@ public class DistinctQueryResultTest {
         assertThat(actual.iterator().next().getColumnCount(), is((Object) 1));
     }
     
+    @Test
+    public void assertSort() {
+        DistinctQueryResult actual = distinctQueryResult.sort(new Comparator<QueryRow>() {
+            
+            @Override
+            public int compare(final QueryRow o1, final QueryRow o2) {
+                return ((Integer) o2.getColumnValue(1)).compareTo((Integer) o1.getColumnValue(1));
+            }
+        });
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 20));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 10));
+        assertFalse(actual.next());
+    }
+    
     @Test
     public void assertNext() {
         assertTrue(distinctQueryResult.next());
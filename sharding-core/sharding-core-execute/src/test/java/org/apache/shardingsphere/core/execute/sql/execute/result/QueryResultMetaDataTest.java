@@ -35,6 +35,8 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class QueryResultMetaDataTest {
@@ -43,6 +45,8 @@ public class QueryResultMetaDataTest {
     
     private ShardingEncryptor shardingEncryptor;
     
+    private ShardingEncryptorEngine shardingEncryptorEngine;
+    
     @Before
     @SneakyThrows
     public void setUp() {
@@ -54,7 +58,7 @@ public class QueryResultMetaDataTest {
     @SuppressWarnings("unchecked")
     private ShardingRule getShardingRule() {
         shardingEncryptor = mock(ShardingEncryptor.class);
-        ShardingEncryptorEngine shardingEncryptorEngine = mock(ShardingEncryptorEngine.class);
+        shardingEncryptorEngine = mock(ShardingEncryptorEngine.class);
         when(shardingEncryptorEngine.getShardingEncryptor(anyString(), anyString())).thenReturn(Optional.of(shardingEncryptor));
         ShardingRule result = mock(ShardingRule.class);
         when(result.getShardingEncryptorEngine()).thenReturn(shardingEncryptorEngine);
@@ -96,4 +100,11 @@ public class QueryResultMetaDataTest {
     public void assertGetShardingEncryptor() {
         assertThat(queryResultMetaData.getShardingEncryptor(1).get(), is(shardingEncryptor));
     }
+    
+    @Test
+    public void assertGetShardingEncryptorResolvedOnce() {
+        queryResultMetaData.getShardingEncryptor(1);
+        assertThat(queryResultMetaData.getShardingEncryptor(1).get(), is(shardingEncryptor));
+        verify(shardingEncryptorEngine, times(1)).getShardingEncryptor("table", "column");
+    }
 }
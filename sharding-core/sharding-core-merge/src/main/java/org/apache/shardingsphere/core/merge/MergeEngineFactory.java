@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core.merge;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
@@ -46,16 +48,17 @@ public final class MergeEngineFactory {
      *
      * @param databaseType database type
      * @param shardingRule sharding rule
+     * @param shardingProperties sharding properties
      * @param routeResult SQL route result
      * @param shardingTableMetaData sharding table meta Data
      * @param queryResults query results
      * @return merge engine instance
      * @throws SQLException SQL exception
      */
-    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final ShardingProperties shardingProperties,
                                           final SQLRouteResult routeResult, final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults) throws SQLException {
         if (routeResult.getSqlStatement() instanceof SelectStatement) {
-            return new DQLMergeEngine(databaseType, routeResult, queryResults);
+            return new DQLMergeEngine(databaseType, routeResult, queryResults, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.GROUP_BY_MAX_MEMORY_ROWS));
         } 
         if (routeResult.getSqlStatement() instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) routeResult.getSqlStatement(), shardingTableMetaData);
@@ -17,8 +17,7 @@
 
 package org.apache.shardingsphere.core.merge.dql;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Lists;
+import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResult;
@@ -26,6 +25,8 @@ import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryRe
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctDecoratorMergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.QueryRowComparator;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
@@ -34,14 +35,18 @@ import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedR
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.parse.sql.context.limit.Limit;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 /**
@@ -60,43 +65,22 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final List<QueryResult> queryResults;
     
+    private final int groupByMaxMemoryRows;
+    
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, routeResult, queryResults, 0);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults, final int groupByMaxMemoryRows) throws SQLException {
         this.databaseType = databaseType;
         this.routeResult = routeResult;
         this.selectStatement = (SelectStatement) routeResult.getSqlStatement();
-        this.queryResults = getRealQueryResults(queryResults);
-        columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
-    }
-    
-    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) {
-        List<QueryResult> result = queryResults;
-        if (1 == result.size()) {
-            return result;
-        }
-        if (!selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
-            result = getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, selectStatement.getAggregationDistinctSelectItems()));
-        }
-        if (isNeedProcessDistinctSelectItem()) {
-            result = getDividedQueryResults(new DistinctQueryResult(queryResults, new ArrayList<>(selectStatement.getDistinctSelectItem().get().getDistinctColumnLabels())));
-        }
-        return result.isEmpty() ? queryResults : result;
-    }
-    
-    private List<QueryResult> getDividedQueryResults(final DistinctQueryResult distinctQueryResult) {
-        return Lists.transform(distinctQueryResult.divide(), new Function<DistinctQueryResult, QueryResult>() {
-            
-            @Override
-            public QueryResult apply(final DistinctQueryResult input) {
-                return input;
-            }
-        });
-    }
-    
-    private boolean isNeedProcessDistinctSelectItem() {
-        return selectStatement.getDistinctSelectItem().isPresent() && selectStatement.getGroupByItems().isEmpty();
+        this.queryResults = queryResults;
+        this.groupByMaxMemoryRows = groupByMaxMemoryRows;
+        columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
     }
     
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
@@ -117,20 +101,72 @@ public final class DQLMergeEngine implements MergeEngine {
     }
     
     private MergedResult build() throws SQLException {
+        Optional<List<Integer>> streamingDistinctColumnIndexes = getStreamingDistinctColumnIndexes();
+        if (streamingDistinctColumnIndexes.isPresent()) {
+            return new DistinctDecoratorMergedResult(new OrderByStreamMergedResult(queryResults, selectStatement.getOrderByItems()), streamingDistinctColumnIndexes.get());
+        }
+        List<QueryResult> realQueryResults = getRealQueryResults();
         if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
-            return getGroupByMergedResult();
+            return getGroupByMergedResult(realQueryResults);
         }
         if (!selectStatement.getOrderByItems().isEmpty()) {
-            return new OrderByStreamMergedResult(queryResults, selectStatement.getOrderByItems());
+            return new OrderByStreamMergedResult(realQueryResults, selectStatement.getOrderByItems());
+        }
+        return new IteratorStreamMergedResult(realQueryResults);
+    }
+    
+    private Optional<List<Integer>> getStreamingDistinctColumnIndexes() {
+        if (!isNeedProcessDistinctSelectItem() || !selectStatement.getAggregationDistinctSelectItems().isEmpty()
+                || !selectStatement.getAggregationSelectItems().isEmpty() || selectStatement.getOrderByItems().isEmpty()) {
+            return Optional.absent();
         }
-        return new IteratorStreamMergedResult(queryResults);
+        List<Integer> result = new ArrayList<>();
+        for (String each : selectStatement.getDistinctSelectItem().get().getDistinctColumnLabels()) {
+            Integer columnIndex = columnLabelIndexMap.get(SQLUtil.getExactlyValue(each));
+            if (null == columnIndex) {
+                return Optional.absent();
+            }
+            result.add(columnIndex);
+        }
+        return getOrderByColumnIndexes().equals(new HashSet<>(result)) ? Optional.of(result) : Optional.<List<Integer>>absent();
+    }
+    
+    private Set<Integer> getOrderByColumnIndexes() {
+        Set<Integer> result = new HashSet<>(selectStatement.getOrderByItems().size(), 1);
+        for (OrderByItemSegment each : selectStatement.getOrderByItems()) {
+            result.add(each.getIndex());
+        }
+        return result;
+    }
+    
+    private List<QueryResult> getRealQueryResults() {
+        List<QueryResult> result = queryResults;
+        if (1 == result.size()) {
+            return result;
+        }
+        if (!selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
+            result = getSortedQueryResults(new AggregationDistinctQueryResult(queryResults, selectStatement.getAggregationDistinctSelectItems()));
+        }
+        if (isNeedProcessDistinctSelectItem()) {
+            result = getSortedQueryResults(new DistinctQueryResult(queryResults, new ArrayList<>(selectStatement.getDistinctSelectItem().get().getDistinctColumnLabels())));
+        }
+        return result;
+    }
+    
+    private List<QueryResult> getSortedQueryResults(final DistinctQueryResult distinctQueryResult) {
+        return Collections.<QueryResult>singletonList(
+                selectStatement.getOrderByItems().isEmpty() ? distinctQueryResult : distinctQueryResult.sort(new QueryRowComparator(selectStatement.getOrderByItems())));
+    }
+    
+    private boolean isNeedProcessDistinctSelectItem() {
+        return selectStatement.getDistinctSelectItem().isPresent() && selectStatement.getGroupByItems().isEmpty();
     }
     
-    private MergedResult getGroupByMergedResult() throws SQLException {
+    private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults) throws SQLException {
         if (selectStatement.isSameGroupByAndOrderByItems()) {
             return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
         } else {
-            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, groupByMaxMemoryRows);
         }
     }
     
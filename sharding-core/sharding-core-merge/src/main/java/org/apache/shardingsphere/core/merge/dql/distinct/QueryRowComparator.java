@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Query row comparator for order by items.
+ */
+@RequiredArgsConstructor
+public final class QueryRowComparator implements Comparator<QueryRow> {
+    
+    private final List<OrderByItemSegment> orderByItems;
+    
+    @Override
+    public int compare(final QueryRow o1, final QueryRow o2) {
+        for (OrderByItemSegment each : orderByItems) {
+            int result = CompareUtil.compareTo(getOrderValue(o1, each), getOrderValue(o2, each), each.getOrderDirection(), each.getNullOrderDirection());
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    private Comparable<?> getOrderValue(final QueryRow queryRow, final OrderByItemSegment orderByItem) {
+        Object result = queryRow.getColumnValue(orderByItem.getIndex());
+        Preconditions.checkState(null == result || result instanceof Comparable, "Order by value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+}
@@ -18,8 +18,15 @@
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
+import com.google.common.collect.PeekingIterator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
@@ -28,49 +35,96 @@ import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationU
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * If max memory rows is greater than 0 and groups exceed it, partial aggregated groups are spilled into partition files by hash of group by values.
+ * Then each partition is aggregated and sorted individually, and sorted partitions are merged as stream.
+ * Partition which still exceeds max memory rows is spilled again into sub partitions by other bits of hash.
+ * Spill files are deleted when all rows iterated or merged result closed.
+ * </p>
  *
  * @author zhangliang
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult {
+public final class GroupByMemoryMergedResult extends MemoryMergedResult implements Closeable {
+    
+    private static final int SPILL_PARTITION_BITS = 5;
+    
+    private static final int SPILL_PARTITION_COUNT = 1 << SPILL_PARTITION_BITS;
+    
+    private static final int MAX_SPILL_DEPTH = Integer.SIZE / SPILL_PARTITION_BITS;
     
     private final SelectStatement selectStatement;
     
+    private final int maxMemoryRows;
+    
+    private final Collection<SpillFile> spillFiles = new LinkedList<>();
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, 0);
+    }
+    
+    public GroupByMemoryMergedResult(
+            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement, final int maxMemoryRows) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
-        memoryResultSetRows = init(queryResults);
+        this.maxMemoryRows = maxMemoryRows;
+        try {
+            memoryResultSetRows = init(queryResults);
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(ex);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
     }
     
-    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException, IOException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        SpillFile[] spilledPartitions = null;
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                if (isSpillNeeded(dataMap, groupByValue)) {
+                    spilledPartitions = null == spilledPartitions ? new SpillFile[SPILL_PARTITION_COUNT] : spilledPartitions;
+                    spill(dataMap, aggregationMap, spilledPartitions, 0);
+                }
                 initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
                 aggregate(each, groupByValue, aggregationMap);
             }
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
-        if (!result.isEmpty()) {
-            setCurrentResultSetRow(result.get(0));
+        PeekingIterator<MemoryQueryResultRow> result = Iterators.peekingIterator(
+                null == spilledPartitions ? getSortedMemoryResultSetRows(dataMap, aggregationMap).iterator() : mergeSpilledPartitions(dataMap, aggregationMap, spilledPartitions));
+        if (result.hasNext()) {
+            setCurrentResultSetRow(result.peek());
         }
-        return result.iterator();
+        return result;
+    }
+    
+    private boolean isSpillNeeded(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final GroupByValue groupByValue) {
+        return maxMemoryRows > 0 && dataMap.size() >= maxMemoryRows && !dataMap.containsKey(groupByValue);
     }
     
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
@@ -78,6 +132,10 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         if (!dataMap.containsKey(groupByValue)) {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
+        initAggregationUnits(groupByValue, aggregationMap);
+    }
+    
+    private void initAggregationUnits(final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
         if (!aggregationMap.containsKey(groupByValue)) {
             Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(selectStatement.getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
                 
@@ -118,18 +176,170 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
+    private List<MemoryQueryResultRow> getSortedMemoryResultSetRows(
+            final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+        setAggregationValueToMemoryRow(dataMap, aggregationMap);
         List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
         Collections.sort(result, new GroupByRowComparator(selectStatement));
         return result;
     }
     
+    private void spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap,
+                       final SpillFile[] partitions, final int depth) throws IOException {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            SpillFile partition = getPartition(partitions, entry.getKey(), depth);
+            partition.write(entry.getValue().getData());
+            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+                partition.write(aggregationMap.get(entry.getKey()).get(each).getPartialValues().toArray());
+            }
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+    
+    private SpillFile getPartition(final SpillFile[] partitions, final GroupByValue groupByValue, final int depth) throws IOException {
+        int hashCode = groupByValue.hashCode() ^ (groupByValue.hashCode() >>> 16);
+        int index = Integer.rotateRight(hashCode, depth * SPILL_PARTITION_BITS) & (SPILL_PARTITION_COUNT - 1);
+        if (null == partitions[index]) {
+            partitions[index] = createSpillFile();
+        }
+        return partitions[index];
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeSpilledPartitions(final Map<GroupByValue, MemoryQueryResultRow> dataMap, 
+                                                                  final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap, final SpillFile[] partitions) throws IOException {
+        spill(dataMap, aggregationMap, partitions, 0);
+        Collection<SpillFile> sortedPartitions = new LinkedList<>();
+        sortPartitions(partitions, 1, sortedPartitions);
+        return new SortedSpillFilesIterator(sortedPartitions, new GroupByRowComparator(selectStatement));
+    }
+    
+    private void sortPartitions(final SpillFile[] partitions, final int depth, final Collection<SpillFile> sortedPartitions) throws IOException {
+        for (SpillFile each : partitions) {
+            if (null != each) {
+                sortPartition(each, depth, sortedPartitions);
+            }
+        }
+    }
+    
+    private void sortPartition(final SpillFile partition, final int depth, final Collection<SpillFile> sortedPartitions) throws IOException {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        SpillFile[] subPartitions = null;
+        Optional<Object[]> row = partition.read();
+        while (row.isPresent()) {
+            MemoryQueryResultRow memoryResultSetRow = new MemoryQueryResultRow(row.get());
+            GroupByValue groupByValue = new GroupByValue(memoryResultSetRow, selectStatement.getGroupByItems());
+            if (depth < MAX_SPILL_DEPTH && isSpillNeeded(dataMap, groupByValue)) {
+                subPartitions = null == subPartitions ? new SpillFile[SPILL_PARTITION_COUNT] : subPartitions;
+                spill(dataMap, aggregationMap, subPartitions, depth);
+            }
+            if (!dataMap.containsKey(groupByValue)) {
+                dataMap.put(groupByValue, memoryResultSetRow);
+            }
+            initAggregationUnits(groupByValue, aggregationMap);
+            for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
+                aggregationMap.get(groupByValue).get(each).merge(Arrays.<Comparable<?>>asList(toComparableValues(partition.read().get())));
+            }
+            row = partition.read();
+        }
+        if (null != subPartitions) {
+            spill(dataMap, aggregationMap, subPartitions, depth);
+            sortPartitions(subPartitions, depth + 1, sortedPartitions);
+            return;
+        }
+        SpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : getSortedMemoryResultSetRows(dataMap, aggregationMap)) {
+            result.write(each.getData());
+        }
+        sortedPartitions.add(result);
+    }
+    
+    private Comparable<?>[] toComparableValues(final Object[] values) {
+        Comparable<?>[] result = new Comparable<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (Comparable<?>) values[i];
+        }
+        return result;
+    }
+    
     @Override
     public boolean next() {
         if (memoryResultSetRows.hasNext()) {
             setCurrentResultSetRow(memoryResultSetRows.next());
             return true;
         }
+        close();
         return false;
     }
+    
+    /**
+     * Delete spill files which are not read completely.
+     */
+    @Override
+    public void close() {
+        for (SpillFile each : spillFiles) {
+            each.delete();
+        }
+        spillFiles.clear();
+    }
+    
+    private static final class SortedSpillFilesIterator extends AbstractIterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<SpillFileCursor> cursors;
+        
+        SortedSpillFilesIterator(final Collection<SpillFile> sortedSpillFiles, final Comparator<MemoryQueryResultRow> comparator) throws IOException {
+            cursors = new PriorityQueue<>(sortedSpillFiles.size(), new Comparator<SpillFileCursor>() {
+                
+                @Override
+                public int compare(final SpillFileCursor o1, final SpillFileCursor o2) {
+                    return comparator.compare(o1.getCurrentRow(), o2.getCurrentRow());
+                }
+            });
+            for (SpillFile each : sortedSpillFiles) {
+                SpillFileCursor cursor = new SpillFileCursor(each);
+                if (cursor.next()) {
+                    cursors.offer(cursor);
+                }
+            }
+        }
+        
+        @Override
+        protected MemoryQueryResultRow computeNext() {
+            SpillFileCursor cursor = cursors.poll();
+            if (null == cursor) {
+                return endOfData();
+            }
+            MemoryQueryResultRow result = cursor.getCurrentRow();
+            try {
+                if (cursor.next()) {
+                    cursors.offer(cursor);
+                }
+            } catch (final IOException ex) {
+                throw new ShardingException(ex);
+            }
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillFileCursor {
+        
+        private final SpillFile spillFile;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() throws IOException {
+            Optional<Object[]> row = spillFile.read();
+            currentRow = row.isPresent() ? new MemoryQueryResultRow(row.get()) : null;
+            return row.isPresent();
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
 
 import java.sql.SQLException;
@@ -41,6 +42,10 @@ public final class GroupByValue {
         groupValues = getGroupByValues(queryResult, groupByItems);
     }
     
+    public GroupByValue(final MemoryQueryResultRow memoryResultSetRow, final List<OrderByItemSegment> groupByItems) {
+        groupValues = getGroupByValues(memoryResultSetRow, groupByItems);
+    }
+    
     private List<?> getGroupByValues(final QueryResult queryResult, final List<OrderByItemSegment> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderByItemSegment each : groupByItems) {
@@ -48,4 +53,12 @@ public final class GroupByValue {
         }
         return result;
     }
+    
+    private List<?> getGroupByValues(final MemoryQueryResultRow memoryResultSetRow, final List<OrderByItemSegment> groupByItems) {
+        List<Object> result = new ArrayList<>(groupByItems.size());
+        for (OrderByItemSegment each : groupByItems) {
+            result.add(memoryResultSetRow.getCell(each.getIndex()));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Spill file for rows which can not be hold in memory.
+ * 
+ * <p>
+ * Rows are written as type tagged binary values, and can be read back only once in written order.
+ * Spill file is deleted after all rows read, owner should delete it explicitly if rows are not read completely.
+ * </p>
+ */
+@Slf4j
+public final class SpillFile {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INTEGER = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte BOOLEAN = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte STRING = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte SQL_DATE = 11;
+    
+    private static final byte SQL_TIME = 12;
+    
+    private static final byte SQL_TIMESTAMP = 13;
+    
+    private static final byte DATE = 14;
+    
+    private static final byte BYTES = 15;
+    
+    private static final byte SERIALIZABLE = 16;
+    
+    private final File file;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private boolean deleted;
+    
+    public SpillFile() throws IOException {
+        file = File.createTempFile("sharding-spill-", ".tmp");
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row values
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        output.writeInt(row.length);
+        for (Object each : row) {
+            writeValue(each);
+        }
+    }
+    
+    private void writeValue(final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof Timestamp) {
+            output.writeByte(SQL_TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof java.sql.Date) {
+            output.writeByte(SQL_DATE);
+            output.writeLong(((java.sql.Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(SQL_TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(serialize(value));
+        } else {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+    }
+    
+    private void writeBytes(final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read next row.
+     * 
+     * <p>Writing is finished when the first row read, and spill file will be deleted after all rows read.</p>
+     * 
+     * @return next row, absent if no more rows
+     * @throws IOException IO exception
+     */
+    public Optional<Object[]> read() throws IOException {
+        if (null == input) {
+            output.close();
+            input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+        int columnCount;
+        try {
+            columnCount = input.readInt();
+        } catch (final EOFException ex) {
+            delete();
+            return Optional.absent();
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = readValue();
+        }
+        return Optional.of(result);
+    }
+    
+    private Object readValue() throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case SQL_DATE:
+                return new java.sql.Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case SQL_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case DATE:
+                return new Date(input.readLong());
+            case BYTES:
+                return readBytes();
+            case SERIALIZABLE:
+                return deserialize(readBytes());
+            default:
+                throw new IOException(String.format("Unknown spilled value type '%s'", type));
+        }
+    }
+    
+    private byte[] readBytes() throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    /**
+     * Close streams and delete spill file.
+     */
+    public void delete() {
+        if (deleted) {
+            return;
+        }
+        deleted = true;
+        close(output);
+        if (null != input) {
+            close(input);
+        }
+        if (!file.delete() && file.exists()) {
+            log.warn("Can not delete spill file '{}'.", file.getAbsolutePath());
+        }
+    }
+    
+    private void close(final Closeable stream) {
+        try {
+            stream.close();
+        } catch (final IOException ex) {
+            log.warn("Can not close stream of spill file '{}'.", file.getAbsolutePath(), ex);
+        }
+    }
+}
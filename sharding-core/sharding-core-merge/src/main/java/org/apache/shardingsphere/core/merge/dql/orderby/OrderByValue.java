@@ -19,13 +19,11 @@ package org.apache.shardingsphere.core.merge.dql.orderby;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,15 +31,20 @@ import java.util.List;
  * 
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
     private final QueryResult queryResult;
     
-    private final List<OrderByItemSegment> orderByItems;
+    private final OrderByItemSegment[] orderByItems;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    public OrderByValue(final QueryResult queryResult, final List<OrderByItemSegment> orderByItems) {
+        this.queryResult = queryResult;
+        this.orderByItems = orderByItems.toArray(new OrderByItemSegment[orderByItems.size()]);
+        orderValues = new Comparable<?>[orderByItems.size()];
+    }
     
     /**
      * iterate next data.
@@ -51,29 +54,44 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItemSegment each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        for (int i = 0; i < orderByItems.size(); i++) {
-            OrderByItemSegment thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+        for (int i = 0; i < orderByItems.length; i++) {
+            int result = compareTo(orderValues[i], o.orderValues[i], orderByItems[i]);
             if (0 != result) {
                 return result;
             }
         }
         return 0;
     }
+    
+    private int compareTo(final Comparable<?> thisValue, final Comparable<?> otherValue, final OrderByItemSegment orderByItem) {
+        if (thisValue instanceof Long && otherValue instanceof Long || thisValue instanceof Integer && otherValue instanceof Integer) {
+            int result = compareLong(((Number) thisValue).longValue(), ((Number) otherValue).longValue());
+            return OrderDirection.ASC == orderByItem.getOrderDirection() ? result : -result;
+        }
+        if (thisValue instanceof String && otherValue instanceof String) {
+            int result = ((String) thisValue).compareTo((String) otherValue);
+            return OrderDirection.ASC == orderByItem.getOrderDirection() ? result : -result;
+        }
+        return CompareUtil.compareTo(thisValue, otherValue, orderByItem.getOrderDirection(), orderByItem.getNullOrderDirection());
+    }
+    
+    private int compareLong(final long thisValue, final long otherValue) {
+        return thisValue < otherValue ? -1 : thisValue == otherValue ? 0 : 1;
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree for merging order by values.
+ * 
+ * <p>
+ * Each internal node keeps the loser of its sub tree, and node 0 keeps the overall winner.
+ * Replaying the winner path costs {@code log2(k)} comparisons for {@code k} order by values and does not move any element.
+ * Equal order by values are returned in the order they are loaded.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int NONE = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] nodes;
+    
+    private final long[] loadSequences;
+    
+    private long loadSequence;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        nodes = new int[Math.max(leaves.length, 1)];
+        loadSequences = new long[leaves.length];
+        for (int i = 0; i < leaves.length; i++) {
+            loadSequences[i] = loadSequence++;
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = NONE;
+        }
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return NONE == nodes[0] || null == leaves[nodes[0]];
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return current winner
+     */
+    public OrderByValue peek() {
+        return leaves[nodes[0]];
+    }
+    
+    /**
+     * Move current winner to its next value and find new winner.
+     * 
+     * @return has next winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = nodes[0];
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+        }
+        loadSequences[winner] = loadSequence++;
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leafIndex) {
+        int winner = leafIndex;
+        for (int node = (leafIndex + leaves.length) / 2; node > 0; node /= 2) {
+            if (isWinner(nodes[node], winner)) {
+                int loser = winner;
+                winner = nodes[node];
+                nodes[node] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+    
+    private boolean isWinner(final int leafIndex, final int otherLeafIndex) {
+        if (NONE == leafIndex) {
+            return true;
+        }
+        if (NONE == otherLeafIndex) {
+            return false;
+        }
+        if (null == leaves[leafIndex]) {
+            return false;
+        }
+        if (null == leaves[otherLeafIndex]) {
+            return true;
+        }
+        int result = leaves[leafIndex].compareTo(leaves[otherLeafIndex]);
+        return result < 0 || 0 == result && loadSequences[leafIndex] < loadSequences[otherLeafIndex];
+    }
+}
@@ -27,14 +27,18 @@ import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResultTest
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRowTest;
 import org.apache.shardingsphere.core.merge.dql.common.StreamMergedResultTest;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctDecoratorMergedResultTest;
+import org.apache.shardingsphere.core.merge.dql.distinct.QueryRowComparatorTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByRowComparatorTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByValueTest;
+import org.apache.shardingsphere.core.merge.dql.groupby.SpillFileTest;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AllAggregationTests;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtilTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResultTest;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByValueLoserTreeTest;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByValueTest;
 import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedResultTest;
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResultTest;
@@ -52,13 +56,17 @@ import org.junit.runners.Suite.SuiteClasses;
         MemoryQueryResultRowTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        OrderByValueLoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
         GroupByRowComparatorTest.class, 
         GroupByStreamMergedResultTest.class, 
         GroupByMemoryMergedResultTest.class, 
+        SpillFileTest.class, 
         AllAggregationTests.class, 
+        QueryRowComparatorTest.class, 
+        DistinctDecoratorMergedResultTest.class, 
         LimitDecoratorMergedResultTest.class,
         RowNumberDecoratorMergedResultTest.class,
         TopAndRowNumberDecoratorMergedResultTest.class,
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
@@ -33,7 +34,9 @@ import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMer
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
 import org.apache.shardingsphere.core.parse.sql.context.limit.Limit;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.DistinctSelectItem;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
@@ -48,7 +51,10 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +62,8 @@ public final class DQLMergeEngineTest {
     
     private DQLMergeEngine mergeEngine;
     
+    private ResultSet resultSet;
+    
     private List<QueryResult> singleQueryResult;
     
     private List<QueryResult> queryResults;
@@ -66,7 +74,7 @@ public final class DQLMergeEngineTest {
     
     @Before
     public void setUp() throws SQLException {
-        ResultSet resultSet = mock(ResultSet.class);
+        resultSet = mock(ResultSet.class);
         when(resultSet.getObject(1)).thenReturn(0);
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
         when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
@@ -122,6 +130,22 @@ public final class DQLMergeEngineTest {
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(IteratorStreamMergedResult.class));
     }
     
+    @Test
+    public void assertBuildIteratorStreamMergedResultWithSingleRouteDistinct() throws SQLException {
+        selectStatement.getItems().add(new DistinctSelectItem(Collections.singleton("count(*)"), Optional.<String>absent()));
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, singleQueryResult);
+        when(resultSet.next()).thenReturn(true, false);
+        assertSingleRow(mergeEngine.merge());
+    }
+    
+    @Test
+    public void assertBuildIteratorStreamMergedResultWithSingleRouteAggregationDistinct() throws SQLException {
+        selectStatement.getItems().add(new AggregationDistinctSelectItem(AggregationType.COUNT, "(DISTINCT order_id)", Optional.of("c"), "order_id"));
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, singleQueryResult);
+        when(resultSet.next()).thenReturn(true, false);
+        assertSingleRow(mergeEngine.merge());
+    }
+    
     @Test
     public void assertBuildOrderByStreamMergedResult() throws SQLException {
         selectStatement.getOrderByItems().add(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC));
@@ -159,6 +183,16 @@ public final class DQLMergeEngineTest {
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(OrderByStreamMergedResult.class));
     }
     
+    @Test
+    public void assertBuildDistinctDecoratorMergedResult() throws SQLException {
+        selectStatement.getItems().add(new DistinctSelectItem(Collections.singleton("count(*)"), Optional.<String>absent()));
+        selectStatement.getOrderByItems().add(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(DistinctDecoratorMergedResult.class));
+        assertThat(((DistinctDecoratorMergedResult) actual).getMergedResult(), instanceOf(OrderByStreamMergedResult.class));
+    }
+    
     @Test
     public void assertBuildGroupByStreamMergedResult() throws SQLException {
         selectStatement.getGroupByItems().add(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC));
@@ -275,4 +309,11 @@ public final class DQLMergeEngineTest {
         assertThat(actual, instanceOf(TopAndRowNumberDecoratorMergedResult.class));
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
+    
+    private void assertSingleRow(final MergedResult actual) throws SQLException {
+        assertThat(actual, instanceOf(IteratorStreamMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 0));
+        assertFalse(actual.next());
+    }
 }
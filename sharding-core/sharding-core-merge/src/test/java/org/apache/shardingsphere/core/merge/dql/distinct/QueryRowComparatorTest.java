@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class QueryRowComparatorTest {
+    
+    @Test
+    public void assertCompareToForAsc() {
+        QueryRowComparator comparator = new QueryRowComparator(Arrays.<OrderByItemSegment>asList(
+                new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC), new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, OrderDirection.ASC)));
+        assertTrue(comparator.compare(new QueryRow(Arrays.<Object>asList("1", "2")), new QueryRow(Arrays.<Object>asList("1", "3"))) < 0);
+    }
+    
+    @Test
+    public void assertCompareToForDesc() {
+        QueryRowComparator comparator = new QueryRowComparator(Arrays.<OrderByItemSegment>asList(
+                new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC), new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC)));
+        assertTrue(comparator.compare(new QueryRow(Arrays.<Object>asList("1", "2")), new QueryRow(Arrays.<Object>asList("1", "3"))) > 0);
+    }
+    
+    @Test
+    public void assertCompareToForEqual() {
+        QueryRowComparator comparator = new QueryRowComparator(Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)));
+        assertThat(comparator.compare(new QueryRow(Arrays.<Object>asList("1", "2")), new QueryRow(Arrays.<Object>asList("1", "3"))), is(0));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertCompareToWithNotComparableValue() {
+        QueryRowComparator comparator = new QueryRowComparator(Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)));
+        comparator.compare(new QueryRow(Collections.singletonList(new Object())), new QueryRow(Collections.singletonList(new Object())));
+    }
+}
@@ -33,12 +33,17 @@ import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -106,6 +111,46 @@ public final class GroupByMemoryMergedResultTest {
     @Test
     public void assertNextForSomeResultSetsEmpty() throws SQLException {
         mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, queryResults);
+        mockSomeResultSetsEmpty();
+        assertMergedResultForSomeResultSetsEmpty(mergeEngine.merge());
+    }
+    
+    @Test
+    public void assertNextForSomeResultSetsEmptyWithSpill() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, queryResults, 1);
+        mockSomeResultSetsEmpty();
+        assertMergedResultForSomeResultSetsEmpty(mergeEngine.merge());
+    }
+    
+    @Test
+    public void assertNextWithRepartitionedSpill() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, queryResults, 1);
+        mockSomeResultSetsEmpty();
+        when(resultSets.get(2).getObject(3)).thenReturn(2, 34);
+        assertMergedResultForSomeResultSetsEmpty(mergeEngine.merge(), 34);
+    }
+    
+    @Test
+    public void assertCloseWithoutIteration() throws SQLException, IOException {
+        Set<String> spillFileNames = getSpillFileNames();
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, routeResult, queryResults, 1);
+        mockSomeResultSetsEmpty();
+        MergedResult actual = mergeEngine.merge();
+        ((Closeable) actual).close();
+        assertThat(getSpillFileNames(), is(spillFileNames));
+    }
+    
+    private Set<String> getSpillFileNames() {
+        Set<String> result = new HashSet<>();
+        for (String each : new File(System.getProperty("java.io.tmpdir")).list()) {
+            if (each.startsWith("sharding-spill-")) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void mockSomeResultSetsEmpty() throws SQLException {
         when(resultSets.get(0).next()).thenReturn(true, false);
         when(resultSets.get(0).getObject(1)).thenReturn(20);
         when(resultSets.get(0).getObject(2)).thenReturn(0);
@@ -118,11 +163,17 @@ public final class GroupByMemoryMergedResultTest {
         when(resultSets.get(2).getObject(3)).thenReturn(2, 3);
         when(resultSets.get(2).getObject(4)).thenReturn(2, 2, 3);
         when(resultSets.get(2).getObject(5)).thenReturn(20, 20, 30);
-        MergedResult actual = mergeEngine.merge();
+    }
+    
+    private void assertMergedResultForSomeResultSetsEmpty(final MergedResult actual) throws SQLException {
+        assertMergedResultForSomeResultSetsEmpty(actual, 3);
+    }
+    
+    private void assertMergedResultForSomeResultSetsEmpty(final MergedResult actual, final int secondGroupId) throws SQLException {
         assertTrue(actual.next());
         assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
         assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
-        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((Integer) actual.getValue(3, Object.class), is(secondGroupId));
         assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
         assertTrue(actual.next());
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] row1 = new Object[]{null, 1, 2L, (short) 3, (byte) 4, true, 5.0F, 6.0D, "中文", new BigDecimal("-7.80"), new BigInteger("9"),
+            new java.sql.Date(10L), new Time(11L), timestamp, new Date(12L), UUID.fromString("00000000-0000-0001-0000-000000000002")};
+        Object[] row2 = new Object[]{};
+        SpillFile spillFile = new SpillFile();
+        spillFile.write(row1);
+        spillFile.write(row2);
+        Optional<Object[]> actual = spillFile.read();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(row1));
+        actual = spillFile.read();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().length, is(0));
+        assertFalse(spillFile.read().isPresent());
+    }
+    
+    @Test
+    public void assertWriteAndReadBytes() throws IOException {
+        SpillFile spillFile = new SpillFile();
+        spillFile.write(new Object[]{new byte[]{1, 2, 3}});
+        assertThat((byte[]) spillFile.read().get()[0], is(new byte[]{1, 2, 3}));
+        assertFalse(spillFile.read().isPresent());
+    }
+    
+    @Test
+    public void assertDeleteWithoutReading() throws IOException {
+        SpillFile spillFile = new SpillFile();
+        spillFile.write(new Object[]{1});
+        spillFile.delete();
+        spillFile.delete();
+    }
+}
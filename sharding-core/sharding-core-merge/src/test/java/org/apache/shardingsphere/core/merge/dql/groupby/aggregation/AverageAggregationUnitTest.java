@@ -39,6 +39,20 @@ public final class AverageAggregationUnitTest {
         assertThat((BigDecimal) avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
     }
     
+    @Test
+    public void assertMergePartialValues() {
+        AverageAggregationUnit partialAggregationUnit1 = new AverageAggregationUnit();
+        partialAggregationUnit1.merge(Arrays.<Comparable<?>>asList(10, 50));
+        AverageAggregationUnit partialAggregationUnit2 = new AverageAggregationUnit();
+        partialAggregationUnit2.merge(Arrays.<Comparable<?>>asList(10, 20));
+        partialAggregationUnit2.merge(Arrays.<Comparable<?>>asList(5, 40));
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
+        avgAggregationUnit.merge(partialAggregationUnit1.getPartialValues());
+        avgAggregationUnit.merge(partialAggregationUnit2.getPartialValues());
+        avgAggregationUnit.merge(new AverageAggregationUnit().getPartialValues());
+        assertThat((BigDecimal) avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
+    
     @Test
     public void assertDivideZero() {
         AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
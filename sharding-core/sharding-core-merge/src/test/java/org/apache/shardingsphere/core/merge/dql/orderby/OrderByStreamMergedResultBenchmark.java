@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for order by stream merging, compares loser tree merging with priority queue merging.
+ * 
+ * <p>Compile test classes with {@code -Pbenchmark} to generate benchmark code, then run with {@code main} method from test classpath.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OrderByStreamMergedResultBenchmark {
+    
+    @Param({"16", "256"})
+    private int shardCount;
+    
+    @Param({"1000"})
+    private int rowCountPerShard;
+    
+    private final List<OrderByItemSegment> orderByItems = Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    private long[][] shardValues;
+    
+    /**
+     * Generate sorted values for each shard.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0L);
+        shardValues = new long[shardCount][rowCountPerShard];
+        for (long[] each : shardValues) {
+            for (int i = 0; i < rowCountPerShard; i++) {
+                each[i] = random.nextInt(Integer.MAX_VALUE);
+            }
+            Arrays.sort(each);
+        }
+    }
+    
+    /**
+     * Merge by loser tree.
+     * 
+     * @return checksum of merged values
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public long mergeWithLoserTree() throws SQLException {
+        long result = 0L;
+        OrderByStreamMergedResult mergedResult = new OrderByStreamMergedResult(createQueryResults(), orderByItems);
+        while (mergedResult.next()) {
+            result += (Long) mergedResult.getValue(1, Object.class);
+        }
+        return result;
+    }
+    
+    /**
+     * Merge by priority queue.
+     * 
+     * @return checksum of merged values
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public long mergeWithPriorityQueue() throws SQLException {
+        long result = 0L;
+        PriorityQueue<OrderByValue> queue = new PriorityQueue<>(shardCount);
+        for (QueryResult each : createQueryResults()) {
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems);
+            if (orderByValue.next()) {
+                queue.offer(orderByValue);
+            }
+        }
+        while (!queue.isEmpty()) {
+            OrderByValue first = queue.poll();
+            result += (Long) first.getQueryResult().getValue(1, Object.class);
+            if (first.next()) {
+                queue.offer(first);
+            }
+        }
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardCount);
+        for (long[] each : shardValues) {
+            result.add(new LongArrayQueryResult(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Run benchmark.
+     * 
+     * @param args arguments
+     * @throws RunnerException runner exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(OrderByStreamMergedResultBenchmark.class.getSimpleName()).build()).run();
+    }
+    
+    private static final class LongArrayQueryResult implements QueryResult {
+        
+        private final long[] values;
+        
+        private int rowIndex = -1;
+        
+        LongArrayQueryResult(final long[] values) {
+            this.values = values;
+        }
+        
+        @Override
+        public boolean next() {
+            return ++rowIndex < values.length;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        public Object getValue(final String columnLabel, final Class<?> type) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+            return values[rowIndex];
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public InputStream getInputStream(final String columnLabel, final String type) {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+        
+        @Override
+        public int getColumnCount() {
+            return 1;
+        }
+        
+        @Override
+        public String getColumnLabel(final int columnIndex) {
+            return "order_id";
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.OrderByItemSegment;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    private final List<OrderByItemSegment> orderByItems = Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    @Test
+    public void assertNextForEmpty() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.<OrderByValue>emptyList());
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForMultipleOrderByValues() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>();
+        orderByValues.add(createOrderByValue(mockQueryResult(3, 6, 9)));
+        orderByValues.add(createOrderByValue(mockQueryResult(1, 4)));
+        orderByValues.add(createOrderByValue(mockQueryResult(8)));
+        orderByValues.add(createOrderByValue(mockQueryResult(2, 5, 7, 10)));
+        orderByValues.add(createOrderByValue(mockQueryResult(0)));
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        List<Object> actualValues = new ArrayList<>();
+        while (!actual.isEmpty()) {
+            actualValues.add(actual.peek().getQueryResult().getValue(1, Object.class));
+            actual.next();
+        }
+        assertThat(actualValues, is(Arrays.<Object>asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    @Test
+    public void assertNextForEqualOrderByValues() throws SQLException {
+        QueryResult queryResult1 = mockQueryResult(1, 2);
+        QueryResult queryResult2 = mockQueryResult(1, 2);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(createOrderByValue(queryResult1), createOrderByValue(queryResult2)));
+        assertThat(actual.peek().getQueryResult(), sameInstance(queryResult1));
+        assertTrue(actual.next());
+        assertThat(actual.peek().getQueryResult(), sameInstance(queryResult2));
+        assertTrue(actual.next());
+        assertThat(actual.peek().getQueryResult(), sameInstance(queryResult1));
+        assertTrue(actual.next());
+        assertThat(actual.peek().getQueryResult(), sameInstance(queryResult2));
+        assertFalse(actual.next());
+        assertTrue(actual.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final QueryResult queryResult) throws SQLException {
+        OrderByValue result = new OrderByValue(queryResult, orderByItems);
+        assertTrue(result.next());
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        final AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return rowIndex.incrementAndGet() < values.length;
+            }
+        });
+        when(result.getValue(1, Object.class)).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return values[rowIndex.get()];
+            }
+        });
+        return result;
+    }
+}
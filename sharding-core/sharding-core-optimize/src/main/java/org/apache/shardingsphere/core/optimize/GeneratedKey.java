@@ -118,9 +118,7 @@ public final class GeneratedKey {
     private static GeneratedKey createGeneratedKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final String generateKeyColumnName) {
         String tableName = insertStatement.getTables().getSingleTableName();
         GeneratedKey result = new GeneratedKey(generateKeyColumnName);
-        for (int i = 0; i < insertStatement.getValues().size(); i++) {
-            result.getGeneratedKeys().add(shardingRule.generateKey(tableName));
-        }
+        result.getGeneratedKeys().addAll(shardingRule.generateKeys(tableName, insertStatement.getValues().size()));
         return result;
     }
 }
@@ -64,9 +64,11 @@ public final class GeneratedKeyTest {
     public void assertGetGenerateKeyWhenCreateWithGenerateKeyColumnConfiguration() {
         insertStatement.getValues().add(new InsertValue(Collections.<ExpressionSegment>emptyList()));
         when(shardingRule.findGenerateKeyColumnName("tbl")).thenReturn(Optional.of("id1"));
+        when(shardingRule.generateKeys("tbl", 1)).thenReturn(Collections.<Comparable<?>>singletonList(1L));
         Optional<GeneratedKey> actual = GeneratedKey.getGenerateKey(shardingRule, Collections.<Object>singletonList(1), insertStatement);
         assertTrue(actual.isPresent());
         assertThat(actual.get().getGeneratedKeys().size(), is(1));
+        assertThat(actual.get().getGeneratedKeys().get(0), is((Comparable) 1L));
     }
     
     @Test
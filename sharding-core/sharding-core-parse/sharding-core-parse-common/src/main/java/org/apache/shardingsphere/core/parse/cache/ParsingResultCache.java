@@ -17,21 +17,40 @@
 
 package org.apache.shardingsphere.core.parse.cache;
 
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Parsing result cache.
+ * 
+ * <p>
+ * Cache is thread safe and bounded by max size, least recently used entries will be evicted when size exceeded.
+ * </p>
  *
  * @author zhangliang
  * @author zhaojun
  */
 public final class ParsingResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    public static final long DEFAULT_MAX_SIZE = 65535L;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    public ParsingResultCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+    
+    public ParsingResultCache(final long maxSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maxSize).concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats().build();
+    }
     
     /**
      * Put SQL and parsing result into cache.
@@ -50,13 +69,54 @@ public final class ParsingResultCache {
      * @return SQL statement
      */
     public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+        return cache.getIfPresent(sql);
+    }
+    
+    /**
+     * Get SQL statement, or load and cache it if absent.
+     * 
+     * <p>
+     * Concurrent loads of same SQL will wait for one loader only.
+     * </p>
+     *
+     * @param sql SQL
+     * @param loader loader of SQL statement
+     * @return SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql, final Callable<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader);
+        } catch (final ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            throw Throwables.propagate(ex.getCause());
+        }
+    }
+    
+    /**
+     * Get cache statistics.
+     * 
+     * <p>
+     * Statistics include hit, miss, eviction and load time counters.
+     * </p>
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get size of cached SQL statements.
+     *
+     * @return size of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
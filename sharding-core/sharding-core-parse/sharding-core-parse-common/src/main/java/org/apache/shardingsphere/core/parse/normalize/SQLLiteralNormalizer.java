@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.normalize;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.util.NumberUtil;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL literal normalizer.
+ * 
+ * <p>
+ * Replace literals of DML SQL with parameter markers, to share one parsing result for SQLs only different with literals.
+ * Only literals in predicates, insert values and limit are replaced, other literals are remained as SQL fingerprint.
+ * SQL with comment, parameter marker or backslash in string literal will not be normalized.
+ * Doubled quotes of string literal are unescaped, and original texts of string literals and of number literals different with their values are kept for restoring.
+ * Integer literal different with its value, such as with leading zeros, is not replaced, because boxed integer values can not be told apart from each other.
+ * </p>
+ */
+public final class SQLLiteralNormalizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> COMPARE_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">="));
+    
+    private static final String LITERAL = "'";
+    
+    private final String sql;
+    
+    private final StringBuilder normalizedSQL;
+    
+    private final List<Object> parameters = new LinkedList<>();
+    
+    private final Map<Object, String> literalTexts = new IdentityHashMap<>();
+    
+    private final LinkedList<Boolean> valueListParens = new LinkedList<>();
+    
+    private int position;
+    
+    private String previousToken = "";
+    
+    private boolean predicateStarted;
+    
+    private boolean betweenStarted;
+    
+    private boolean limitStarted;
+    
+    private boolean valuesStarted;
+    
+    private boolean valueListClosed;
+    
+    public SQLLiteralNormalizer(final String sql) {
+        this.sql = sql;
+        normalizedSQL = new StringBuilder(sql.length());
+    }
+    
+    /**
+     * Normalize SQL.
+     * 
+     * @return normalized SQL, absent if SQL cannot be normalized or does not contain any replaceable literal
+     */
+    public Optional<NormalizedSQL> normalize() {
+        while (position < sql.length()) {
+            if (!scanNextToken()) {
+                return Optional.absent();
+            }
+        }
+        return parameters.isEmpty() ? Optional.<NormalizedSQL>absent() : Optional.of(new NormalizedSQL(normalizedSQL.toString(), parameters, literalTexts));
+    }
+    
+    private boolean scanNextToken() {
+        char current = sql.charAt(position);
+        if (Character.isWhitespace(current)) {
+            normalizedSQL.append(current);
+            position++;
+            return true;
+        }
+        if (previousToken.isEmpty() && !isIdentifierStart(current)) {
+            return false;
+        }
+        if (isCommentStart(current) || '?' == current || '$' == current || '\\' == current) {
+            return false;
+        }
+        if ('\'' == current) {
+            return scanStringLiteral();
+        }
+        if ('"' == current || '`' == current) {
+            return scanQuotedIdentifier(current);
+        }
+        if (Character.isDigit(current)) {
+            scanNumberLiteral();
+            return true;
+        }
+        if (isIdentifierStart(current)) {
+            return scanWord();
+        }
+        scanSymbol(current);
+        return true;
+    }
+    
+    private boolean isCommentStart(final char current) {
+        return '#' == current || ('-' == current || '/' == current) && position + 1 < sql.length() && ('-' == current ? '-' : '*') == sql.charAt(position + 1);
+    }
+    
+    private boolean scanStringLiteral() {
+        int start = position;
+        position++;
+        while (position < sql.length()) {
+            char current = sql.charAt(position);
+            if ('\\' == current) {
+                return false;
+            }
+            position++;
+            if ('\'' == current) {
+                if (position < sql.length() && '\'' == sql.charAt(position)) {
+                    position++;
+                    continue;
+                }
+                String value = sql.substring(start + 1, position - 1).replace("''", "'");
+                if (appendLiteral(start, value, true)) {
+                    literalTexts.put(value, sql.substring(start, position));
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean scanQuotedIdentifier(final char quote) {
+        int start = position;
+        position++;
+        while (position < sql.length()) {
+            if (quote == sql.charAt(position++)) {
+                if (position < sql.length() && quote == sql.charAt(position)) {
+                    position++;
+                    continue;
+                }
+                normalizedSQL.append(sql, start, position);
+                previousToken = sql.substring(start, position);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void scanNumberLiteral() {
+        int start = position;
+        skipDigits();
+        if (position + 1 < sql.length() && '.' == sql.charAt(position) && Character.isDigit(sql.charAt(position + 1))) {
+            position++;
+            skipDigits();
+        }
+        if (position + 1 < sql.length() && ('e' == sql.charAt(position) || 'E' == sql.charAt(position))) {
+            int exponentStart = position++;
+            if ('+' == sql.charAt(position) || '-' == sql.charAt(position)) {
+                position++;
+            }
+            if (position < sql.length() && Character.isDigit(sql.charAt(position))) {
+                skipDigits();
+            } else {
+                position = exponentStart;
+            }
+        }
+        if (position < sql.length() && (isIdentifierPart(sql.charAt(position)) || '.' == sql.charAt(position))) {
+            while (position < sql.length() && (isIdentifierPart(sql.charAt(position)) || '.' == sql.charAt(position))) {
+                position++;
+            }
+            normalizedSQL.append(sql, start, position);
+            previousToken = sql.substring(start, position);
+            return;
+        }
+        String literal = sql.substring(start, position);
+        Number value = NumberUtil.getExactlyNumber(literal, 10);
+        boolean isSameWithValue = literal.equals(value.toString());
+        if (appendLiteral(start, value, isSameWithValue || !(value instanceof Integer || value instanceof Long)) && !isSameWithValue) {
+            literalTexts.put(value, literal);
+        }
+    }
+    
+    private void skipDigits() {
+        while (position < sql.length() && Character.isDigit(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean appendLiteral(final int start, final Object value, final boolean isDistinguishable) {
+        boolean result = isReplaceable(start) && isDistinguishable;
+        if (result) {
+            normalizedSQL.append('?');
+            parameters.add(value);
+        } else {
+            normalizedSQL.append(sql, start, position);
+        }
+        previousToken = LITERAL;
+        return result;
+    }
+    
+    private boolean isReplaceable(final int start) {
+        if (0 < start && isIdentifierPart(sql.charAt(start - 1))) {
+            return false;
+        }
+        char next = getNextSignificantChar();
+        if (!isLiteralEnd(next)) {
+            return false;
+        }
+        if (isInValueList()) {
+            return ("(".equals(previousToken) || ",".equals(previousToken)) && (',' == next || ')' == next);
+        }
+        if (limitStarted && ("LIMIT".equals(previousToken) || "OFFSET".equals(previousToken) || ",".equals(previousToken))) {
+            return true;
+        }
+        if (!predicateStarted) {
+            return false;
+        }
+        if (COMPARE_OPERATORS.contains(previousToken) || "BETWEEN".equals(previousToken)) {
+            return true;
+        }
+        if (betweenStarted && "AND".equals(previousToken)) {
+            betweenStarted = false;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean isInValueList() {
+        return !valueListParens.isEmpty() && valueListParens.getLast();
+    }
+    
+    private char getNextSignificantChar() {
+        int index = position;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return index < sql.length() ? sql.charAt(index) : ';';
+    }
+    
+    private boolean isLiteralEnd(final char next) {
+        return ';' == next || ',' == next || ')' == next || isIdentifierStart(next);
+    }
+    
+    private boolean scanWord() {
+        int start = position;
+        while (position < sql.length() && isIdentifierPart(sql.charAt(position))) {
+            position++;
+        }
+        String word = sql.substring(start, position).toUpperCase();
+        if (previousToken.isEmpty() && !DML_KEYWORDS.contains(word)) {
+            return false;
+        }
+        switch (word) {
+            case "WHERE":
+            case "SET":
+                predicateStarted = true;
+                break;
+            case "BETWEEN":
+                betweenStarted = true;
+                break;
+            case "LIMIT":
+                limitStarted = true;
+                break;
+            case "VALUES":
+            case "VALUE":
+                valuesStarted = true;
+                break;
+            default:
+                break;
+        }
+        normalizedSQL.append(sql, start, position);
+        previousToken = word;
+        return true;
+    }
+    
+    private void scanSymbol(final char current) {
+        int start = position++;
+        if (isOperatorChar(current)) {
+            while (position < sql.length() && isOperatorChar(sql.charAt(position))) {
+                position++;
+            }
+        }
+        String symbol = sql.substring(start, position);
+        if ("(".equals(symbol)) {
+            valueListParens.add(isValueListStart());
+        } else if (")".equals(symbol)) {
+            valueListClosed = !valueListParens.isEmpty() && valueListParens.removeLast() && valuesStarted;
+        }
+        normalizedSQL.append(symbol);
+        previousToken = symbol;
+    }
+    
+    private boolean isValueListStart() {
+        if ("IN".equals(previousToken)) {
+            return predicateStarted;
+        }
+        return valuesStarted && ("VALUES".equals(previousToken) || "VALUE".equals(previousToken) || ",".equals(previousToken) && valueListClosed);
+    }
+    
+    private boolean isOperatorChar(final char current) {
+        return '=' == current || '<' == current || '>' == current || '!' == current;
+    }
+    
+    private boolean isIdentifierStart(final char current) {
+        return Character.isLetter(current) || '_' == current;
+    }
+    
+    private boolean isIdentifierPart(final char current) {
+        return Character.isLetterOrDigit(current) || '_' == current || '$' == current;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.normalize;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL literal restorer.
+ * 
+ * <p>Restore parameter markers of SQL normalized by {@code SQLLiteralNormalizer} to literals.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralRestorer {
+    
+    /**
+     * Restore parameter markers to literals.
+     * 
+     * @param sql SQL with parameter markers
+     * @param parameters parameters
+     * @param literalTexts original texts of literals keyed by identity of parameters
+     * @return SQL with literals
+     */
+    public static String restore(final String sql, final List<Object> parameters, final Map<Object, String> literalTexts) {
+        StringBuilder result = new StringBuilder(sql.length() + parameters.size() * 8);
+        Iterator<Object> parameterIterator = parameters.iterator();
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char current = sql.charAt(i);
+            if (0 != quote) {
+                if (quote == current) {
+                    quote = 0;
+                }
+            } else if ('\'' == current || '"' == current || '`' == current) {
+                quote = current;
+            } else if ('?' == current) {
+                Preconditions.checkState(parameterIterator.hasNext(), "Parameters size is less than parameter markers of SQL: '%s'.", sql);
+                appendLiteral(result, parameterIterator.next(), literalTexts);
+                continue;
+            }
+            result.append(current);
+        }
+        Preconditions.checkState(!parameterIterator.hasNext(), "Parameters size is greater than parameter markers of SQL: '%s'.", sql);
+        return result.toString();
+    }
+    
+    private static void appendLiteral(final StringBuilder sqlBuilder, final Object parameter, final Map<Object, String> literalTexts) {
+        if (null == parameter) {
+            sqlBuilder.append("NULL");
+        } else if (literalTexts.containsKey(parameter)) {
+            sqlBuilder.append(literalTexts.get(parameter));
+        } else if (parameter instanceof Number || parameter instanceof Boolean) {
+            sqlBuilder.append(parameter);
+        } else {
+            sqlBuilder.append('\'').append(parameter.toString().replace("'", "''")).append('\'');
+        }
+    }
+}
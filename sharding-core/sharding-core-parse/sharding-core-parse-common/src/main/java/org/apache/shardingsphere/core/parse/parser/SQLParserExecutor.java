@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+
+/**
+ * SQL parser executor.
+ * 
+ * <p>
+ * Parse SQL with SLL prediction mode and bail error strategy first, and retry with LL prediction mode only if SLL parsing is cancelled by syntax error.
+ * Lexer and parser instances are reused through bounded pool, DFA cache is shared by all parser instances of same grammar.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLParserExecutor {
+    
+    private static final SQLParserPool PARSER_POOL = new SQLParserPool(Runtime.getRuntime().availableProcessors() * 2);
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    /**
+     * Execute to parse SQL to AST.
+     * 
+     * @return AST
+     */
+    public ParserRuleContext execute() {
+        SQLParser sqlParser = PARSER_POOL.acquire(databaseType);
+        try {
+            reset((Parser) sqlParser, sql);
+            return twoPhaseParse(sqlParser);
+        } finally {
+            reset((Parser) sqlParser, "");
+            PARSER_POOL.release(databaseType, sqlParser);
+        }
+    }
+    
+    private void reset(final Parser parser, final String sql) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getInputStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(CharStreams.fromString(sql));
+        tokenStream.setTokenSource(lexer);
+        parser.setInputStream(tokenStream);
+    }
+    
+    private ParserRuleContext twoPhaseParse(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return sqlParser.execute();
+        } catch (final ParseCancellationException ex) {
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            return sqlParser.execute();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pool of idle SQL parsers.
+ * 
+ * <p>
+ * Idle parsers of each database type are bounded by max idle size and shared by all threads,
+ * they are not held by thread locals, so pooled threads do not keep parsers and their class loader alive.
+ * </p>
+ */
+final class SQLParserPool {
+    
+    private final int maxIdleSize;
+    
+    private final ConcurrentMap<DatabaseType, Queue<SQLParser>> idleParsers = new ConcurrentHashMap<>();
+    
+    SQLParserPool(final int maxIdleSize) {
+        this.maxIdleSize = maxIdleSize;
+    }
+    
+    /**
+     * Acquire SQL parser.
+     * 
+     * @param databaseType database type
+     * @return idle SQL parser, or new SQL parser if no idle one
+     */
+    SQLParser acquire(final DatabaseType databaseType) {
+        SQLParser result = getIdleParsers(databaseType).poll();
+        return null == result ? SQLParserFactory.newInstance(databaseType, "") : result;
+    }
+    
+    /**
+     * Release SQL parser to pool.
+     * 
+     * @param databaseType database type
+     * @param sqlParser SQL parser
+     * @return SQL parser is kept as idle or discarded because of max idle size reached
+     */
+    boolean release(final DatabaseType databaseType, final SQLParser sqlParser) {
+        return getIdleParsers(databaseType).offer(sqlParser);
+    }
+    
+    /**
+     * Get size of idle SQL parsers.
+     * 
+     * @param databaseType database type
+     * @return size of idle SQL parsers
+     */
+    int getIdleSize(final DatabaseType databaseType) {
+        return getIdleParsers(databaseType).size();
+    }
+    
+    private Queue<SQLParser> getIdleParsers(final DatabaseType databaseType) {
+        Queue<SQLParser> result = idleParsers.get(databaseType);
+        if (null != result) {
+            return result;
+        }
+        idleParsers.putIfAbsent(databaseType, new ArrayBlockingQueue<SQLParser>(maxIdleSize));
+        return idleParsers.get(databaseType);
+    }
+}
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.core.parse;
 
+import org.apache.shardingsphere.core.parse.cache.ParsingResultCacheTest;
 import org.apache.shardingsphere.core.parse.constant.AllConstantTests;
 import org.apache.shardingsphere.core.parse.hook.SPIParsingHookTest;
+import org.apache.shardingsphere.core.parse.normalize.SQLLiteralNormalizerTest;
+import org.apache.shardingsphere.core.parse.normalize.SQLLiteralRestorerTest;
 import org.apache.shardingsphere.core.parse.rule.AllRuleTests;
 import org.apache.shardingsphere.core.parse.rule.registry.ParseRuleRegistryTest;
 import org.apache.shardingsphere.core.parse.sql.context.AllContextTests;
@@ -34,7 +37,10 @@ import org.junit.runners.Suite.SuiteClasses;
         SQLUtilTest.class,
         AllContextTests.class,
         SPIParsingHookTest.class,
-        ParseRuleRegistryTest.class
+        ParseRuleRegistryTest.class,
+        ParsingResultCacheTest.class,
+        SQLLiteralNormalizerTest.class,
+        SQLLiteralRestorerTest.class
 })
 public final class AllParseTests {
 }
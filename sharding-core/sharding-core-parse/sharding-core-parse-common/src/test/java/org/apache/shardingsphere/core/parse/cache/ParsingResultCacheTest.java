@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatementWithLoader() {
+        ParsingResultCache cache = new ParsingResultCache();
+        final SQLStatement sqlStatement = mock(SQLStatement.class);
+        Callable<SQLStatement> loader = new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return sqlStatement;
+            }
+        };
+        assertThat(cache.getSQLStatement("SELECT 1", loader), is(sqlStatement));
+        assertThat(cache.getSQLStatement("SELECT 1", loader), is(sqlStatement));
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+        assertThat(cache.getStats().loadSuccessCount(), is(1L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetSQLStatementWithFailureLoader() {
+        new ParsingResultCache().getSQLStatement("SELECT 1", new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                throw new IllegalStateException();
+            }
+        });
+    }
+    
+    @Test
+    public void assertEvictWhenSizeExceeded() {
+        ParsingResultCache cache = new ParsingResultCache(1L);
+        cache.put("SELECT 1", mock(SQLStatement.class));
+        cache.put("SELECT 2", mock(SQLStatement.class));
+        assertThat(cache.size(), is(1L));
+        assertNull(cache.getSQLStatement("SELECT 1"));
+        assertThat(cache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache cache = new ParsingResultCache();
+        cache.put("SELECT 1", mock(SQLStatement.class));
+        cache.clear();
+        assertNull(cache.getSQLStatement("SELECT 1"));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.normalize;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SQLLiteralNormalizerTest {
+    
+    @Test
+    public void assertNormalizeWhere() {
+        NormalizedSQL actual = new SQLLiteralNormalizer("SELECT * FROM t_order WHERE user_id = 10 AND status='init' AND order_id IN (1, 2)").normalize().get();
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status=? AND order_id IN (?, ?)"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(10, "init", 1, 2)));
+    }
+    
+    @Test
+    public void assertNormalizeBetweenAndLimit() {
+        NormalizedSQL actual = new SQLLiteralNormalizer("SELECT * FROM t_order WHERE order_id BETWEEN 1 AND 10000000000 ORDER BY 1 LIMIT 0, 10").normalize().get();
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE order_id BETWEEN ? AND ? ORDER BY 1 LIMIT ?, ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(1, 10000000000L, 0, 10)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertValues() {
+        NormalizedSQL actual = new SQLLiteralNormalizer("INSERT INTO t_order (user_id, status, price) VALUES (1, 'it''s', 1.5), (2, now(), -1)").normalize().get();
+        assertThat(actual.getSql(), is("INSERT INTO t_order (user_id, status, price) VALUES (?, ?, ?), (?, now(), -1)"));
+        assertThat(actual.getParameters().size(), is(4));
+        assertThat(actual.getParameters().get(1), is((Object) "it's"));
+    }
+    
+    @Test
+    public void assertNormalizeQuotedStringLiteral() {
+        NormalizedSQL actual = new SQLLiteralNormalizer("SELECT * FROM t_user WHERE name = 'O''Brien' AND remark = ''''").normalize().get();
+        assertThat(actual.getSql(), is("SELECT * FROM t_user WHERE name = ? AND remark = ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList("O'Brien", "'")));
+        assertThat(actual.getLiteralTexts().get(actual.getParameters().get(0)), is("'O''Brien'"));
+        assertThat(actual.getLiteralTexts().get(actual.getParameters().get(1)), is("''''"));
+    }
+    
+    @Test
+    public void assertNormalizeNumberLiteralWithOriginalText() {
+        NormalizedSQL actual = new SQLLiteralNormalizer("SELECT * FROM t_order WHERE user_id = 007 AND order_id = 7 AND price = 1e3").normalize().get();
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE user_id = 007 AND order_id = ? AND price = ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList(7, new BigDecimal("1e3"))));
+        assertThat(actual.getLiteralTexts().size(), is(1));
+        assertFalse(actual.getLiteralTexts().containsKey(actual.getParameters().get(0)));
+        assertThat(actual.getLiteralTexts().get(actual.getParameters().get(1)), is("1e3"));
+    }
+    
+    @Test
+    public void assertNormalizeUpdate() {
+        NormalizedSQL actual = new SQLLiteralNormalizer("UPDATE t_order SET status = 'done', version = version + 1 WHERE order_id = 1").normalize().get();
+        assertThat(actual.getSql(), is("UPDATE t_order SET status = ?, version = version + 1 WHERE order_id = ?"));
+        assertThat(actual.getParameters(), is(Arrays.<Object>asList("done", 1)));
+    }
+    
+    @Test
+    public void assertNotNormalizeSelectItems() {
+        assertFalse(new SQLLiteralNormalizer("SELECT 1, 'a' FROM t_order").normalize().isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeNonDML() {
+        assertFalse(new SQLLiteralNormalizer("SET autocommit = 1").normalize().isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeWithParameterMarker() {
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE user_id = ? AND order_id = 1").normalize().isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeWithComment() {
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE user_id = 1 /* comment */").normalize().isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeWithBackslash() {
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE status = 'a\\'b'").normalize().isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeLiteralInExpression() {
+        NormalizedSQL actual = new SQLLiteralNormalizer("SELECT * FROM t_order WHERE user_id = 1 + 1 AND status = _utf8'a' AND order_id = 2").normalize().get();
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE user_id = 1 + 1 AND status = _utf8'a' AND order_id = ?"));
+        assertThat(actual.getParameters(), is(Collections.<Object>singletonList(2)));
+    }
+}
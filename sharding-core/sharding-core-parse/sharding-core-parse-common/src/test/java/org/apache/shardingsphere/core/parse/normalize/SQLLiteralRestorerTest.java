@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.normalize;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLLiteralRestorerTest {
+    
+    @Test
+    public void assertRestore() {
+        assertThat(SQLLiteralRestorer.restore("SELECT '?' FROM t_order_0 WHERE user_id = ? AND status = ? AND price = ? AND remark = ?",
+                Arrays.<Object>asList(10, "it's", 1.5, null), Collections.<Object, String>emptyMap()),
+                is("SELECT '?' FROM t_order_0 WHERE user_id = 10 AND status = 'it''s' AND price = 1.5 AND remark = NULL"));
+    }
+    
+    @Test
+    public void assertRestoreWithNormalizedLiterals() {
+        NormalizedSQL normalizedSQL = new SQLLiteralNormalizer("SELECT * FROM t_user WHERE name = 'O''Brien' AND user_id = 007 AND price = 1e3").normalize().get();
+        assertThat(SQLLiteralRestorer.restore(normalizedSQL.getSql(), normalizedSQL.getParameters(), normalizedSQL.getLiteralTexts()),
+                is("SELECT * FROM t_user WHERE name = 'O''Brien' AND user_id = 007 AND price = 1e3"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRestoreWithLessParameters() {
+        SQLLiteralRestorer.restore("SELECT * FROM t_order_0 WHERE user_id = ?", Collections.emptyList(), Collections.<Object, String>emptyMap());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRestoreWithMoreParameters() {
+        SQLLiteralRestorer.restore("SELECT * FROM t_order_0", Collections.<Object>singletonList(1), Collections.<Object, String>emptyMap());
+    }
+}
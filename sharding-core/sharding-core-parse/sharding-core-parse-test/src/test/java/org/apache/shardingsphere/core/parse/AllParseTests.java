@@ -19,6 +19,8 @@ package org.apache.shardingsphere.core.parse;
 
 import org.apache.shardingsphere.core.parse.ddl.IntegrateDDLParsingCompatibleTest;
 import org.apache.shardingsphere.core.parse.integrate.AllParsingIntegrateTests;
+import org.apache.shardingsphere.core.parse.parser.SQLParserExecutorTest;
+import org.apache.shardingsphere.core.parse.parser.SQLParserPoolTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -26,6 +28,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         SQLParseEngineTest.class,
+        SQLParserExecutorTest.class,
+        SQLParserPoolTest.class,
         IntegrateDDLParsingCompatibleTest.class,
         AllParsingIntegrateTests.class,
         EncryptIntegrateParsingTest.class
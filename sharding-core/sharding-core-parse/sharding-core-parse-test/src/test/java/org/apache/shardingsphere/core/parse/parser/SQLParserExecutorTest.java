@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserExecutorTest {
+    
+    @Test
+    public void assertExecuteRepeatedly() {
+        assertThat(new SQLParserExecutor(DatabaseType.MySQL, "SELECT * FROM t_order").execute().getText(), is("SELECT*FROMt_order"));
+        assertThat(new SQLParserExecutor(DatabaseType.MySQL, "SELECT * FROM t_order_item").execute().getText(), is("SELECT*FROMt_order_item"));
+    }
+    
+    @Test
+    public void assertExecuteWithDifferentDatabaseTypes() {
+        assertThat(new SQLParserExecutor(DatabaseType.MySQL, "SELECT * FROM t_order").execute().getText(), is("SELECT*FROMt_order"));
+        assertThat(new SQLParserExecutor(DatabaseType.H2, "SELECT * FROM t_order").execute().getText(), is("SELECT*FROMt_order"));
+    }
+    
+    @Test
+    public void assertExecuteWithLLFallback() {
+        ParserRuleContext actual = new SQLParserExecutor(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id BETWEEN 1 AND 10").execute();
+        assertThat(actual.getText(), is("SELECT*FROMt_orderWHEREorder_idBETWEEN1AND10"));
+        assertFalse(containsErrorNode(actual));
+    }
+    
+    @Test
+    public void assertExecuteAfterSyntaxError() {
+        assertTrue(containsErrorNode(new SQLParserExecutor(DatabaseType.MySQL, "SELECT * FROM WHERE ,").execute()));
+        ParserRuleContext actual = new SQLParserExecutor(DatabaseType.MySQL, "SELECT * FROM t_order").execute();
+        assertFalse(containsErrorNode(actual));
+        assertThat(actual.getText(), is("SELECT*FROMt_order"));
+    }
+    
+    @Test
+    public void assertExecuteConcurrently() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Callable<String>> tasks = new ArrayList<>(16);
+            for (int i = 0; i < 16; i++) {
+                final String sql = "SELECT * FROM t_order_" + i;
+                tasks.add(new Callable<String>() {
+                    
+                    @Override
+                    public String call() {
+                        return new SQLParserExecutor(DatabaseType.MySQL, sql).execute().getText();
+                    }
+                });
+            }
+            List<Future<String>> actual = executorService.invokeAll(tasks);
+            for (int i = 0; i < actual.size(); i++) {
+                assertThat(actual.get(i).get(), is("SELECT*FROMt_order_" + i));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private boolean containsErrorNode(final ParseTree parseTree) {
+        if (parseTree instanceof ErrorNode) {
+            return true;
+        }
+        for (int i = 0; i < parseTree.getChildCount(); i++) {
+            if (containsErrorNode(parseTree.getChild(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
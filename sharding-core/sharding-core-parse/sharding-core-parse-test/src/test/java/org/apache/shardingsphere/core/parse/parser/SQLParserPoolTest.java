@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.parser;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserPoolTest {
+    
+    private final SQLParserPool sqlParserPool = new SQLParserPool(1);
+    
+    @Test
+    public void assertAcquireReleasedParser() {
+        SQLParser sqlParser = sqlParserPool.acquire(DatabaseType.MySQL);
+        assertTrue(sqlParserPool.release(DatabaseType.MySQL, sqlParser));
+        assertThat(sqlParserPool.acquire(DatabaseType.MySQL), sameInstance(sqlParser));
+        assertThat(sqlParserPool.getIdleSize(DatabaseType.MySQL), is(0));
+    }
+    
+    @Test
+    public void assertAcquireWithDifferentDatabaseTypes() {
+        SQLParser sqlParser = sqlParserPool.acquire(DatabaseType.MySQL);
+        sqlParserPool.release(DatabaseType.MySQL, sqlParser);
+        assertThat(sqlParserPool.acquire(DatabaseType.H2), not(sameInstance(sqlParser)));
+    }
+    
+    @Test
+    public void assertReleaseWhenMaxIdleSizeReached() {
+        SQLParser sqlParser = sqlParserPool.acquire(DatabaseType.MySQL);
+        SQLParser anotherSQLParser = sqlParserPool.acquire(DatabaseType.MySQL);
+        assertTrue(sqlParserPool.release(DatabaseType.MySQL, sqlParser));
+        assertFalse(sqlParserPool.release(DatabaseType.MySQL, anotherSQLParser));
+        assertThat(sqlParserPool.getIdleSize(DatabaseType.MySQL), is(1));
+    }
+}
@@ -72,8 +72,12 @@ public final class SQLRewriteEngine {
     private final List<SQLToken> sqlTokens = new LinkedList<>();
     
     public SQLRewriteEngine(final ShardingRule shardingRule, final DatabaseType databaseType, final SQLRouteResult sqlRouteResult, final List<Object> parameters) {
+        this(shardingRule, databaseType, sqlRouteResult, parameters, generateSQLTokens(sqlRouteResult.getSqlStatement(), shardingRule));
+    }
+    
+    public SQLRewriteEngine(final ShardingRule shardingRule, final DatabaseType databaseType, final SQLRouteResult sqlRouteResult, final List<Object> parameters, final List<SQLToken> sqlTokens) {
         this(shardingRule, databaseType, sqlRouteResult, sqlRouteResult.getSqlStatement(), new SQLBuilder(), new ParameterBuilder(parameters));
-        sqlTokens.addAll(generateSQLTokens(shardingRule));
+        this.sqlTokens.addAll(sqlTokens);
         pattern(sqlRouteResult.getOptimizeResult());
     }
     
@@ -89,9 +93,22 @@ public final class SQLRewriteEngine {
         pattern(null);
     }
     
+    /**
+     * Generate SQL tokens for sharding rule.
+     * 
+     * <p>SQL tokens only depend on SQL statement and sharding rule, so they can be generated once and reused for same SQL statement.</p>
+     * 
+     * @param sqlStatement SQL statement
+     * @param shardingRule sharding rule
+     * @return SQL tokens
+     */
+    public static List<SQLToken> generateSQLTokens(final SQLStatement sqlStatement, final ShardingRule shardingRule) {
+        return new ShardingTokenGenerateEngine().generateSQLTokens(sqlStatement, shardingRule);
+    }
+    
     private Collection<SQLToken> generateSQLTokens(final BaseRule baseRule) {
         if (baseRule instanceof ShardingRule) {
-            return new ShardingTokenGenerateEngine().generateSQLTokens(sqlStatement, (ShardingRule) baseRule);
+            return generateSQLTokens(sqlStatement, (ShardingRule) baseRule);
         }
         return sqlStatement.getSQLTokens();
     }
@@ -21,8 +21,8 @@ import org.apache.shardingsphere.core.rewrite.placeholder.Alterable;
 import org.apache.shardingsphere.core.rewrite.placeholder.ShardingPlaceholder;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -36,12 +36,16 @@ import java.util.Map;
  */
 public final class SQLBuilder {
     
+    private static final int ESTIMATED_PLACEHOLDER_LENGTH = 16;
+    
     private final List<Object> segments;
     
     private StringBuilder currentSegment;
     
+    private int literalsLength;
+    
     public SQLBuilder() {
-        segments = new LinkedList<>();
+        segments = new ArrayList<>();
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
     }
@@ -53,6 +57,7 @@ public final class SQLBuilder {
      */
     public void appendLiterals(final String literals) {
         currentSegment.append(literals);
+        literalsLength += literals.length();
     }
     
     /**
@@ -72,7 +77,7 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL() {
-        StringBuilder result = new StringBuilder();
+        StringBuilder result = new StringBuilder(getEstimatedLength());
         for (Object each : segments) {
             if (each instanceof Alterable) {
                 result.append(((Alterable) each).toString(null, Collections.<String, String>emptyMap()));
@@ -91,7 +96,7 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
+        StringBuilder result = new StringBuilder(getEstimatedLength());
         for (Object each : segments) {
             if (each instanceof Alterable) {
                 result.append(((Alterable) each).toString(routingUnit, logicAndActualTables));
@@ -101,4 +106,8 @@ public final class SQLBuilder {
         }
         return result.toString();
     }
+    
+    private int getEstimatedLength() {
+        return literalsLength + segments.size() * ESTIMATED_PLACEHOLDER_LENGTH;
+    }
 }
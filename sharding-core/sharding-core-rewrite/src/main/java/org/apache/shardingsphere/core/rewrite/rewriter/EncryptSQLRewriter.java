@@ -85,28 +85,26 @@ public final class EncryptSQLRewriter implements SQLRewriter {
         if (!insertOptimizeResult.isPresent()) {
             return null;
         }
-        for (InsertOptimizeResultUnit each : insertOptimizeResult.get().getUnits()) {
-            encryptInsertOptimizeResultUnit(each, insertOptimizeResult.get().getColumnNames());
-        }
-        return insertOptimizeResult.get();
-    }
-    
-    private void encryptInsertOptimizeResultUnit(final InsertOptimizeResultUnit unit, final Collection<String> columnNames) {
-        for (String each : columnNames) {
+        for (String each : insertOptimizeResult.get().getColumnNames()) {
             Optional<ShardingEncryptor> shardingEncryptor = encryptorEngine.getShardingEncryptor(sqlStatement.getTables().getSingleTableName(), each);
             if (shardingEncryptor.isPresent()) {
-                encryptInsertOptimizeResult(unit, each, shardingEncryptor.get());
+                encryptInsertOptimizeResultUnits(insertOptimizeResult.get().getUnits(), each, shardingEncryptor.get());
             }
         }
+        return insertOptimizeResult.get();
     }
     
-    private void encryptInsertOptimizeResult(final InsertOptimizeResultUnit unit, final String columnName, final ShardingEncryptor shardingEncryptor) {
+    private void encryptInsertOptimizeResultUnits(final List<InsertOptimizeResultUnit> units, final String columnName, final ShardingEncryptor shardingEncryptor) {
         if (shardingEncryptor instanceof ShardingQueryAssistedEncryptor) {
             Optional<String> assistedColumnName = encryptorEngine.getAssistedQueryColumn(sqlStatement.getTables().getSingleTableName(), columnName);
             Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
-            unit.setColumnValue(assistedColumnName.get(), ((ShardingQueryAssistedEncryptor) shardingEncryptor).queryAssistedEncrypt(unit.getColumnValue(columnName).toString()));
+            for (InsertOptimizeResultUnit each : units) {
+                each.setColumnValue(assistedColumnName.get(), ((ShardingQueryAssistedEncryptor) shardingEncryptor).queryAssistedEncrypt(each.getColumnValue(columnName).toString()));
+            }
+        }
+        for (InsertOptimizeResultUnit each : units) {
+            each.setColumnValue(columnName, shardingEncryptor.encrypt(each.getColumnValue(columnName)));
         }
-        unit.setColumnValue(columnName, shardingEncryptor.encrypt(unit.getColumnValue(columnName)));
     }
     
     @Override
@@ -42,6 +42,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.core.parse.sql.token.SQLToken;
 import org.apache.shardingsphere.core.parse.sql.token.impl.AggregationDistinctToken;
 import org.apache.shardingsphere.core.parse.sql.token.impl.EncryptColumnToken;
 import org.apache.shardingsphere.core.parse.sql.token.impl.IndexToken;
@@ -144,6 +145,23 @@ public final class ShardingSQLRewriterTest {
         assertThat(getSQLBuilder(rewriteEngine).toSQL(null, tableTokens), is("SELECT table_1.id, x.name FROM table_1 x WHERE table_1.id=? AND x.name=?"));
     }
     
+    @Test
+    public void assertRewriteForTableNameWithGeneratedSQLTokens() {
+        selectStatement.addSQLToken(new TableToken(7, 13, "table_x", QuoteCharacter.NONE));
+        selectStatement.addSQLToken(new TableToken(31, 37, "table_x", QuoteCharacter.NONE));
+        selectStatement.addSQLToken(new TableToken(47, 53, "table_x", QuoteCharacter.NONE));
+        routeResult = new SQLRouteResult(selectStatement);
+        routeResult.setLimit(selectStatement.getLimit());
+        routeResult.setRoutingResult(new RoutingResult());
+        selectStatement.setLogicSQL("SELECT table_x.id, x.name FROM table_x x WHERE table_x.id=? AND x.name=?");
+        List<SQLToken> sqlTokens = SQLRewriteEngine.generateSQLTokens(selectStatement, shardingRule);
+        SQLRewriteEngine firstRewriteEngine = new SQLRewriteEngine(shardingRule, DatabaseType.MySQL, routeResult, Arrays.<Object>asList(1, "x"), sqlTokens);
+        SQLRewriteEngine secondRewriteEngine = new SQLRewriteEngine(shardingRule, DatabaseType.MySQL, routeResult, Arrays.<Object>asList(2, "y"), sqlTokens);
+        assertThat(getSQLBuilder(firstRewriteEngine).toSQL(null, tableTokens), is("SELECT table_1.id, x.name FROM table_1 x WHERE table_1.id=? AND x.name=?"));
+        assertThat(getSQLBuilder(secondRewriteEngine).toSQL(null, tableTokens), is("SELECT table_1.id, x.name FROM table_1 x WHERE table_1.id=? AND x.name=?"));
+        assertThat(getParameterBuilder(secondRewriteEngine).getParameters(), is(Arrays.<Object>asList(2, "y")));
+    }
+    
     @Test
     public void assertRewriteForOrderByAndGroupByDerivedColumns() {
         selectStatement.addSQLToken(new TableToken(18, 24, "table_x", QuoteCharacter.NONE));
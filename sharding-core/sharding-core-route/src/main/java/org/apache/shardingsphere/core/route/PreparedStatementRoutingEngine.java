@@ -21,6 +21,7 @@ import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactory;
@@ -45,16 +46,24 @@ public final class PreparedStatementRoutingEngine {
     private SQLStatement sqlStatement;
     
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, 
-                                          final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+                                          final ShardingMetaData shardingMetaData, final DatabaseType databaseType, 
+                                          final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
+        this(logicSQL, null, shardingRule, shardingMetaData, databaseType, parsingResultCache, routingResultCache);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final SQLStatement sqlStatement, final ShardingRule shardingRule, 
+                                          final ShardingMetaData shardingMetaData, final DatabaseType databaseType, 
+                                          final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
         this.logicSQL = logicSQL;
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+        this.sqlStatement = sqlStatement;
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, routingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
     /**
      * SQL route.
      * 
-     * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
+     * <p>First routing time will parse SQL if SQL statement is not given, after second time will reuse first parsed result.</p>
      * 
      * @param parameters parameters of SQL placeholder
      * @return route result
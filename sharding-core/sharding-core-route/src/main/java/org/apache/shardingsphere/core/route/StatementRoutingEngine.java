@@ -21,12 +21,14 @@ import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouter;
 import org.apache.shardingsphere.core.route.router.sharding.ShardingRouterFactory;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
@@ -41,8 +43,8 @@ public final class StatementRoutingEngine {
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
-                                  final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+                                  final DatabaseType databaseType, final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, parsingResultCache, routingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
@@ -56,4 +58,18 @@ public final class StatementRoutingEngine {
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    /**
+     * SQL route with literal normalized SQL.
+     * 
+     * <p>Parsing result of literal normalized SQL will be cached.</p>
+     *
+     * @param normalizedSQL literal normalized SQL
+     * @param parameters literal values as parameters
+     * @return route result
+     */
+    public SQLRouteResult route(final String normalizedSQL, final List<Object> parameters) {
+        SQLStatement sqlStatement = shardingRouter.parse(normalizedSQL, true);
+        return masterSlaveRouter.route(shardingRouter.route(normalizedSQL, parameters, sqlStatement));
+    }
 }
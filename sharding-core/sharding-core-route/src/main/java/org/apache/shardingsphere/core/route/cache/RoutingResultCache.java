@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Routing result cache.
+ * 
+ * <p>
+ * Cache routed data nodes by logic table and sharding values, only list sharding values can be cached.
+ * Cache is held with sharding rule by runtime context, and should be replaced when sharding rule replaced.
+ * Cache is disabled if max size is not greater than 0.
+ * </p>
+ */
+public final class RoutingResultCache {
+    
+    private final Cache<CacheKey, Collection<DataNode>> cache;
+    
+    private final boolean enabled;
+    
+    public RoutingResultCache() {
+        this(0L);
+    }
+    
+    public RoutingResultCache(final long maxSize) {
+        enabled = maxSize > 0;
+        cache = CacheBuilder.newBuilder().maximumSize(Math.max(maxSize, 0L)).concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats().build();
+    }
+    
+    /**
+     * Judge whether cache is enabled.
+     * 
+     * @return cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get routed data nodes.
+     * 
+     * @param logicTableName logic table name
+     * @param databaseShardingValues database sharding values
+     * @param tableShardingValues table sharding values
+     * @return routed data nodes
+     */
+    public Optional<Collection<DataNode>> getDataNodes(final String logicTableName, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        if (!enabled) {
+            return Optional.absent();
+        }
+        Optional<CacheKey> cacheKey = createCacheKey(logicTableName, databaseShardingValues, tableShardingValues);
+        return cacheKey.isPresent() ? Optional.fromNullable(cache.getIfPresent(cacheKey.get())) : Optional.<Collection<DataNode>>absent();
+    }
+    
+    /**
+     * Put routed data nodes into cache.
+     * 
+     * @param logicTableName logic table name
+     * @param databaseShardingValues database sharding values
+     * @param tableShardingValues table sharding values
+     * @param dataNodes routed data nodes
+     */
+    public void put(final String logicTableName, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues, final Collection<DataNode> dataNodes) {
+        if (!enabled) {
+            return;
+        }
+        Optional<CacheKey> cacheKey = createCacheKey(logicTableName, databaseShardingValues, tableShardingValues);
+        if (cacheKey.isPresent()) {
+            cache.put(cacheKey.get(), Collections.unmodifiableList(new ArrayList<>(dataNodes)));
+        }
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get size of cache.
+     * 
+     * @return cache size
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    private Optional<CacheKey> createCacheKey(final String logicTableName, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        Optional<List<List<Object>>> databaseKey = createCacheKey(databaseShardingValues);
+        if (!databaseKey.isPresent()) {
+            return Optional.absent();
+        }
+        Optional<List<List<Object>>> tableKey = createCacheKey(tableShardingValues);
+        return tableKey.isPresent() ? Optional.of(new CacheKey(logicTableName, databaseKey.get(), tableKey.get())) : Optional.<CacheKey>absent();
+    }
+    
+    private Optional<List<List<Object>>> createCacheKey(final List<RouteValue> shardingValues) {
+        List<List<Object>> result = new ArrayList<>(shardingValues.size());
+        for (RouteValue each : shardingValues) {
+            if (!(each instanceof ListRouteValue)) {
+                return Optional.absent();
+            }
+            List<Object> routeValueKey = new ArrayList<>(((ListRouteValue<?>) each).getValues().size() + 2);
+            routeValueKey.add(each.getTableName());
+            routeValueKey.add(each.getColumnName());
+            routeValueKey.addAll(((ListRouteValue<?>) each).getValues());
+            result.add(routeValueKey);
+        }
+        return Optional.of(result);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String logicTableName;
+        
+        private final List<List<Object>> databaseShardingValues;
+        
+        private final List<List<Object>> tableShardingValues;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.dal.dialect.mysql.stat
 import org.apache.shardingsphere.core.parse.sql.statement.dal.dialect.mysql.statement.UseStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.dialect.postgresql.statement.ResetParameterStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.dialect.postgresql.statement.SetStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.broadcast.DataSourceGroupBroadcastRoutingEngine;
 import org.apache.shardingsphere.core.route.type.broadcast.DatabaseBroadcastRoutingEngine;
@@ -56,10 +57,11 @@ public final class RoutingEngineFactory {
      * @param shardingDataSourceMetaData sharding data source meta data
      * @param sqlStatement sql statement
      * @param optimizeResult optimize result
+     * @param routingResultCache routing result cache
      * @return new instance of routing engine
      */
-    public static RoutingEngine newInstance(final ShardingRule shardingRule,
-                                            final ShardingDataSourceMetaData shardingDataSourceMetaData, final SQLStatement sqlStatement, final OptimizeResult optimizeResult) {
+    public static RoutingEngine newInstance(final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                            final SQLStatement sqlStatement, final OptimizeResult optimizeResult, final RoutingResultCache routingResultCache) {
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         if (SQLType.TCL == sqlStatement.getType()) {
             return new DatabaseBroadcastRoutingEngine(shardingRule);
@@ -84,10 +86,10 @@ public final class RoutingEngineFactory {
         }
         Collection<String> shardingTableNames = shardingRule.getShardingLogicTableNames(tableNames);
         if (1 == shardingTableNames.size() || shardingRule.isAllBindingTables(shardingTableNames)) {
-            return new StandardRoutingEngine(sqlStatement, shardingRule, shardingTableNames.iterator().next(), optimizeResult);
+            return new StandardRoutingEngine(sqlStatement, shardingRule, shardingTableNames.iterator().next(), optimizeResult, routingResultCache);
         }
         // TODO config for cartesian set
-        return new ComplexRoutingEngine(sqlStatement, shardingRule, tableNames, optimizeResult);
+        return new ComplexRoutingEngine(sqlStatement, shardingRule, tableNames, optimizeResult, routingResultCache);
     }
     
     private static RoutingEngine getDALRoutingEngine(final ShardingRule shardingRule, final SQLStatement sqlStatement, final Collection<String> tableNames) {
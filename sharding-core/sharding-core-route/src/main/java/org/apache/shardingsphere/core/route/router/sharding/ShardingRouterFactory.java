@@ -23,6 +23,7 @@ import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 /**
@@ -41,10 +42,12 @@ public final class ShardingRouterFactory {
      * @param shardingMetaData sharding meta data
      * @param databaseType database type
      * @param parsingResultCache parsing result cache
+     * @param routingResultCache routing result cache
      * @return sharding router instance
      */
-    public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final ParsingResultCache parsingResultCache) {
+    public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, 
+                                             final ParsingResultCache parsingResultCache, final RoutingResultCache routingResultCache) {
         return HintManager.isDatabaseShardingOnly()
-                ? new DatabaseHintSQLRouter(databaseType, shardingRule) : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, parsingResultCache);
+                ? new DatabaseHintSQLRouter(databaseType, shardingRule) : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, parsingResultCache, routingResultCache);
     }
 }
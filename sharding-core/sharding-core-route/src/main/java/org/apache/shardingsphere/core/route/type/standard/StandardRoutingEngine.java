@@ -26,6 +26,7 @@ import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.optimize.result.insert.InsertOptimizeResultUnit;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.type.RoutingEngine;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
@@ -65,7 +66,9 @@ public final class StandardRoutingEngine implements RoutingEngine {
     private final String logicTableName;
     
     private final OptimizeResult optimizeResult;
-   
+    
+    private final RoutingResultCache routingResultCache;
+    
     @Override
     public RoutingResult route() {
         return generateRoutingResult(getDataNodes(shardingRule.getTableRule(logicTableName)));
@@ -177,6 +180,19 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> route(final TableRule tableRule, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        if (!routingResultCache.isEnabled()) {
+            return routeWithoutCache(tableRule, databaseShardingValues, tableShardingValues);
+        }
+        Optional<Collection<DataNode>> cachedDataNodes = routingResultCache.getDataNodes(logicTableName, databaseShardingValues, tableShardingValues);
+        if (cachedDataNodes.isPresent()) {
+            return cachedDataNodes.get();
+        }
+        Collection<DataNode> result = routeWithoutCache(tableRule, databaseShardingValues, tableShardingValues);
+        routingResultCache.put(logicTableName, databaseShardingValues, tableShardingValues, result);
+        return result;
+    }
+    
+    private Collection<DataNode> routeWithoutCache(final TableRule tableRule, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
         Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingValues);
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedDataSources) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.route;
 
+import org.apache.shardingsphere.core.route.cache.RoutingResultCacheTest;
 import org.apache.shardingsphere.core.route.router.DatabaseHintSQLRouterTest;
 import org.apache.shardingsphere.core.route.type.broadcast.DatabaseBroadcastRoutingEngineTest;
 import org.apache.shardingsphere.core.route.type.broadcast.TableBroadcastRoutingEngineTest;
@@ -41,7 +42,8 @@ import org.junit.runners.Suite.SuiteClasses;
         IgnoreRoutingEngineTest.class,
         StandardRoutingEngineTest.class,
         SubqueryRouteTest.class,
-        SQLRouteTest.class
+        SQLRouteTest.class,
+        RoutingResultCacheTest.class
 })
 public final class AllRoutingTests {
 }
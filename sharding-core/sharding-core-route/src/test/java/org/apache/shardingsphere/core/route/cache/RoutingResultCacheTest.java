@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.cache;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.strategy.route.value.BetweenRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class RoutingResultCacheTest {
+    
+    private final List<RouteValue> databaseShardingValues = Collections.<RouteValue>singletonList(new ListRouteValue<>("user_id", "t_order", Collections.singleton(1)));
+    
+    private final List<RouteValue> tableShardingValues = Collections.<RouteValue>singletonList(new ListRouteValue<>("order_id", "t_order", Collections.singleton(2)));
+    
+    @Test
+    public void assertDisabledCache() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(0L);
+        assertFalse(routingResultCache.isEnabled());
+        routingResultCache.put("t_order", databaseShardingValues, tableShardingValues, Collections.singletonList(new DataNode("ds_1", "t_order_0")));
+        assertThat(routingResultCache.size(), is(0L));
+        assertFalse(routingResultCache.getDataNodes("t_order", databaseShardingValues, tableShardingValues).isPresent());
+    }
+    
+    @Test
+    public void assertGetDataNodes() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        routingResultCache.put("t_order", databaseShardingValues, tableShardingValues, Collections.singletonList(new DataNode("ds_1", "t_order_0")));
+        Collection<DataNode> actual = routingResultCache.getDataNodes("t_order", 
+                Collections.<RouteValue>singletonList(new ListRouteValue<>("user_id", "t_order", Collections.singletonList(1))), tableShardingValues).get();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getDataSourceName(), is("ds_1"));
+        assertThat(actual.iterator().next().getTableName(), is("t_order_0"));
+    }
+    
+    @Test
+    public void assertGetDataNodesWithDifferentShardingValues() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        routingResultCache.put("t_order", databaseShardingValues, tableShardingValues, Collections.singletonList(new DataNode("ds_1", "t_order_0")));
+        assertFalse(routingResultCache.getDataNodes("t_order", databaseShardingValues, Collections.<RouteValue>emptyList()).isPresent());
+        assertFalse(routingResultCache.getDataNodes("t_order_item", databaseShardingValues, tableShardingValues).isPresent());
+        assertFalse(routingResultCache.getDataNodes("t_order", 
+                Collections.<RouteValue>singletonList(new ListRouteValue<>("user_id", "t_order", Collections.singleton(2))), tableShardingValues).isPresent());
+    }
+    
+    @Test
+    public void assertNotCacheRangeShardingValues() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        List<RouteValue> rangeShardingValues = Collections.<RouteValue>singletonList(new BetweenRouteValue<>("order_id", "t_order", Range.closed(1, 2)));
+        routingResultCache.put("t_order", databaseShardingValues, rangeShardingValues, Collections.singletonList(new DataNode("ds_1", "t_order_0")));
+        assertThat(routingResultCache.size(), is(0L));
+        assertFalse(routingResultCache.getDataNodes("t_order", databaseShardingValues, rangeShardingValues).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        routingResultCache.put("t_order", databaseShardingValues, tableShardingValues, Collections.singletonList(new DataNode("ds_1", "t_order_0")));
+        routingResultCache.clear();
+        assertThat(routingResultCache.size(), is(0L));
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.optimize.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.condition.ShardingConditions;
 import org.apache.shardingsphere.core.optimize.result.OptimizeResult;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -44,6 +45,10 @@ import static org.mockito.Mockito.mock;
 
 public final class StandardRoutingEngineTest {
     
+    private ShardingRule shardingRule;
+    
+    private OptimizeResult optimizeResult;
+    
     private StandardRoutingEngine standardRoutingEngine;
     
     @Before
@@ -59,8 +64,9 @@ public final class StandardRoutingEngineTest {
         shardingCondition.getShardingValues().add(shardingValue1);
         shardingCondition.getShardingValues().add(shardingValue2);
         shardingConditions.add(shardingCondition);
-        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
-        standardRoutingEngine = new StandardRoutingEngine(mock(SQLStatement.class), shardingRule, "t_order", new OptimizeResult(new ShardingConditions(shardingConditions)));
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+        optimizeResult = new OptimizeResult(new ShardingConditions(shardingConditions));
+        standardRoutingEngine = new StandardRoutingEngine(mock(SQLStatement.class), shardingRule, "t_order", optimizeResult, new RoutingResultCache());
     }
     
     @Test
@@ -74,4 +80,18 @@ public final class StandardRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
     }
+    
+    @Test
+    public void assertRouteWithRoutingResultCache() {
+        RoutingResultCache routingResultCache = new RoutingResultCache(16L);
+        StandardRoutingEngine cachedRoutingEngine = new StandardRoutingEngine(mock(SQLStatement.class), shardingRule, "t_order", optimizeResult, routingResultCache);
+        RoutingResult routingResult = cachedRoutingEngine.route();
+        assertThat(routingResultCache.size(), is(1L));
+        RoutingResult cachedRoutingResult = cachedRoutingEngine.route();
+        assertThat(routingResultCache.getStats().hitCount(), is(1L));
+        assertThat(cachedRoutingResult.getRoutingUnits().size(), is(routingResult.getRoutingUnits().size()));
+        RoutingUnit routingUnit = cachedRoutingResult.getRoutingUnits().iterator().next();
+        assertThat(routingUnit.getDataSourceName(), is("ds_1"));
+        assertThat(routingUnit.getTableUnits().get(0).getActualTableName(), is("t_order_1"));
+    }
 }
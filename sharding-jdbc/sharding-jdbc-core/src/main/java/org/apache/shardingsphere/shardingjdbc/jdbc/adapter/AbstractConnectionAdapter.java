@@ -271,7 +271,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
@@ -17,17 +17,26 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core;
 
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshot;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 
@@ -35,7 +44,10 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -46,6 +58,7 @@ import java.util.Properties;
  * @author gaohongtao
  * @author panjuan
  */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public final class ShardingContext implements AutoCloseable {
     
@@ -63,20 +76,117 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ParsingResultCache parsingResultCache;
     
+    private final RoutingResultCache routingResultCache;
+    
+    @Getter(AccessLevel.NONE)
+    private final ExecuteEngineReference executeEngineReference;
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props) throws SQLException {
         this.shardingRule = shardingRule;
-        this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
+        this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap, shardingRule);
         this.databaseType = databaseType;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
         executeEngine = new ShardingExecuteEngine(executorSize);
-        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData).load(shardingRule));
+        executeEngineReference = new ExecuteEngineReference(executeEngine);
+        Map<String, String> dataSourceURLs = getDataSourceURLs(dataSourceMap);
+        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType);
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(dataSourceMap, dataSourceURLs, shardingDataSourceMetaData);
         metaData = new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
+        routingResultCache = new RoutingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.ROUTING_RESULT_CACHE_SIZE));
+    }
+    
+    /**
+     * Renew sharding context with changed properties.
+     * 
+     * <p>
+     * Sharding rule and table meta data are reused.
+     * Execute engine, parsing result cache and routing result cache are reused unless their properties changed,
+     * previous execute engine will be closed after all connections retained it are closed if it is replaced.
+     * </p>
+     *
+     * @param props changed properties
+     * @return renewed sharding context
+     */
+    public ShardingContext renew(final Properties props) {
+        ShardingProperties renewedShardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        ShardingExecuteEngine renewedExecuteEngine = executeEngine;
+        ExecuteEngineReference renewedExecuteEngineReference = executeEngineReference;
+        if (isChanged(renewedShardingProperties, ShardingPropertiesConstant.EXECUTOR_SIZE)) {
+            renewedExecuteEngine = new ShardingExecuteEngine(renewedShardingProperties.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
+            renewedExecuteEngineReference = new ExecuteEngineReference(renewedExecuteEngine);
+            executeEngineReference.retire();
+        }
+        ParsingResultCache renewedParsingResultCache = parsingResultCache;
+        if (isChanged(renewedShardingProperties, ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE) 
+                || isChanged(renewedShardingProperties, ShardingPropertiesConstant.PARSING_LITERAL_NORMALIZE_ENABLED)) {
+            renewedParsingResultCache = new ParsingResultCache(renewedShardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
+        }
+        RoutingResultCache renewedRoutingResultCache = routingResultCache;
+        if (isChanged(renewedShardingProperties, ShardingPropertiesConstant.ROUTING_RESULT_CACHE_SIZE)) {
+            renewedRoutingResultCache = new RoutingResultCache(renewedShardingProperties.<Long>getValue(ShardingPropertiesConstant.ROUTING_RESULT_CACHE_SIZE));
+        }
+        return new ShardingContext(cachedDatabaseMetaData, shardingRule, databaseType, 
+                renewedExecuteEngine, renewedShardingProperties, metaData, renewedParsingResultCache, renewedRoutingResultCache, renewedExecuteEngineReference);
     }
     
-    private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
+    private boolean isChanged(final ShardingProperties renewedShardingProperties, final ShardingPropertiesConstant shardingPropertiesConstant) {
+        return !shardingProperties.getValue(shardingPropertiesConstant).equals(renewedShardingProperties.getValue(shardingPropertiesConstant));
+    }
+    
+    /**
+     * Renew sharding context with changed sharding rule.
+     * 
+     * <p>
+     * Execute engine and properties are reused, parsing result cache and routing result cache are recreated for changed sharding rule,
+     * table meta data are reloaded only for table rules whose actual data nodes changed.
+     * </p>
+     *
+     * @param dataSourceMap data source map
+     * @param shardingRule changed sharding rule
+     * @return renewed sharding context
+     * @throws SQLException SQL exception
+     */
+    public ShardingContext renew(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule) throws SQLException {
+        ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType);
+        ShardingTableMetaData shardingTableMetaData = renewShardingTableMetaData(getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData), shardingRule);
+        return new ShardingContext(createCachedDatabaseMetaData(dataSourceMap, shardingRule), shardingRule, databaseType, executeEngine, shardingProperties, 
+                new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData), 
+                new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE)),
+                new RoutingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.ROUTING_RESULT_CACHE_SIZE)), executeEngineReference);
+    }
+    
+    private ShardingTableMetaData renewShardingTableMetaData(final TableMetaDataInitializer tableMetaDataInitializer, final ShardingRule renewedShardingRule) {
+        Optional<String> actualDefaultDataSourceName = renewedShardingRule.findActualDefaultDataSourceName();
+        if (!shardingRule.findActualDefaultDataSourceName().equals(actualDefaultDataSourceName)) {
+            return new ShardingTableMetaData(tableMetaDataInitializer.load(renewedShardingRule));
+        }
+        Map<String, TableMetaData> tables = new HashMap<>(metaData.getTable().getTables());
+        Collection<String> changedLogicTableNames = new LinkedHashSet<>();
+        for (TableRule each : renewedShardingRule.getTableRules()) {
+            Optional<TableRule> tableRule = shardingRule.findTableRule(each.getLogicTable());
+            if (!tableRule.isPresent() || !tableRule.get().getActualDataNodes().equals(each.getActualDataNodes())) {
+                changedLogicTableNames.add(each.getLogicTable());
+            }
+        }
+        for (TableRule each : shardingRule.getTableRules()) {
+            if (!renewedShardingRule.findTableRule(each.getLogicTable()).isPresent()) {
+                tables.remove(each.getLogicTable());
+                if (actualDefaultDataSourceName.isPresent()) {
+                    changedLogicTableNames.add(each.getLogicTable());
+                }
+            }
+        }
+        for (Entry<String, TableMetaData> entry : tableMetaDataInitializer.load(changedLogicTableNames, renewedShardingRule).entrySet()) {
+            if (renewedShardingRule.findTableRule(entry.getKey()).isPresent() || !entry.getValue().getColumns().isEmpty()) {
+                tables.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new ShardingTableMetaData(tables);
+    }
+    
+    private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule) throws SQLException {
         try (Connection connection = dataSourceMap.values().iterator().next().getConnection()) {
             return new CachedDatabaseMetaData(connection.getMetaData(), dataSourceMap, shardingRule);
         }
@@ -96,14 +206,78 @@ public final class ShardingContext implements AutoCloseable {
         }
     }
     
+    private ShardingTableMetaData createShardingTableMetaData(
+            final Map<String, DataSource> dataSourceMap, final Map<String, String> dataSourceURLs, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+        TableMetaDataInitializer tableMetaDataInitializer = getTableMetaDataInitializer(dataSourceMap, shardingDataSourceMetaData);
+        String snapshotDirectory = shardingProperties.getValue(ShardingPropertiesConstant.TABLE_METADATA_SNAPSHOT_DIRECTORY);
+        return Strings.isNullOrEmpty(snapshotDirectory) ? new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule))
+                : tableMetaDataInitializer.load(shardingRule, new TableMetaDataSnapshot(snapshotDirectory, shardingRule, dataSourceURLs));
+    }
+    
     private TableMetaDataInitializer getTableMetaDataInitializer(final Map<String, DataSource> dataSourceMap, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         return new TableMetaDataInitializer(shardingDataSourceMetaData, executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap),
                 shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY),
                 shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
     }
     
+    /**
+     * Retain execute engine for connection.
+     */
+    public void retainExecuteEngine() {
+        executeEngineReference.retain();
+    }
+    
+    /**
+     * Release execute engine retained by connection.
+     * 
+     * <p>Execute engine replaced by renew will be closed when it is released by the last connection.</p>
+     */
+    public void releaseExecuteEngine() {
+        executeEngineReference.release();
+    }
+    
     @Override
     public void close() {
-        executeEngine.close();
+        executeEngineReference.close();
+    }
+    
+    /**
+     * Reference of execute engine shared by renewed sharding contexts and connections.
+     */
+    @RequiredArgsConstructor
+    private static final class ExecuteEngineReference {
+        
+        private final ShardingExecuteEngine executeEngine;
+        
+        private int referenceCount;
+        
+        private boolean retired;
+        
+        private boolean closed;
+        
+        synchronized void retain() {
+            referenceCount++;
+        }
+        
+        synchronized void release() {
+            referenceCount--;
+            if (retired && referenceCount <= 0) {
+                close();
+            }
+        }
+        
+        synchronized void retire() {
+            retired = true;
+            if (referenceCount <= 0) {
+                close();
+            }
+        }
+        
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                executeEngine.close();
+            }
+        }
     }
 }
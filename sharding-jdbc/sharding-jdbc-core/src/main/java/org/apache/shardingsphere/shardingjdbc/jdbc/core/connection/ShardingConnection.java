@@ -52,6 +52,7 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         super(shardingTransactionManagerEngine, transactionType);
         this.dataSourceMap = dataSourceMap;
         this.shardingContext = shardingContext;
+        shardingContext.retainExecuteEngine();
     }
     
     @Override
@@ -103,4 +104,16 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     public Statement createStatement(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) {
         return new ShardingStatement(this, resultSetType, resultSetConcurrency, resultSetHoldability);
     }
+    
+    @Override
+    public void close() throws SQLException {
+        boolean released = isClosed();
+        try {
+            super.close();
+        } finally {
+            if (!released) {
+                shardingContext.releaseExecuteEngine();
+            }
+        }
+    }
 }
@@ -41,7 +41,7 @@ import java.util.Properties;
 @Getter
 public class ShardingDataSource extends AbstractDataSourceAdapter {
     
-    private final ShardingContext shardingContext;
+    private volatile ShardingContext shardingContext;
     
     public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule) throws SQLException {
         this(dataSourceMap, shardingRule, new Properties());
@@ -59,6 +59,33 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         }
     }
     
+    /**
+     * Renew sharding rule.
+     * 
+     * <p>
+     * Connections got before renew still use previous sharding context.
+     * </p>
+     *
+     * @param shardingRule changed sharding rule
+     * @throws SQLException SQL exception
+     */
+    public final synchronized void renew(final ShardingRule shardingRule) throws SQLException {
+        shardingContext = shardingContext.renew(getDataSourceMap(), shardingRule);
+    }
+    
+    /**
+     * Renew properties.
+     *
+     * <p>
+     * Connections got before renew still use previous sharding context.
+     * </p>
+     *
+     * @param props changed properties
+     */
+    public final synchronized void renew(final Properties props) {
+        shardingContext = shardingContext.renew(props);
+    }
+    
     @Override
     public final ShardingConnection getConnection() {
         return new ShardingConnection(getDataSourceMap(), shardingContext, getShardingTransactionManagerEngine(), TransactionTypeHolder.get());
@@ -37,6 +37,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,4 +78,13 @@ public class SQLExecuteCallbackFactoryTest {
         sqlExecuteCallback.execute(units, true, null);
         verify(preparedStatement).execute();
     }
+    
+    @Test
+    public void assertGetDataSourceMetaDataOncePerDataSource() throws SQLException {
+        units.add(new StatementExecuteUnit(new RouteUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), preparedStatement, ConnectionMode.CONNECTION_STRICTLY));
+        SQLExecuteCallback sqlExecuteCallback = SQLExecuteCallbackFactory.getPreparedSQLExecuteCallback(DatabaseType.MySQL, true);
+        sqlExecuteCallback.execute(units, true, null);
+        verify(preparedStatement, times(2)).execute();
+        verify(connection).getMetaData();
+    }
 }
@@ -23,8 +23,13 @@ import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfigura
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.api.MasterSlaveDataSourceFactory;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.fixture.XAShardingTransactionManagerFixture;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -39,6 +44,8 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -48,7 +55,10 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -186,6 +196,77 @@ public final class ShardingDataSourceTest {
         assertThat(shardingConnection.getShardingTransactionManager() == null, is(true));
     }
     
+    @Test
+    public void assertRenewProperties() throws SQLException {
+        Map<String, DataSource> dataSourceMap = Collections.singletonMap("ds", mockDataSource("H2"));
+        ShardingDataSource shardingDataSource = createShardingDataSource(dataSourceMap);
+        ShardingContext shardingContext = shardingDataSource.getShardingContext();
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.SQL_SHOW.getKey(), Boolean.TRUE.toString());
+        shardingDataSource.renew(props);
+        ShardingContext actual = shardingDataSource.getShardingContext();
+        assertTrue(actual.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
+        assertThat(actual.getShardingRule(), sameInstance(shardingContext.getShardingRule()));
+        assertThat(actual.getExecuteEngine(), sameInstance(shardingContext.getExecuteEngine()));
+        assertThat(actual.getMetaData(), sameInstance(shardingContext.getMetaData()));
+        assertThat(actual.getParsingResultCache(), sameInstance(shardingContext.getParsingResultCache()));
+        assertThat(actual.getRoutingResultCache(), sameInstance(shardingContext.getRoutingResultCache()));
+    }
+    
+    @Test
+    public void assertRenewPropertiesWithExecutorSizeChanged() throws SQLException {
+        Map<String, DataSource> dataSourceMap = Collections.singletonMap("ds", mockDataSource("H2"));
+        ShardingDataSource shardingDataSource = createShardingDataSource(dataSourceMap);
+        ShardingContext shardingContext = shardingDataSource.getShardingContext();
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_SIZE.getKey(), "2");
+        shardingDataSource.renew(props);
+        assertThat(shardingDataSource.getShardingContext().getExecuteEngine(), not(sameInstance(shardingContext.getExecuteEngine())));
+        assertThat(shardingDataSource.getShardingContext().getMetaData(), sameInstance(shardingContext.getMetaData()));
+    }
+    
+    @Test
+    public void assertExecuteWithConnectionObtainedBeforeRenewPropertiesWithExecutorSizeChanged() throws SQLException {
+        Map<String, DataSource> dataSourceMap = Collections.singletonMap("ds", mockDataSource("H2"));
+        ShardingDataSource shardingDataSource = createShardingDataSource(dataSourceMap);
+        ShardingConnection connection = shardingDataSource.getConnection();
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_SIZE.getKey(), "2");
+        shardingDataSource.renew(props);
+        assertThat(execute(connection.getShardingContext().getExecuteEngine()), is(Arrays.asList(1, 2)));
+        connection.close();
+    }
+    
+    @Test
+    public void assertRenewShardingRule() throws SQLException {
+        Map<String, DataSource> dataSourceMap = Collections.singletonMap("ds", mockDataSource("H2"));
+        ShardingDataSource shardingDataSource = createShardingDataSource(dataSourceMap);
+        ShardingContext shardingContext = shardingDataSource.getShardingContext();
+        ShardingRuleConfiguration shardingRuleConfig = createShardingRuleConfig(dataSourceMap);
+        shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("otherTable", "ds.other_table_${0..1}"));
+        ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
+        shardingDataSource.renew(shardingRule);
+        ShardingContext actual = shardingDataSource.getShardingContext();
+        assertThat(actual.getShardingRule(), is(shardingRule));
+        assertThat(actual.getExecuteEngine(), sameInstance(shardingContext.getExecuteEngine()));
+        assertThat(actual.getShardingProperties(), sameInstance(shardingContext.getShardingProperties()));
+        assertTrue(actual.getMetaData().getTable().containsTable("logictable"));
+        assertThat(actual.getMetaData().getTable().get("logictable"), sameInstance(shardingContext.getMetaData().getTable().get("logictable")));
+        assertTrue(actual.getMetaData().getTable().containsTable("othertable"));
+    }
+    
+    private List<Integer> execute(final ShardingExecuteEngine executeEngine) throws SQLException {
+        Collection<ShardingExecuteGroup<Integer>> inputGroups = Arrays.asList(
+                new ShardingExecuteGroup<>(Collections.singletonList(1)), new ShardingExecuteGroup<>(Collections.singletonList(2)));
+        return executeEngine.groupExecute(inputGroups, new ShardingGroupExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Collection<Integer> execute(final Collection<Integer> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                return inputs;
+            }
+        });
+    }
+    
     private ShardingDataSource createShardingDataSource(final Map<String, DataSource> dataSourceMap) throws SQLException {
         return new ShardingDataSource(dataSourceMap, new ShardingRule(createShardingRuleConfig(dataSourceMap), dataSourceMap.keySet()));
     }
@@ -87,8 +87,7 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     @Subscribe
     @SneakyThrows
     public final synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(), new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(),
-                dataSource.getDataSourceMap().keySet()), dataSource.getShardingContext().getShardingProperties().getProps());
+        dataSource.renew(new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), dataSource.getDataSourceMap().keySet()));
     }
     
     /**
@@ -113,11 +112,9 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
      *
      * @param propertiesChangedEvent properties changed event
      */
-    @SneakyThrows
     @Subscribe
     public final synchronized void renew(final PropertiesChangedEvent propertiesChangedEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(),
-                dataSource.getShardingContext().getShardingRule(), propertiesChangedEvent.getProps());
+        dataSource.renew(propertiesChangedEvent.getProps());
     }
     
     /**
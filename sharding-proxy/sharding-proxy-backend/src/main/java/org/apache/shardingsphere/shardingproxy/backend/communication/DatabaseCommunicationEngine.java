@@ -51,4 +51,11 @@ public interface DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     QueryData getQueryData() throws SQLException;
+    
+    /**
+     * Close backend results of command which are no longer fetched.
+     *
+     * @throws SQLException SQL exception
+     */
+    void close() throws SQLException;
 }
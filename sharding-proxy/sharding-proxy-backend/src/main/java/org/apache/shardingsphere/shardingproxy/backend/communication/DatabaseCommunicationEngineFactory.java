@@ -19,12 +19,22 @@ package org.apache.shardingsphere.shardingproxy.backend.communication;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.PreparedStatementExecutorWrapper;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.NettyDatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.NettyExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.util.List;
 
@@ -58,9 +68,23 @@ public final class DatabaseCommunicationEngineFactory {
      * @return instance of text protocol backend handler
      */
     public DatabaseCommunicationEngine newTextProtocolInstance(final LogicSchema logicSchema, final String sql, final BackendConnection backendConnection) {
+        if (isNettyEnabled(logicSchema, backendConnection)) {
+            return new NettyDatabaseCommunicationEngine(logicSchema, sql, new StatementExecutorWrapper(logicSchema), new NettyExecuteEngine(logicSchema));
+        }
         return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new StatementExecutorWrapper(logicSchema)));
     }
     
+    private boolean isNettyEnabled(final LogicSchema logicSchema, final BackendConnection backendConnection) {
+        return ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO)
+                && DatabaseType.MySQL == LogicSchemas.getInstance().getDatabaseType() && TransactionType.LOCAL == backendConnection.getTransactionType()
+                && !backendConnection.getStateHandler().isInTransaction() && !isEncryptEnabled(logicSchema);
+    }
+    
+    private boolean isEncryptEnabled(final LogicSchema logicSchema) {
+        return logicSchema instanceof EncryptSchema
+                || logicSchema instanceof ShardingSchema && !logicSchema.getShardingRule().getShardingEncryptorEngine().getEncryptTableNames().isEmpty();
+    }
+    
     /**
      * Create new instance of text protocol backend handler.
      *
@@ -71,6 +95,22 @@ public final class DatabaseCommunicationEngineFactory {
      * @return instance of text protocol backend handler
      */
     public DatabaseCommunicationEngine newBinaryProtocolInstance(final LogicSchema logicSchema, final String sql, final List<Object> parameters, final BackendConnection backendConnection) {
-        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, parameters)));
+        return newBinaryProtocolInstance(logicSchema, sql, null, parameters, backendConnection);
+    }
+    
+    /**
+     * Create new instance of binary protocol backend handler with SQL statement parsed when prepared.
+     *
+     * @param logicSchema logic schema
+     * @param sql SQL to be executed
+     * @param sqlStatement SQL statement parsed when prepared, null means SQL should be parsed when routed
+     * @param parameters SQL parameters
+     * @param backendConnection backend connection
+     * @return instance of binary protocol backend handler
+     */
+    public DatabaseCommunicationEngine newBinaryProtocolInstance(
+            final LogicSchema logicSchema, final String sql, final SQLStatement sqlStatement, final List<Object> parameters, final BackendConnection backendConnection) {
+        PreparedStatementExecutorWrapper executorWrapper = new PreparedStatementExecutorWrapper(logicSchema, parameters, sqlStatement, backendConnection.getPreparedStatementCache());
+        return new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, executorWrapper));
     }
 }
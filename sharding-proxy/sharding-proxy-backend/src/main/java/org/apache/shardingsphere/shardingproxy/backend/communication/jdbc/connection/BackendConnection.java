@@ -31,6 +31,8 @@ import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -53,6 +55,8 @@ public final class BackendConnection implements AutoCloseable {
     
     private static final int MAXIMUM_RETRY_COUNT = 5;
     
+    private static final PreparedStatementCache UNCACHED_PREPARED_STATEMENTS = new PreparedStatementCache(0);
+    
     private volatile String schemaName;
     
     private LogicSchema logicSchema;
@@ -71,6 +75,8 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<Closeable> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
     @Getter
@@ -189,6 +195,20 @@ public final class BackendConnection implements AutoCloseable {
         return logicSchema.getBackendDataSource().getConnections(connectionMode, dataSourceName, connectionSize, transactionType);
     }
     
+    /**
+     * Get prepared statement cache.
+     * 
+     * <p>
+     * Cache of backend data source is used for LOCAL transaction only,
+     * statements of XA and BASE transactions are not cached because they must be prepared through connections of transaction manager.
+     * </p>
+     *
+     * @return prepared statement cache
+     */
+    public PreparedStatementCache getPreparedStatementCache() {
+        return TransactionType.LOCAL == transactionType && null != logicSchema ? logicSchema.getBackendDataSource().getPreparedStatementCache() : UNCACHED_PREPARED_STATEMENTS;
+    }
+    
     /**
      * Whether execute SQL serial or not.
      *
@@ -225,6 +245,15 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result which holds resources.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final Closeable mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -239,6 +268,7 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose) {
@@ -248,29 +278,87 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    /**
+     * Close merged results, result sets and statements which are no longer used before backend connection closed.
+     * 
+     * <p>Only resources still cached are closed, resources already closed with backend connection are skipped.</p>
+     *
+     * @param mergedResults merged results to be closed
+     * @param resultSets result sets to be closed
+     * @param statements statements to be closed
+     * @throws SQLException SQL exception
+     */
+    public void close(final Collection<Closeable> mergedResults, final Collection<ResultSet> resultSets, final Collection<Statement> statements) throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        exceptions.addAll(closeMergedResults(removeCached(cachedMergedResults, mergedResults)));
+        exceptions.addAll(closeResultSets(removeCached(cachedResultSets, resultSets)));
+        exceptions.addAll(closeStatements(removeCached(cachedStatements, statements)));
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    private <T> Collection<T> removeCached(final Collection<T> cached, final Collection<T> removing) {
+        Collection<T> result = new LinkedList<>();
+        for (T each : removing) {
+            if (cached.remove(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = closeMergedResults(cachedMergedResults);
+        cachedMergedResults.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeMergedResults(final Collection<Closeable> mergedResults) {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Closeable each : mergedResults) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                result.add(new SQLException(ex));
+            }
+        }
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
+        Collection<SQLException> result = closeResultSets(cachedResultSets);
+        cachedResultSets.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeResultSets(final Collection<ResultSet> resultSets) {
         Collection<SQLException> result = new LinkedList<>();
-        for (ResultSet each : cachedResultSets) {
+        for (ResultSet each : resultSets) {
             try {
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
-        cachedResultSets.clear();
         return result;
     }
     
     private Collection<SQLException> closeStatements() {
+        Collection<SQLException> result = closeStatements(cachedStatements);
+        cachedStatements.clear();
+        return result;
+    }
+    
+    private Collection<SQLException> closeStatements(final Collection<Statement> statements) {
         Collection<SQLException> result = new LinkedList<>();
-        for (Statement each : cachedStatements) {
+        for (Statement each : statements) {
             try {
-                each.close();
+                if (!getPreparedStatementCache().release(each)) {
+                    each.close();
+                }
             } catch (final SQLException ex) {
                 result.add(ex);
             }
         }
-        cachedStatements.clear();
         return result;
     }
     
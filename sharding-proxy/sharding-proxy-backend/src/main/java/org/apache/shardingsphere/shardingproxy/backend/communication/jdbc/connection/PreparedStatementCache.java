@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prepared statement cache of backend data source.
+ * 
+ * <p>
+ * Prepared statements are cached by physical connection and rewritten SQL, and shared by all backend connections which get the same physical connection from pool,
+ * least recently used statement of each physical connection is closed when cache size exceeded.
+ * Cached statement is not closed after execution or after connection released to pool, it is closed when invalidated or when its physical connection is closed.
+ * Statements of all caches are invalidated by DDL executed through any backend connection of proxy,
+ * caches are invalidated when they are accessed next time.
+ * DDL executed on databases directly without proxy is not detected.
+ * </p>
+ */
+public final class PreparedStatementCache {
+    
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+    
+    private final int maximumSize;
+    
+    private final ConcurrentMap<Connection, ConnectionStatements> connectionStatements = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<Statement, ConnectionStatements> inUseStatements = new ConcurrentHashMap<>();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    private final AtomicLong evictionCount = new AtomicLong();
+    
+    public PreparedStatementCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+    
+    /**
+     * Get prepared statement, prepare and cache it if absent.
+     * 
+     * <p>
+     * Cached statements are invalidated if rule is changed or statements of all caches are invalidated.
+     * </p>
+     *
+     * @param connection connection
+     * @param sql SQL to be prepared
+     * @param isReturnGeneratedKeys is return generated keys
+     * @param rule rule which SQL is rewritten by
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getPreparedStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys, final Object rule) throws SQLException {
+        if (0 >= maximumSize) {
+            missCount.incrementAndGet();
+            return prepareStatement(connection, sql, isReturnGeneratedKeys);
+        }
+        return getConnectionStatements(getPhysicalConnection(connection)).getPreparedStatement(sql, isReturnGeneratedKeys, rule);
+    }
+    
+    private Connection getPhysicalConnection(final Connection connection) throws SQLException {
+        return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+    }
+    
+    private ConnectionStatements getConnectionStatements(final Connection physicalConnection) {
+        ConnectionStatements result = connectionStatements.get(physicalConnection);
+        if (null != result) {
+            return result;
+        }
+        removeClosedConnections();
+        result = new ConnectionStatements(physicalConnection);
+        ConnectionStatements existed = connectionStatements.putIfAbsent(physicalConnection, result);
+        return null == existed ? result : existed;
+    }
+    
+    private void removeClosedConnections() {
+        Iterator<ConnectionStatements> iterator = connectionStatements.values().iterator();
+        while (iterator.hasNext()) {
+            ConnectionStatements each = iterator.next();
+            if (each.isConnectionClosed()) {
+                iterator.remove();
+                each.invalidate();
+            }
+        }
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final boolean isReturnGeneratedKeys) throws SQLException {
+        return isReturnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    /**
+     * Release statement after execution.
+     *
+     * @param statement statement to be released
+     * @return statement is cached or not, statement should be closed by caller if it is not cached
+     * @throws SQLException SQL exception
+     */
+    public boolean release(final Statement statement) throws SQLException {
+        if (null == inUseStatements.remove(statement)) {
+            return false;
+        }
+        ((PreparedStatement) statement).clearParameters();
+        return true;
+    }
+    
+    /**
+     * Invalidate statements of all caches, such as table structure changed by DDL.
+     */
+    public static void invalidateAll() {
+        GLOBAL_VERSION.incrementAndGet();
+    }
+    
+    /**
+     * Invalidate all statements.
+     * 
+     * <p>Statements in use are not closed, they should be closed by caller after execution.</p>
+     * 
+     * @return SQL exceptions thrown by closing statements
+     */
+    public Collection<SQLException> invalidate() {
+        Collection<SQLException> result = new LinkedList<>();
+        Iterator<ConnectionStatements> iterator = connectionStatements.values().iterator();
+        while (iterator.hasNext()) {
+            ConnectionStatements each = iterator.next();
+            iterator.remove();
+            result.addAll(each.invalidate());
+        }
+        return result;
+    }
+    
+    /**
+     * Get size of cached statements.
+     *
+     * @return size of cached statements
+     */
+    public int size() {
+        int result = 0;
+        for (ConnectionStatements each : connectionStatements.values()) {
+            result += each.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+    
+    /**
+     * Prepared statements of one physical connection.
+     */
+    private final class ConnectionStatements {
+        
+        private final Connection connection;
+        
+        private final Map<CacheKey, PreparedStatement> statements;
+        
+        private Object rule;
+        
+        private long version = GLOBAL_VERSION.get();
+        
+        ConnectionStatements(final Connection connection) {
+            this.connection = connection;
+            statements = new LinkedHashMap<CacheKey, PreparedStatement>(16, 0.75f, true) {
+                
+                private static final long serialVersionUID = -2263529722467011327L;
+                
+                @Override
+                protected boolean removeEldestEntry(final Entry<CacheKey, PreparedStatement> eldest) {
+                    if (size() <= maximumSize) {
+                        return false;
+                    }
+                    evictionCount.incrementAndGet();
+                    close(eldest.getValue(), new LinkedList<SQLException>());
+                    return true;
+                }
+            };
+        }
+        
+        synchronized PreparedStatement getPreparedStatement(final String sql, final boolean isReturnGeneratedKeys, final Object rule) throws SQLException {
+            long currentVersion = GLOBAL_VERSION.get();
+            if (this.rule != rule || version != currentVersion) {
+                invalidate();
+                this.rule = rule;
+                version = currentVersion;
+            }
+            CacheKey cacheKey = new CacheKey(sql, isReturnGeneratedKeys);
+            PreparedStatement result = statements.get(cacheKey);
+            if (null != result && null == inUseStatements.putIfAbsent(result, this)) {
+                hitCount.incrementAndGet();
+                return result;
+            }
+            missCount.incrementAndGet();
+            result = prepareStatement(connection, sql, isReturnGeneratedKeys);
+            if (null == statements.get(cacheKey)) {
+                inUseStatements.put(result, this);
+                statements.put(cacheKey, result);
+            }
+            return result;
+        }
+        
+        synchronized Collection<SQLException> invalidate() {
+            Collection<SQLException> result = new LinkedList<>();
+            for (PreparedStatement each : statements.values()) {
+                close(each, result);
+            }
+            statements.clear();
+            return result;
+        }
+        
+        private void close(final PreparedStatement statement, final Collection<SQLException> exceptions) {
+            if (null != inUseStatements.remove(statement)) {
+                return;
+            }
+            try {
+                statement.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        
+        boolean isConnectionClosed() {
+            try {
+                return connection.isClosed();
+            } catch (final SQLException ex) {
+                return true;
+            }
+        }
+        
+        synchronized int size() {
+            return statements.size();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final boolean isReturnGeneratedKeys;
+    }
+}
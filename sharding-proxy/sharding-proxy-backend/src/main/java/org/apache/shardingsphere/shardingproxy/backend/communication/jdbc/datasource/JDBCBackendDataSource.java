@@ -21,10 +21,13 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Maps;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.shardingproxy.backend.BackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.PreparedStatementCache;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.transaction.spi.ShardingTransactionManager;
@@ -62,6 +65,10 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     @Getter
     private ShardingTransactionManagerEngine shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
     
+    @Getter
+    private final PreparedStatementCache preparedStatementCache = 
+            new PreparedStatementCache(ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE));
+    
     public JDBCBackendDataSource(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
         this.dataSourceParameters = dataSourceParameters;
         this.dataSources = createDataSources(dataSourceParameters);
@@ -160,6 +167,7 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
             return;
         }
         dataSourceParameters.clear();
+        preparedStatementCache.invalidate();
         close(dataSources.keySet());
         shardingTransactionManagerEngine.close();
     }
@@ -188,6 +196,7 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     public void renew(final Map<String, YamlDataSourceParameter> dataSourceParameters) throws Exception {
         List<String> deletedDataSources = getDeletedDataSources(dataSourceParameters);
         Map<String, YamlDataSourceParameter> modifiedDataSources = getModifiedDataSources(dataSourceParameters);
+        preparedStatementCache.invalidate();
         close(deletedDataSources);
         close(modifiedDataSources.keySet());
         dataSources = getChangedDataSources(deletedDataSources, getAddedDataSources(dataSourceParameters), modifiedDataSources);
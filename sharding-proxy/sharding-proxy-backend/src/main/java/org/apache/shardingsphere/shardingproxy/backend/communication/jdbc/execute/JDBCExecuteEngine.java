@@ -39,9 +39,14 @@ import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRespo
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
+import java.io.Closeable;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * SQL Execute engine for JDBC.
@@ -62,6 +67,12 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final Collection<Closeable> mergedResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<ResultSet> resultSets = new CopyOnWriteArrayList<>();
+    
+    private final Collection<Statement> statements = new CopyOnWriteArrayList<>();
+    
     public JDBCExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
@@ -78,8 +89,7 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(
                 routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, isReturnGeneratedKeys));
         Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true), 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+                new ProxySQLExecuteCallback(this, isExceptionThrown, isReturnGeneratedKeys, true), new ProxySQLExecuteCallback(this, isExceptionThrown, isReturnGeneratedKeys, false));
         ExecuteResponse executeResponse = executeResponses.iterator().next();
         return executeResponse instanceof ExecuteQueryResponse
                 ? getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses) : new UpdateResponse(executeResponses);
@@ -92,4 +102,49 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         }
         return result;
     }
+    
+    /**
+     * Add statement created by execution.
+     *
+     * @param statement statement to be added
+     */
+    public void add(final Statement statement) {
+        statements.add(statement);
+        backendConnection.add(statement);
+    }
+    
+    /**
+     * Add result set created by execution.
+     *
+     * @param resultSet result set to be added
+     */
+    public void add(final ResultSet resultSet) {
+        resultSets.add(resultSet);
+        backendConnection.add(resultSet);
+    }
+    
+    /**
+     * Add merged result which holds resources.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final Closeable mergedResult) {
+        mergedResults.add(mergedResult);
+        backendConnection.add(mergedResult);
+    }
+    
+    /**
+     * Close merged results, result sets and statements of execution without closing backend connection.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        Collection<Closeable> closingMergedResults = new ArrayList<>(mergedResults);
+        Collection<ResultSet> closingResultSets = new ArrayList<>(resultSets);
+        Collection<Statement> closingStatements = new ArrayList<>(statements);
+        mergedResults.clear();
+        resultSets.clear();
+        statements.clear();
+        backendConnection.close(closingMergedResults, closingResultSets, closingStatements);
+    }
 }
@@ -29,10 +29,12 @@ import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.SQLUnit;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.PreparedStatementCache;
 import org.apache.shardingsphere.shardingproxy.backend.schema.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.MasterSlaveSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema.ShardingRuleContext;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.Connection;
@@ -56,6 +58,10 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     private final List<Object> parameters;
     
+    private final SQLStatement preparedSQLStatement;
+    
+    private final PreparedStatementCache preparedStatementCache;
+    
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
         if (logicSchema instanceof ShardingSchema) {
@@ -68,8 +74,9 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, logicSchema.getShardingRule(), 
-                ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParsingResultCache());
+        ShardingRuleContext shardingRuleContext = ((ShardingSchema) logicSchema).getShardingRuleContext();
+        PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(sql, preparedSQLStatement, shardingRuleContext.getShardingRule(), 
+                ShardingProxyContext.getInstance().getShardingProperties(), logicSchema.getMetaData(), databaseType, logicSchema.getParsingResultCache(), shardingRuleContext.getRoutingResultCache());
         return shardingEngine.shard(sql, parameters);
     }
     
@@ -97,7 +104,7 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     @Override
     public Statement createStatement(final Connection connection, final SQLUnit sqlUnit, final boolean isReturnGeneratedKeys) throws SQLException {
-        PreparedStatement result = isReturnGeneratedKeys ? connection.prepareStatement(sqlUnit.getSql(), Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sqlUnit.getSql());
+        PreparedStatement result = preparedStatementCache.getPreparedStatement(connection, sqlUnit.getSql(), isReturnGeneratedKeys, logicSchema.getShardingRule());
         for (int i = 0; i < sqlUnit.getParameters().size(); i++) {
             result.setObject(i + 1, sqlUnit.getParameters().get(i));
         }
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergeEngineFactory;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dal.show.ShowTablesMergedResult;
+import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.core.parse.constant.DerivedColumn;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.MySQLColumnValueConverter;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.MySQLQueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.NettyExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Database access engine for netty.
+ * 
+ * <p>
+ * Rows of select statement routed to single data source are passed through, raw rows of backend are forwarded with query data,
+ * if merged result only iterates rows of the single backend result and there is no derived column to be removed.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class NettyDatabaseCommunicationEngine implements DatabaseCommunicationEngine {
+    
+    private final LogicSchema logicSchema;
+    
+    private final String sql;
+    
+    private final StatementExecutorWrapper executorWrapper;
+    
+    private final NettyExecuteEngine executeEngine;
+    
+    private final DatabaseType databaseType = LogicSchemas.getInstance().getDatabaseType();
+    
+    private BackendResponse response;
+    
+    private MergedResult mergedResult;
+    
+    private MySQLQueryResult passthroughQueryResult;
+    
+    @Override
+    public BackendResponse execute() {
+        try {
+            SQLRouteResult routeResult = executorWrapper.route(sql, databaseType);
+            return execute(routeResult);
+        } catch (final SQLException ex) {
+            closeQueryResults();
+            return new ErrorResponse(ex);
+        }
+    }
+    
+    private BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
+        if (routeResult.getRouteUnits().isEmpty()) {
+            return new UpdateResponse();
+        }
+        response = executeEngine.execute(routeResult);
+        if (logicSchema instanceof ShardingSchema) {
+            logicSchema.refreshTableMetaData(routeResult.getSqlStatement());
+        }
+        return merge(routeResult);
+    }
+    
+    private BackendResponse merge(final SQLRouteResult routeResult) throws SQLException {
+        if (response instanceof UpdateResponse) {
+            if (!isAllBroadcastTables(routeResult.getSqlStatement())) {
+                ((UpdateResponse) response).mergeUpdateCount();
+            }
+            return response;
+        }
+        mergedResult = MergeEngineFactory.newInstance(
+            databaseType, logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getShardingProperties(), routeResult, logicSchema.getMetaData().getTable(), ((QueryResponse) response).getQueryResults()).merge();
+        if (mergedResult instanceof ShowTablesMergedResult) {
+            ((ShowTablesMergedResult) mergedResult).resetColumnLabel(logicSchema.getName());
+        }
+        if (isPassthrough(routeResult)) {
+            passthroughQueryResult = (MySQLQueryResult) ((QueryResponse) response).getQueryResults().get(0);
+        }
+        return getQueryHeaderResponseWithoutDerivedColumns(((QueryResponse) response).getQueryHeaders());
+    }
+    
+    private boolean isPassthrough(final SQLRouteResult routeResult) {
+        if (!(routeResult.getSqlStatement() instanceof SelectStatement) || 1 != routeResult.getRouteUnits().size() || !isIteratingSingleQueryResult()) {
+            return false;
+        }
+        for (QueryHeader each : ((QueryResponse) response).getQueryHeaders()) {
+            if (DerivedColumn.isDerivedColumn(each.getColumnLabel())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isIteratingSingleQueryResult() {
+        return 1 == ((QueryResponse) response).getQueryResults().size()
+                && (IteratorStreamMergedResult.class == mergedResult.getClass() || OrderByStreamMergedResult.class == mergedResult.getClass());
+    }
+    
+    private boolean isAllBroadcastTables(final SQLStatement sqlStatement) {
+        return logicSchema instanceof ShardingSchema && logicSchema.getShardingRule().isAllBroadcastTables(sqlStatement.getTables().getTableNames());
+    }
+    
+    private QueryResponse getQueryHeaderResponseWithoutDerivedColumns(final List<QueryHeader> queryHeaders) {
+        List<QueryHeader> derivedColumnQueryHeaders = new LinkedList<>();
+        for (QueryHeader each : queryHeaders) {
+            if (DerivedColumn.isDerivedColumn(each.getColumnLabel())) {
+                derivedColumnQueryHeaders.add(each);
+            }
+        }
+        queryHeaders.removeAll(derivedColumnQueryHeaders);
+        return new QueryResponse(queryHeaders);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != mergedResult && mergedResult.next()) {
+            return true;
+        }
+        closeQueryResults();
+        return false;
+    }
+    
+    private void closeQueryResults() {
+        if (!(response instanceof QueryResponse)) {
+            return;
+        }
+        if (mergedResult instanceof Closeable) {
+            try {
+                ((Closeable) mergedResult).close();
+            } catch (final IOException ex) {
+                log.warn("Close merged result failure.", ex);
+            }
+        }
+        for (QueryResult each : ((QueryResponse) response).getQueryResults()) {
+            ((MySQLQueryResult) each).close();
+        }
+    }
+    
+    @Override
+    public QueryData getQueryData() throws SQLException {
+        List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
+        List<Integer> columnTypes = new ArrayList<>(queryHeaders.size());
+        for (QueryHeader each : queryHeaders) {
+            columnTypes.add(each.getColumnType());
+        }
+        if (null != passthroughQueryResult && null != passthroughQueryResult.getCurrentRawRow()) {
+            return new QueryData(columnTypes, new RawRowData(passthroughQueryResult.getColumnDefinitions(), passthroughQueryResult.getCurrentRawRow()), passthroughQueryResult.getCurrentRawRow());
+        }
+        List<Object> row = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            row.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return new QueryData(columnTypes, row);
+    }
+    
+    @Override
+    public void close() {
+        closeQueryResults();
+    }
+    
+    /**
+     * Row data decoded from raw row at first access.
+     */
+    @RequiredArgsConstructor
+    private static final class RawRowData extends AbstractList<Object> {
+        
+        private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+        
+        private final byte[] rawRow;
+        
+        private Object[] values;
+        
+        @Override
+        public Object get(final int index) {
+            if (null == values) {
+                values = MySQLColumnValueConverter.convert(columnDefinitions, rawRow);
+            }
+            return values[index];
+        }
+        
+        @Override
+        public int size() {
+            return columnDefinitions.size();
+        }
+    }
+}
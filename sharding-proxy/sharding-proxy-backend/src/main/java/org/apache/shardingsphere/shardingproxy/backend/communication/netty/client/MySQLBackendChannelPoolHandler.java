@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+
+/**
+ * Channel pool handler for MySQL backend.
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendChannelPoolHandler extends AbstractChannelPoolHandler {
+    
+    private final String database;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final long readTimeoutMilliseconds;
+    
+    @Override
+    public void channelCreated(final Channel channel) {
+        channel.pipeline().addLast(new PacketCodec(new MySQLPacketCodecEngine()));
+        channel.pipeline().addLast(new MySQLBackendHandler(database, username, password, readTimeoutMilliseconds));
+    }
+}
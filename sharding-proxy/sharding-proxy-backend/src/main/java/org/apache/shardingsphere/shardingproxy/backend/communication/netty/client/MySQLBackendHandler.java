@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import com.google.common.base.Strings;
+import com.google.common.primitives.Bytes;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteQueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.MySQLQueryResult;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerInfo;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler for MySQL backend channel.
+ * 
+ * <p>
+ * Authenticates with backend database when channel connected, 
+ * then sends COM_QUERY command and reads text protocol response into execute response, one command in flight for each channel.
+ * Execute response of query is notified after column definitions read, rows are streamed into query result later.
+ * Completion promise is notified after whole response read, channel can be reused only after that.
+ * Channel is closed if any packet is received while no command in flight, or command can not be written.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class MySQLBackendHandler extends ChannelInboundHandlerAdapter {
+    
+    private static final int CAPABILITY_FLAGS = MySQLCapabilityFlag.CLIENT_LONG_PASSWORD.getValue() | MySQLCapabilityFlag.CLIENT_FOUND_ROWS.getValue()
+            | MySQLCapabilityFlag.CLIENT_LONG_FLAG.getValue() | MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue() | MySQLCapabilityFlag.CLIENT_PROTOCOL_41.getValue()
+            | MySQLCapabilityFlag.CLIENT_TRANSACTIONS.getValue() | MySQLCapabilityFlag.CLIENT_SECURE_CONNECTION.getValue();
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private static final int MAX_EOF_PACKET_LENGTH = 9;
+    
+    private final String database;
+    
+    private final String username;
+    
+    private final String password;
+    
+    private final long readTimeoutMilliseconds;
+    
+    private ChannelHandlerContext context;
+    
+    private boolean authenticated;
+    
+    private String sql;
+    
+    private Promise<ExecuteResponse> promise;
+    
+    private Promise<Void> completionPromise;
+    
+    private List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private int columnCount;
+    
+    private MySQLQueryResult queryResult;
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext context) {
+        this.context = context;
+    }
+    
+    /**
+     * Execute SQL by COM_QUERY command.
+     * 
+     * <p>SQL is sent after authenticated if channel is still connecting, promises will be notified in event loop of channel.</p>
+     *
+     * @param sql SQL to be executed
+     * @param promise promise of execute response
+     * @param completionPromise promise notified after whole response read, or failed if channel can not be reused
+     */
+    public void execute(final String sql, final Promise<ExecuteResponse> promise, final Promise<Void> completionPromise) {
+        if (!context.executor().inEventLoop()) {
+            context.executor().execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    execute(sql, promise, completionPromise);
+                }
+            });
+            return;
+        }
+        if (null != this.completionPromise) {
+            failBeforeWriting(new SQLException("Can not execute SQL before previous response received."), promise, completionPromise);
+            return;
+        }
+        if (!context.channel().isActive()) {
+            failBeforeWriting(new SQLException("Backend channel is closed."), promise, completionPromise);
+            return;
+        }
+        this.sql = sql;
+        this.promise = promise;
+        this.completionPromise = completionPromise;
+        if (authenticated) {
+            writeCommand();
+        }
+    }
+    
+    private void failBeforeWriting(final SQLException cause, final Promise<ExecuteResponse> promise, final Promise<Void> completionPromise) {
+        promise.tryFailure(cause);
+        completionPromise.tryFailure(cause);
+    }
+    
+    private void writeCommand() {
+        if (!context.channel().isActive()) {
+            fail(new SQLException("Backend channel is closed."));
+            return;
+        }
+        context.writeAndFlush(new MySQLComQueryPacket(sql)).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+        sql = null;
+    }
+    
+    @Override
+    public void channelRead(final ChannelHandlerContext context, final Object message) {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message)) {
+            if (authenticated) {
+                readCommandResponse(payload);
+            } else {
+                readAuthenticationResponse(payload);
+            }
+        }
+    }
+    
+    private void readAuthenticationResponse(final MySQLPacketPayload payload) {
+        int header = getHeader(payload);
+        if (MySQLOKPacket.HEADER == header) {
+            authenticated = true;
+            if (null != sql) {
+                writeCommand();
+            }
+            return;
+        }
+        if (MySQLErrPacket.HEADER == header) {
+            fail(createSQLException(payload));
+            context.close();
+            return;
+        }
+        if (MySQLEofPacket.HEADER == header) {
+            fail(new SQLException(String.format("Authentication method switching is unsupported, user `%s` must use `mysql_native_password`.", username)));
+            context.close();
+            return;
+        }
+        MySQLHandshakePacket handshakePacket = new MySQLHandshakePacket(payload);
+        context.writeAndFlush(new MySQLHandshakeResponse41Packet(
+                handshakePacket.getSequenceId() + 1, CAPABILITY_FLAGS, MAX_PACKET_SIZE, MySQLServerInfo.CHARSET, username, getAuthResponse(handshakePacket.getAuthPluginData()), database));
+    }
+    
+    private byte[] getAuthResponse(final MySQLAuthPluginData authPluginData) {
+        if (Strings.isNullOrEmpty(password)) {
+            return new byte[0];
+        }
+        byte[] sha1Password = DigestUtils.sha1(password);
+        byte[] sha1ConcatBytes = DigestUtils.sha1(Bytes.concat(authPluginData.getAuthPluginData(), DigestUtils.sha1(sha1Password)));
+        byte[] result = new byte[sha1Password.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) (sha1Password[i] ^ sha1ConcatBytes[i]);
+        }
+        return result;
+    }
+    
+    private void readCommandResponse(final MySQLPacketPayload payload) {
+        if (null == promise) {
+            context.close();
+            return;
+        }
+        int header = getHeader(payload);
+        if (null != queryResult) {
+            readRowResponse(header, payload);
+            return;
+        }
+        if (MySQLErrPacket.HEADER == header) {
+            promise.tryFailure(createSQLException(payload));
+            complete();
+            return;
+        }
+        if (null == columnDefinitions) {
+            readFirstResponse(header, payload);
+            return;
+        }
+        if (columnDefinitions.size() < columnCount) {
+            columnDefinitions.add(new MySQLColumnDefinition41Packet(payload));
+            return;
+        }
+        if (isEofPacket(header, payload)) {
+            queryResult = new MySQLQueryResult(columnDefinitions, context.channel(), readTimeoutMilliseconds);
+            promise.trySuccess(new ExecuteQueryResponse(null, queryResult));
+        }
+    }
+    
+    private void readFirstResponse(final int header, final MySQLPacketPayload payload) {
+        if (MySQLOKPacket.HEADER == header) {
+            MySQLOKPacket okPacket = new MySQLOKPacket(payload);
+            promise.trySuccess(new ExecuteUpdateResponse((int) okPacket.getAffectedRows(), okPacket.getLastInsertId()));
+            complete();
+            return;
+        }
+        columnCount = new MySQLFieldCountPacket(payload).getColumnCount();
+        columnDefinitions = new ArrayList<>(columnCount);
+    }
+    
+    private void readRowResponse(final int header, final MySQLPacketPayload payload) {
+        if (MySQLErrPacket.HEADER == header) {
+            queryResult.fail(createSQLException(payload));
+            complete();
+            return;
+        }
+        if (isEofPacket(header, payload)) {
+            queryResult.finish();
+            complete();
+            return;
+        }
+        queryResult.addRow(readRow(payload));
+    }
+    
+    private SQLException createSQLException(final MySQLPacketPayload payload) {
+        MySQLErrPacket errPacket = new MySQLErrPacket(payload);
+        return new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+    }
+    
+    private boolean isEofPacket(final int header, final MySQLPacketPayload payload) {
+        return MySQLEofPacket.HEADER == header && payload.getByteBuf().readableBytes() <= MAX_EOF_PACKET_LENGTH;
+    }
+    
+    private byte[] readRow(final MySQLPacketPayload payload) {
+        payload.readInt1();
+        byte[] result = new byte[payload.getByteBuf().readableBytes()];
+        payload.getByteBuf().readBytes(result);
+        return result;
+    }
+    
+    private int getHeader(final MySQLPacketPayload payload) {
+        return payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex() + 1);
+    }
+    
+    private void complete() {
+        Promise<Void> completionPromise = this.completionPromise;
+        reset();
+        if (null != completionPromise) {
+            completionPromise.trySuccess(null);
+        }
+    }
+    
+    private void fail(final Throwable cause) {
+        Promise<ExecuteResponse> promise = this.promise;
+        Promise<Void> completionPromise = this.completionPromise;
+        MySQLQueryResult queryResult = this.queryResult;
+        reset();
+        if (null != promise) {
+            promise.tryFailure(cause);
+        }
+        if (null != queryResult) {
+            queryResult.fail(cause);
+        }
+        if (null != completionPromise) {
+            completionPromise.tryFailure(cause);
+        }
+    }
+    
+    private void reset() {
+        sql = null;
+        promise = null;
+        completionPromise = null;
+        columnDefinitions = null;
+        columnCount = 0;
+        queryResult = null;
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) throws Exception {
+        fail(new SQLException("Backend channel is closed."));
+        super.channelInactive(context);
+    }
+    
+    @Override
+    public void exceptionCaught(final ChannelHandlerContext context, final Throwable cause) {
+        fail(cause);
+        context.close();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.datasource;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.pool.FixedChannelPool.AcquireTimeoutAction;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.metadata.datasource.dialect.MySQLDataSourceMetaData;
+import org.apache.shardingsphere.shardingproxy.backend.BackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLBackendChannelPoolHandler;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backend data source for netty.
+ *
+ * <p>Channel pool of each data source is created at first usage, channels connect and authenticate with backend MySQL database by native protocol.</p>
+ */
+public final class NettyBackendDataSource implements BackendDataSource, AutoCloseable {
+    
+    private final Map<String, YamlDataSourceParameter> dataSourceParameters;
+    
+    private final ConcurrentMap<String, ChannelPool> channelPools = new ConcurrentHashMap<>();
+    
+    public NettyBackendDataSource(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
+        this.dataSourceParameters = new ConcurrentHashMap<>(dataSourceParameters);
+    }
+    
+    /**
+     * Get channel pool.
+     *
+     * @param dataSourceName data source name
+     * @return channel pool
+     */
+    public ChannelPool getChannelPool(final String dataSourceName) {
+        ChannelPool result = channelPools.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        ChannelPool channelPool = createChannelPool(dataSourceName);
+        result = channelPools.putIfAbsent(dataSourceName, channelPool);
+        if (null == result) {
+            return channelPool;
+        }
+        channelPool.close();
+        return result;
+    }
+    
+    private ChannelPool createChannelPool(final String dataSourceName) {
+        YamlDataSourceParameter dataSourceParameter = dataSourceParameters.get(dataSourceName);
+        MySQLDataSourceMetaData dataSourceMetaData = new MySQLDataSourceMetaData(dataSourceParameter.getUrl());
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        long timeoutMilliseconds = TimeUnit.SECONDS.toMillis(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS));
+        long readTimeoutMilliseconds = TimeUnit.SECONDS.toMillis(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_READ_TIMEOUT_SECONDS));
+        int maxConnections = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_MAX_CONNECTIONS);
+        Bootstrap bootstrap = new Bootstrap().group(BackendExecutorContext.getInstance().getEventLoopGroup()).channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true).option(ChannelOption.SO_KEEPALIVE, true).option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeoutMilliseconds)
+                .remoteAddress(dataSourceMetaData.getHostName(), dataSourceMetaData.getPort());
+        return new FixedChannelPool(bootstrap,
+                new MySQLBackendChannelPoolHandler(dataSourceMetaData.getSchemaName(), dataSourceParameter.getUsername(), dataSourceParameter.getPassword(), readTimeoutMilliseconds),
+                ChannelHealthChecker.ACTIVE, AcquireTimeoutAction.FAIL, timeoutMilliseconds, maxConnections, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Renew data source parameters.
+     * 
+     * <p>Channel pools of deleted or modified data sources are closed, and will be recreated with new parameters at next usage.</p>
+     *
+     * @param dataSourceParameters data source parameters
+     */
+    public synchronized void renew(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
+        Map<String, YamlDataSourceParameter> originalDataSourceParameters = new LinkedHashMap<>(this.dataSourceParameters);
+        this.dataSourceParameters.clear();
+        this.dataSourceParameters.putAll(dataSourceParameters);
+        for (Entry<String, YamlDataSourceParameter> entry : originalDataSourceParameters.entrySet()) {
+            if (!entry.getValue().equals(dataSourceParameters.get(entry.getKey()))) {
+                close(entry.getKey());
+            }
+        }
+    }
+    
+    private void close(final String dataSourceName) {
+        ChannelPool channelPool = channelPools.remove(dataSourceName);
+        if (null != channelPool) {
+            channelPool.close();
+        }
+    }
+    
+    @Override
+    public void close() {
+        for (String each : channelPools.keySet()) {
+            close(each);
+        }
+    }
+}
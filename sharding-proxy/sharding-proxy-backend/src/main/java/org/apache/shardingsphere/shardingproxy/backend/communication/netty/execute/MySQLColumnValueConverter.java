@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.Unpooled;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Column value converter for MySQL text protocol.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLColumnValueConverter {
+    
+    private static final int BINARY_CHARACTER_SET = 63;
+    
+    private static final int NULL = 0xfb;
+    
+    private static final int UNSIGNED_FLAG = 0x20;
+    
+    private static final String ZERO_DATE = "0000-00-00";
+    
+    /**
+     * Convert row of text protocol to java objects.
+     *
+     * @param columnDefinitions column definitions
+     * @param row row of text protocol without sequence ID
+     * @return java objects
+     */
+    public static Object[] convert(final List<MySQLColumnDefinition41Packet> columnDefinitions, final byte[] row) {
+        Object[] result = new Object[columnDefinitions.size()];
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.wrappedBuffer(row));
+        for (int i = 0; i < result.length; i++) {
+            if (NULL == payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex())) {
+                payload.skipReserved(1);
+            } else {
+                result[i] = convert(columnDefinitions.get(i), payload.readStringLenencByBytes());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Convert column value of text protocol to java object.
+     * 
+     * <p>
+     * Java types are same as values got by {@code ResultSet.getObject} of MySQL Connector/J with default connection properties,
+     * so that merging and encoding of results are same as JDBC backend. Zero date and time values are converted to null.
+     * </p>
+     *
+     * @param columnDefinition column definition
+     * @param value column value of text protocol
+     * @return java object
+     */
+    public static Object convert(final MySQLColumnDefinition41Packet columnDefinition, final byte[] value) {
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_BIT:
+                return 1 == columnDefinition.getColumnLength() ? (Object) (0 != value[0]) : value;
+            case MYSQL_TYPE_TINY:
+                return 1 == columnDefinition.getColumnLength() ? (Object) (0 != Integer.parseInt(toASCIIString(value))) : Integer.valueOf(toASCIIString(value));
+            case MYSQL_TYPE_SHORT:
+            case MYSQL_TYPE_INT24:
+                return Integer.valueOf(toASCIIString(value));
+            case MYSQL_TYPE_LONG:
+                return isUnsigned(columnDefinition) ? (Object) Long.valueOf(toASCIIString(value)) : Integer.valueOf(toASCIIString(value));
+            case MYSQL_TYPE_LONGLONG:
+                return isUnsigned(columnDefinition) ? (Object) new BigInteger(toASCIIString(value)) : Long.valueOf(toASCIIString(value));
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return new BigDecimal(toASCIIString(value));
+            case MYSQL_TYPE_FLOAT:
+                return Float.valueOf(toASCIIString(value));
+            case MYSQL_TYPE_DOUBLE:
+                return Double.valueOf(toASCIIString(value));
+            case MYSQL_TYPE_YEAR:
+                return convertYear(toASCIIString(value));
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+                return convertDate(toASCIIString(value));
+            case MYSQL_TYPE_TIME:
+            case MYSQL_TYPE_TIME2:
+                return convertTime(toASCIIString(value));
+            case MYSQL_TYPE_TIMESTAMP:
+            case MYSQL_TYPE_TIMESTAMP2:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_DATETIME2:
+                return convertTimestamp(toASCIIString(value));
+            default:
+                return BINARY_CHARACTER_SET == columnDefinition.getCharacterSet() ? value : new String(value, Charsets.UTF_8);
+        }
+    }
+    
+    private static String toASCIIString(final byte[] value) {
+        return new String(value, Charsets.US_ASCII);
+    }
+    
+    private static boolean isUnsigned(final MySQLColumnDefinition41Packet columnDefinition) {
+        return 0 != (columnDefinition.getFlags() & UNSIGNED_FLAG);
+    }
+    
+    private static Date convertYear(final String value) {
+        int year = Integer.parseInt(value);
+        return 0 == year ? null : Date.valueOf(String.format("%04d-01-01", year));
+    }
+    
+    private static Date convertDate(final String value) {
+        return value.startsWith(ZERO_DATE) ? null : Date.valueOf(value);
+    }
+    
+    private static Time convertTime(final String value) {
+        int fractionIndex = value.indexOf('.');
+        return Time.valueOf(-1 == fractionIndex ? value : value.substring(0, fractionIndex));
+    }
+    
+    private static Timestamp convertTimestamp(final String value) {
+        return value.startsWith(ZERO_DATE) ? null : Timestamp.valueOf(value);
+    }
+    
+    /**
+     * Get JDBC type of column.
+     *
+     * @param columnDefinition column definition
+     * @return JDBC type
+     */
+    public static int getJDBCType(final MySQLColumnDefinition41Packet columnDefinition) {
+        switch (columnDefinition.getColumnType()) {
+            case MYSQL_TYPE_BIT:
+                return 1 == columnDefinition.getColumnLength() ? Types.BIT : Types.VARBINARY;
+            case MYSQL_TYPE_TINY:
+                return 1 == columnDefinition.getColumnLength() ? Types.BIT : Types.TINYINT;
+            case MYSQL_TYPE_SHORT:
+                return Types.SMALLINT;
+            case MYSQL_TYPE_INT24:
+            case MYSQL_TYPE_LONG:
+                return Types.INTEGER;
+            case MYSQL_TYPE_LONGLONG:
+                return Types.BIGINT;
+            case MYSQL_TYPE_DECIMAL:
+            case MYSQL_TYPE_NEWDECIMAL:
+                return Types.DECIMAL;
+            case MYSQL_TYPE_FLOAT:
+                return Types.REAL;
+            case MYSQL_TYPE_DOUBLE:
+                return Types.DOUBLE;
+            case MYSQL_TYPE_NULL:
+                return Types.NULL;
+            case MYSQL_TYPE_YEAR:
+            case MYSQL_TYPE_DATE:
+            case MYSQL_TYPE_NEWDATE:
+                return Types.DATE;
+            case MYSQL_TYPE_TIME:
+            case MYSQL_TYPE_TIME2:
+                return Types.TIME;
+            case MYSQL_TYPE_TIMESTAMP:
+            case MYSQL_TYPE_TIMESTAMP2:
+            case MYSQL_TYPE_DATETIME:
+            case MYSQL_TYPE_DATETIME2:
+                return Types.TIMESTAMP;
+            case MYSQL_TYPE_TINY_BLOB:
+            case MYSQL_TYPE_MEDIUM_BLOB:
+            case MYSQL_TYPE_LONG_BLOB:
+            case MYSQL_TYPE_BLOB:
+                return BINARY_CHARACTER_SET == columnDefinition.getCharacterSet() ? Types.BLOB : Types.VARCHAR;
+            default:
+                return Types.VARCHAR;
+        }
+    }
+}
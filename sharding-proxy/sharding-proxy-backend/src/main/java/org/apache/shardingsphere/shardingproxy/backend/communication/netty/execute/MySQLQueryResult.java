@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute;
+
+import io.netty.channel.Channel;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query result for MySQL text protocol response.
+ * 
+ * <p>
+ * Rows are streamed from backend channel while being consumed, and kept as raw bytes of text protocol, current row is decoded at first access of its values.
+ * Backend channel stops reading when buffered rows reach high water mark, and resumes reading when consumer drains them to low water mark.
+ * Backend channel is closed if consumer does not read any row in read timeout while reading stopped, 0 read timeout means waiting without limit.
+ * </p>
+ */
+public final class MySQLQueryResult implements QueryResult {
+    
+    public static final int HIGH_WATER_MARK = 1024;
+    
+    public static final int LOW_WATER_MARK = 256;
+    
+    private static final byte[] END_OF_ROWS = new byte[0];
+    
+    @Getter
+    private final List<MySQLColumnDefinition41Packet> columnDefinitions;
+    
+    private final Channel channel;
+    
+    private final long readTimeoutMilliseconds;
+    
+    private final BlockingQueue<byte[]> rows = new LinkedBlockingQueue<>();
+    
+    private final Map<String, Integer> columnLabelAndIndexes;
+    
+    private volatile boolean paused;
+    
+    private volatile Throwable cause;
+    
+    private volatile boolean finished;
+    
+    private volatile long consumedRowsCount;
+    
+    private boolean consumed;
+    
+    @Getter
+    private byte[] currentRawRow;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public MySQLQueryResult(final List<MySQLColumnDefinition41Packet> columnDefinitions, final Channel channel, final long readTimeoutMilliseconds) {
+        this.columnDefinitions = columnDefinitions;
+        this.channel = channel;
+        this.readTimeoutMilliseconds = readTimeoutMilliseconds;
+        columnLabelAndIndexes = getColumnLabelAndIndexMap(columnDefinitions);
+    }
+    
+    private Map<String, Integer> getColumnLabelAndIndexMap(final List<MySQLColumnDefinition41Packet> columnDefinitions) {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int columnIndex = columnDefinitions.size(); columnIndex > 0; columnIndex--) {
+            result.put(columnDefinitions.get(columnIndex - 1).getName(), columnIndex);
+        }
+        return result;
+    }
+    
+    /**
+     * Add raw row read from backend channel.
+     * 
+     * <p>Should be called in event loop of backend channel.</p>
+     *
+     * @param rawRow raw row
+     */
+    public void addRow(final byte[] rawRow) {
+        rows.offer(rawRow);
+        if (!paused && rows.size() >= HIGH_WATER_MARK) {
+            paused = true;
+            channel.config().setAutoRead(false);
+            resumeIfDrained();
+            if (readTimeoutMilliseconds > 0L) {
+                scheduleStalledCheck();
+            }
+        }
+    }
+    
+    private void scheduleStalledCheck() {
+        final long lastConsumedRowsCount = consumedRowsCount;
+        channel.eventLoop().schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (!paused) {
+                    return;
+                }
+                if (lastConsumedRowsCount == consumedRowsCount) {
+                    channel.close();
+                } else {
+                    scheduleStalledCheck();
+                }
+            }
+        }, readTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Finish adding rows.
+     * 
+     * <p>Should be called in event loop of backend channel.</p>
+     */
+    public void finish() {
+        finished = true;
+        rows.offer(END_OF_ROWS);
+        resumeIfDrained();
+    }
+    
+    /**
+     * Finish adding rows with failure.
+     * 
+     * <p>Should be called in event loop of backend channel.</p>
+     *
+     * @param cause cause of failure
+     */
+    public void fail(final Throwable cause) {
+        this.cause = cause;
+        finish();
+    }
+    
+    private void resumeIfDrained() {
+        if (paused && (finished || rows.size() <= LOW_WATER_MARK)) {
+            paused = false;
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (consumed) {
+            return false;
+        }
+        currentRawRow = pollRow();
+        currentRow = null;
+        if (END_OF_ROWS == currentRawRow) {
+            consumed = true;
+            currentRawRow = null;
+            if (null != cause) {
+                throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+            }
+            return false;
+        }
+        consumedRowsCount++;
+        if (paused && rows.size() <= LOW_WATER_MARK) {
+            channel.eventLoop().execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    resumeIfDrained();
+                }
+            });
+        }
+        return true;
+    }
+    
+    private byte[] pollRow() throws SQLException {
+        try {
+            if (readTimeoutMilliseconds <= 0L) {
+                return rows.take();
+            }
+            byte[] result = rows.poll(readTimeoutMilliseconds, TimeUnit.MILLISECONDS);
+            if (null == result) {
+                throw new SQLException(String.format("Backend row is not received in %d milliseconds.", readTimeoutMilliseconds));
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Close query result.
+     * 
+     * <p>Backend channel is closed if rows are not read completely, to avoid remained rows being read by next command.</p>
+     */
+    public void close() {
+        if (!finished) {
+            channel.close();
+        }
+        rows.clear();
+        consumed = true;
+    }
+    
+    private Object getColumnValue(final int columnIndex) {
+        if (null == currentRow) {
+            currentRow = MySQLColumnValueConverter.convert(columnDefinitions, currentRawRow);
+        }
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return getColumnValue(columnIndex);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getColumnValue(columnLabelAndIndexes.get(columnLabel));
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getColumnValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getColumnValue(columnLabelAndIndexes.get(columnLabel));
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getColumnValue(columnIndex));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return getInputStream(getColumnValue(columnLabelAndIndexes.get(columnLabel)));
+    }
+    
+    @SneakyThrows
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnDefinitions.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnDefinitions.get(columnIndex - 1).getName();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.Promise;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.SQLExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteQueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * SQL execute engine for netty.
+ * 
+ * <p>
+ * SQL of all route units are sent to backend channels without blocking, 
+ * calling thread only waits responses of all route units once, no thread is occupied by each route unit.
+ * Waiting is limited by query timeout, and is stopped if calling thread is interrupted.
+ * </p>
+ */
+public final class NettyExecuteEngine implements SQLExecuteEngine {
+    
+    private final LogicSchema logicSchema;
+    
+    private final long queryTimeoutMilliseconds;
+    
+    public NettyExecuteEngine(final LogicSchema logicSchema) {
+        this.logicSchema = logicSchema;
+        queryTimeoutMilliseconds = TimeUnit.SECONDS.toMillis(
+                ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_QUERY_TIMEOUT_SECONDS));
+    }
+    
+    @Override
+    public BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
+        List<Promise<ExecuteResponse>> promises = new ArrayList<>(routeResult.getRouteUnits().size());
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            promises.add(execute(logicSchema.getNettyBackendDataSource().getChannelPool(each.getDataSourceName()), each.getSqlUnit().getSql()));
+        }
+        long deadline = System.currentTimeMillis() + queryTimeoutMilliseconds;
+        List<ExecuteResponse> executeResponses = new ArrayList<>(promises.size());
+        try {
+            for (Promise<ExecuteResponse> each : promises) {
+                executeResponses.add(getExecuteResponse(each, deadline));
+            }
+        } catch (final SQLException ex) {
+            cancel(promises);
+            throw ex;
+        }
+        ExecuteResponse executeResponse = executeResponses.iterator().next();
+        return executeResponse instanceof ExecuteQueryResponse ? getExecuteQueryResponse(executeResponses) : new UpdateResponse(executeResponses);
+    }
+    
+    private Promise<ExecuteResponse> execute(final ChannelPool channelPool, final String sql) {
+        final Promise<ExecuteResponse> result = GlobalEventExecutor.INSTANCE.newPromise();
+        final Promise<Void> completionPromise = GlobalEventExecutor.INSTANCE.newPromise();
+        channelPool.acquire().addListener(new FutureListener<Channel>() {
+            
+            @Override
+            public void operationComplete(final Future<Channel> future) {
+                if (!future.isSuccess()) {
+                    result.tryFailure(future.cause());
+                    return;
+                }
+                Channel channel = future.getNow();
+                if (result.isCancelled()) {
+                    channelPool.release(channel);
+                    return;
+                }
+                completionPromise.addListener(new ChannelReleaseListener(channelPool, channel));
+                result.addListener(new ResponseFailureListener(completionPromise));
+                channel.pipeline().get(MySQLBackendHandler.class).execute(sql, result, completionPromise);
+            }
+        });
+        return result;
+    }
+    
+    private ExecuteResponse getExecuteResponse(final Promise<ExecuteResponse> promise, final long deadline) throws SQLException {
+        try {
+            await(promise, deadline);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Waiting backend response is interrupted.", ex);
+        }
+        if (promise.isSuccess()) {
+            return promise.getNow();
+        }
+        throw promise.cause() instanceof SQLException ? (SQLException) promise.cause() : new SQLException(promise.cause());
+    }
+    
+    private void await(final Promise<ExecuteResponse> promise, final long deadline) throws InterruptedException {
+        if (queryTimeoutMilliseconds <= 0L) {
+            promise.await();
+            return;
+        }
+        if (!promise.await(Math.max(0L, deadline - System.currentTimeMillis()))) {
+            promise.tryFailure(new TimeoutException(String.format("Backend response is not received in %d milliseconds.", queryTimeoutMilliseconds)));
+        }
+    }
+    
+    private void cancel(final Collection<Promise<ExecuteResponse>> promises) {
+        for (Promise<ExecuteResponse> each : promises) {
+            if (!each.cancel(false) && each.isSuccess() && each.getNow() instanceof ExecuteQueryResponse) {
+                ((MySQLQueryResult) ((ExecuteQueryResponse) each.getNow()).getQueryResult()).close();
+            }
+        }
+    }
+    
+    private BackendResponse getExecuteQueryResponse(final Collection<ExecuteResponse> executeResponses) {
+        List<QueryHeader> queryHeaders = new ArrayList<>();
+        for (MySQLColumnDefinition41Packet each : ((MySQLQueryResult) ((ExecuteQueryResponse) executeResponses.iterator().next()).getQueryResult()).getColumnDefinitions()) {
+            queryHeaders.add(getQueryHeader(each));
+        }
+        QueryResponse result = new QueryResponse(queryHeaders);
+        for (ExecuteResponse each : executeResponses) {
+            result.getQueryResults().add(((ExecuteQueryResponse) each).getQueryResult());
+        }
+        return result;
+    }
+    
+    private QueryHeader getQueryHeader(final MySQLColumnDefinition41Packet columnDefinition) {
+        return new QueryHeader(logicSchema.getName(), getTableName(columnDefinition.getOrgTable()), columnDefinition.getName(), columnDefinition.getOrgName(),
+                columnDefinition.getColumnLength(), MySQLColumnValueConverter.getJDBCType(columnDefinition), columnDefinition.getDecimals());
+    }
+    
+    private String getTableName(final String actualTableName) {
+        if (logicSchema instanceof ShardingSchema) {
+            Collection<String> tableNames = logicSchema.getShardingRule().getLogicTableNames(actualTableName);
+            return tableNames.isEmpty() ? "" : tableNames.iterator().next();
+        }
+        return actualTableName;
+    }
+    
+    /**
+     * Listener to release channel after whole response read.
+     * 
+     * <p>Channel is closed if response is not read completely, to avoid remained response being read by next command.</p>
+     */
+    @RequiredArgsConstructor
+    private static final class ChannelReleaseListener implements FutureListener<Void> {
+        
+        private final ChannelPool channelPool;
+        
+        private final Channel channel;
+        
+        @Override
+        public void operationComplete(final Future<Void> future) {
+            if (!future.isSuccess()) {
+                channel.close();
+            }
+            channelPool.release(channel);
+        }
+    }
+    
+    /**
+     * Listener to fail completion if response is not received, such as timeout.
+     * 
+     * <p>SQL exception is error response of backend, which is read completely.</p>
+     */
+    @RequiredArgsConstructor
+    private static final class ResponseFailureListener implements FutureListener<ExecuteResponse> {
+        
+        private final Promise<Void> completionPromise;
+        
+        @Override
+        public void operationComplete(final Future<ExecuteResponse> future) {
+            if (!future.isSuccess() && !(future.cause() instanceof SQLException)) {
+                completionPromise.tryFailure(future.cause());
+            }
+        }
+    }
+}
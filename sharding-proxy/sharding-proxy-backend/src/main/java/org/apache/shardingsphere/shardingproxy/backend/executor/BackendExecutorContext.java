@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.executor;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -38,6 +40,8 @@ public final class BackendExecutorContext {
     private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(
             ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
     
+    private volatile EventLoopGroup eventLoopGroup;
+    
     /**
      * Get executor context instance.
      * 
@@ -46,4 +50,32 @@ public final class BackendExecutorContext {
     public static BackendExecutorContext getInstance() {
         return INSTANCE;
     }
+    
+    /**
+     * Get event loop group for backend channels.
+     * 
+     * <p>Event loop group is created at first call, to avoid opening selectors if native backend protocol is not used.</p>
+     * 
+     * @return event loop group
+     */
+    public EventLoopGroup getEventLoopGroup() {
+        if (null == eventLoopGroup) {
+            synchronized (this) {
+                if (null == eventLoopGroup) {
+                    eventLoopGroup = new NioEventLoopGroup();
+                }
+            }
+        }
+        return eventLoopGroup;
+    }
+    
+    /**
+     * Close execute engine and shutdown event loop group if created.
+     */
+    public void close() {
+        executeEngine.close();
+        if (null != eventLoopGroup) {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
 }
@@ -24,6 +24,8 @@ import java.util.List;
 
 /**
  * Query data.
+ * 
+ * <p>Raw data is row encoded by protocol of backend database, which can be forwarded to client without encoding again, {@code null} if unavailable.</p>
  *
  * @author zhangliang
  */
@@ -34,4 +36,10 @@ public final class QueryData {
     private final List<Integer> columnTypes;
     
     private final List<Object> data;
+    
+    private final byte[] rawData;
+    
+    public QueryData(final List<Integer> columnTypes, final List<Object> data) {
+        this(columnTypes, data, null);
+    }
 }
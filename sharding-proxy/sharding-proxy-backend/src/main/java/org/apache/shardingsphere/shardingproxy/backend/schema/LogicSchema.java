@@ -17,19 +17,23 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.schema;
 
+import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshot;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parse.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.datasource.NettyBackendDataSource;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
@@ -53,10 +57,13 @@ public abstract class LogicSchema {
     
     private JDBCBackendDataSource backendDataSource;
     
+    private final NettyBackendDataSource nettyBackendDataSource;
+    
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        parsingResultCache = new ParsingResultCache();
+        parsingResultCache = new ParsingResultCache(ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
         backendDataSource = new JDBCBackendDataSource(dataSources);
+        nettyBackendDataSource = new NettyBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
@@ -92,6 +99,13 @@ public abstract class LogicSchema {
         return result;
     }
     
+    protected final ShardingTableMetaData createShardingTableMetaData(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingRule shardingRule) {
+        TableMetaDataInitializer tableMetaDataInitializer = getTableMetaDataInitializer(shardingDataSourceMetaData);
+        String snapshotDirectory = ShardingProxyContext.getInstance().getShardingProperties().getValue(ShardingPropertiesConstant.TABLE_METADATA_SNAPSHOT_DIRECTORY);
+        return Strings.isNullOrEmpty(snapshotDirectory) ? new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule))
+                : tableMetaDataInitializer.load(shardingRule, new TableMetaDataSnapshot(snapshotDirectory, shardingRule, getDataSourceURLs(getDataSources())));
+    }
+    
     protected final TableMetaDataInitializer getTableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData) {
         ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
         return new TableMetaDataInitializer(
@@ -111,7 +125,9 @@ public abstract class LogicSchema {
         if (!name.equals(dataSourceChangedEvent.getShardingSchemaName())) {
             return;
         }
-        backendDataSource.renew(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
+        Map<String, YamlDataSourceParameter> dataSourceParameters = DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations());
+        backendDataSource.renew(dataSourceParameters);
+        nettyBackendDataSource.renew(dataSourceParameters);
     }
     
     /**
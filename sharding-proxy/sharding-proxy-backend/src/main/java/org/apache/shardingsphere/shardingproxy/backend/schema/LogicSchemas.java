@@ -162,9 +162,9 @@ public final class LogicSchemas {
      */
     @Subscribe
     public synchronized void renew(final SchemaAddedEvent schemaAddedEvent) {
-        logicSchemas.put(schemaAddedEvent.getShardingSchemaName(), createLogicSchema(schemaAddedEvent.getShardingSchemaName(), 
+        close(logicSchemas.put(schemaAddedEvent.getShardingSchemaName(), createLogicSchema(schemaAddedEvent.getShardingSchemaName(), 
                 Collections.singletonMap(schemaAddedEvent.getShardingSchemaName(), DataSourceConverter.getDataSourceParameterMap(schemaAddedEvent.getDataSourceConfigurations())), 
-                schemaAddedEvent.getRuleConfiguration(), true));
+                schemaAddedEvent.getRuleConfiguration(), true)));
     }
     
     /**
@@ -174,6 +174,12 @@ public final class LogicSchemas {
      */
     @Subscribe
     public synchronized void renew(final SchemaDeletedEvent schemaDeletedEvent) {
-        logicSchemas.remove(schemaDeletedEvent.getShardingSchemaName());
+        close(logicSchemas.remove(schemaDeletedEvent.getShardingSchemaName()));
+    }
+    
+    private void close(final LogicSchema logicSchema) {
+        if (null != logicSchema) {
+            logicSchema.getNettyBackendDataSource().close();
+        }
     }
 }
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.shardingproxy.backend.schema;
 
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -27,6 +29,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.AlterTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.route.cache.RoutingResultCache;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.ShardingRuleChangedEvent;
@@ -34,6 +37,7 @@ import org.apache.shardingsphere.orchestration.internal.registry.state.event.Dis
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationMasterSlaveRule;
 import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardingRule;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 
 import java.util.Collection;
@@ -51,13 +55,13 @@ import java.util.Map;
 @Getter
 public final class ShardingSchema extends LogicSchema {
     
-    private ShardingRule shardingRule;
+    private volatile ShardingRuleContext shardingRuleContext;
     
     private final ShardingMetaData metaData;
     
     public ShardingSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) {
         super(name, dataSources);
-        shardingRule = createShardingRule(shardingRuleConfig, dataSources.keySet(), isUsingRegistry);
+        shardingRuleContext = new ShardingRuleContext(createShardingRule(shardingRuleConfig, dataSources.keySet(), isUsingRegistry), createRoutingResultCache());
         metaData = createShardingMetaData();
     }
     
@@ -65,21 +69,37 @@ public final class ShardingSchema extends LogicSchema {
         return isUsingRegistry ? new OrchestrationShardingRule(shardingRuleConfig, dataSourceNames) : new ShardingRule(shardingRuleConfig, dataSourceNames);
     }
     
+    private RoutingResultCache createRoutingResultCache() {
+        return new RoutingResultCache(ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.ROUTING_RESULT_CACHE_SIZE));
+    }
+    
     private ShardingMetaData createShardingMetaData() {
+        ShardingRule shardingRule = getShardingRule();
         ShardingDataSourceMetaData shardingDataSourceMetaData = new ShardingDataSourceMetaData(getDataSourceURLs(getDataSources()), shardingRule, LogicSchemas.getInstance().getDatabaseType());
-        ShardingTableMetaData shardingTableMetaData = new ShardingTableMetaData(getTableMetaDataInitializer(shardingDataSourceMetaData).load(shardingRule));
+        ShardingTableMetaData shardingTableMetaData = createShardingTableMetaData(shardingDataSourceMetaData, shardingRule);
         return new ShardingMetaData(shardingDataSourceMetaData, shardingTableMetaData);
     }
     
+    @Override
+    public ShardingRule getShardingRule() {
+        return shardingRuleContext.getShardingRule();
+    }
+    
     /**
      * Renew sharding rule.
+     * 
+     * <p>
+     * Sharding rule and its routing result cache are replaced together, 
+     * so routing result cache will never be filled by replaced sharding rule.
+     * </p>
      *
      * @param shardingRuleChangedEvent sharding rule changed event.
      */
     @Subscribe
     public synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
-            shardingRule = new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+            shardingRuleContext = new ShardingRuleContext(
+                    new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet()), createRoutingResultCache());
         }
     }
     
@@ -92,7 +112,7 @@ public final class ShardingSchema extends LogicSchema {
     public synchronized void renew(final DisabledStateChangedEvent disabledStateChangedEvent) {
         OrchestrationShardingSchema shardingSchema = disabledStateChangedEvent.getShardingSchema();
         if (getName().equals(shardingSchema.getSchemaName())) {
-            for (MasterSlaveRule each : shardingRule.getMasterSlaveRules()) {
+            for (MasterSlaveRule each : getShardingRule().getMasterSlaveRules()) {
                 ((OrchestrationMasterSlaveRule) each).updateDisabledDataSourceNames(shardingSchema.getDataSourceName(), disabledStateChangedEvent.isDisabled());
             }
         }
@@ -111,12 +131,12 @@ public final class ShardingSchema extends LogicSchema {
     
     private void refreshTableMetaData(final CreateTableStatement createTableStatement) {
         String tableName = createTableStatement.getTables().getSingleTableName();
-        getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, shardingRule));
+        getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, getShardingRule()));
     }
     
     private void refreshTableMetaData(final AlterTableStatement alterTableStatement) {
         String tableName = alterTableStatement.getTables().getSingleTableName();
-        getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, shardingRule));
+        getMetaData().getTable().put(tableName, getTableMetaDataInitializer(metaData.getDataSource()).load(tableName, getShardingRule()));
     }
     
     private void refreshTableMetaData(final DropTableStatement dropTableStatement) {
@@ -124,4 +144,16 @@ public final class ShardingSchema extends LogicSchema {
             getMetaData().getTable().remove(each);
         }
     }
+    
+    /**
+     * Sharding rule with routing result cache filled by it.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static final class ShardingRuleContext {
+        
+        private final ShardingRule shardingRule;
+        
+        private final RoutingResultCache routingResultCache;
+    }
 }
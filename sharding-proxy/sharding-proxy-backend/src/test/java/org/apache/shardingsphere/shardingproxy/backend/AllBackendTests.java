@@ -20,8 +20,12 @@ package org.apache.shardingsphere.shardingproxy.backend;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnectionTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendTransactionManagerTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandlerTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.PreparedStatementCacheTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSourceTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.recognizer.AllRecognizerTests;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.NettyDatabaseCommunicationEngineTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.MySQLBackendHandlerTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.MySQLColumnValueConverterTest;
 import org.apache.shardingsphere.shardingproxy.backend.executor.ExecutorContextTest;
 import org.apache.shardingsphere.shardingproxy.backend.schema.ProxyTableMetaDataConnectionManagerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBackendHandlerTest;
@@ -47,8 +51,12 @@ import org.junit.runners.Suite.SuiteClasses;
         UseDatabaseBackendHandlerTest.class,
         JDBCBackendDataSourceTest.class,
         BackendConnectionTest.class, 
+        PreparedStatementCacheTest.class, 
         BackendTransactionManagerTest.class, 
         ConnectionStateHandlerTest.class, 
+        MySQLBackendHandlerTest.class, 
+        MySQLColumnValueConverterTest.class, 
+        NettyDatabaseCommunicationEngineTest.class, 
         ProxyTableMetaDataConnectionManagerTest.class, 
         AllSCTLTests.class, 
         AllRecognizerTests.class
@@ -30,6 +30,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.Closeable;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -37,10 +38,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -159,6 +162,7 @@ public final class BackendConnectionTest {
         try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
             backendConnection.setCurrentSchema("schema_0");
             when(backendDataSource.getConnections((ConnectionMode) any(), anyString(), eq(12), eq(TransactionType.LOCAL))).thenReturn(MockConnectionUtil.mockNewConnections(12));
+            when(backendDataSource.getPreparedStatementCache()).thenReturn(new PreparedStatementCache(0));
             backendConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds1", 12);
             assertThat(backendConnection.getStateHandler().getStatus(), is(ConnectionStatus.INIT));
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
@@ -180,6 +184,7 @@ public final class BackendConnectionTest {
             MockConnectionUtil.setCachedConnections(backendConnection, "ds1", 10);
             when(backendDataSource.getConnections((ConnectionMode) any(), anyString(), eq(2), eq(TransactionType.LOCAL))).thenReturn(MockConnectionUtil.mockNewConnections(2));
             backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+            when(backendDataSource.getPreparedStatementCache()).thenReturn(new PreparedStatementCache(0));
             backendConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds1", 12);
             mockResultSetAndStatement(backendConnection);
             actual = backendConnection;
@@ -214,6 +219,24 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseResultSetsAndStatementsWithoutClosingConnection() throws SQLException {
+        when(backendDataSource.getPreparedStatementCache()).thenReturn(new PreparedStatementCache(0));
+        ResultSet closingResultSet = mock(ResultSet.class);
+        Statement closingStatement = mock(Statement.class);
+        backendConnection.add(closingResultSet);
+        backendConnection.add(closingStatement);
+        mockResultSetAndStatement(backendConnection);
+        backendConnection.close(Collections.<Closeable>emptyList(), Collections.singletonList(closingResultSet), Collections.singletonList(closingStatement));
+        backendConnection.close(Collections.<Closeable>emptyList(), Collections.singletonList(closingResultSet), Collections.singletonList(closingStatement));
+        verify(closingResultSet).close();
+        verify(closingStatement).close();
+        assertThat(backendConnection.getCachedResultSets().size(), is(1));
+        assertFalse(backendConnection.getCachedResultSets().contains(closingResultSet));
+        assertThat(backendConnection.getCachedStatements().size(), is(1));
+        assertFalse(backendConnection.getCachedStatements().contains(closingStatement));
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
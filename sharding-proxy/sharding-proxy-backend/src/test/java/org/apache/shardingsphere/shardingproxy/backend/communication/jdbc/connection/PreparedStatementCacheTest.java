@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PreparedStatementCacheTest {
+    
+    private final Object rule = new Object();
+    
+    @Mock
+    private Connection connection;
+    
+    @Test
+    public void assertGetPreparedStatementFromCache() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(2);
+        PreparedStatement expected = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        assertTrue(preparedStatementCache.release(expected));
+        verify(expected).clearParameters();
+        assertThat(preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule), sameInstance(expected));
+        assertThat(preparedStatementCache.getHitCount(), is(1L));
+        assertThat(preparedStatementCache.getMissCount(), is(1L));
+        verify(expected, never()).close();
+    }
+    
+    @Test
+    public void assertGetPreparedStatementFromCacheWithAnotherConnectionOfSamePhysicalConnection() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(2);
+        PreparedStatement expected = preparedStatementCache.getPreparedStatement(mockPooledConnection(), "select 1", false, rule);
+        assertTrue(preparedStatementCache.release(expected));
+        assertThat(preparedStatementCache.getPreparedStatement(mockPooledConnection(), "select 1", false, rule), sameInstance(expected));
+        assertThat(preparedStatementCache.getHitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRemoveStatementsOfClosedPhysicalConnection() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(2);
+        PreparedStatement closed = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        preparedStatementCache.release(closed);
+        when(connection.isClosed()).thenReturn(true);
+        Connection anotherConnection = mock(Connection.class);
+        when(anotherConnection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+        preparedStatementCache.getPreparedStatement(anotherConnection, "select 1", false, rule);
+        verify(closed).close();
+        assertThat(preparedStatementCache.size(), is(1));
+    }
+    
+    @Test
+    public void assertGetPreparedStatementInUse() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(2);
+        PreparedStatement cached = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        assertThat(actual, not(sameInstance(cached)));
+        assertTrue(preparedStatementCache.release(cached));
+        assertFalse(preparedStatementCache.release(actual));
+        assertThat(preparedStatementCache.size(), is(1));
+    }
+    
+    @Test
+    public void assertEvictLeastRecentlyUsedStatement() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+        when(connection.prepareStatement("select 2")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(1);
+        PreparedStatement evicted = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        preparedStatementCache.release(evicted);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "select 2", false, rule);
+        verify(evicted).close();
+        assertThat(preparedStatementCache.getEvictionCount(), is(1L));
+        assertThat(preparedStatementCache.size(), is(1));
+        assertTrue(preparedStatementCache.release(actual));
+    }
+    
+    @Test
+    public void assertInvalidateWhenRuleChanged() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(2);
+        PreparedStatement invalidated = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        preparedStatementCache.release(invalidated);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "select 1", false, new Object());
+        assertThat(actual, not(sameInstance(invalidated)));
+        verify(invalidated).close();
+    }
+    
+    @Test
+    public void assertInvalidateAll() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class), mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(2);
+        PreparedStatement invalidated = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        preparedStatementCache.release(invalidated);
+        PreparedStatementCache.invalidateAll();
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        assertThat(actual, not(sameInstance(invalidated)));
+        verify(invalidated).close();
+        assertThat(preparedStatementCache.getMissCount(), is(2L));
+    }
+    
+    @Test
+    public void assertInvalidateStatementInUse() throws SQLException {
+        when(connection.prepareStatement("select 1")).thenReturn(mock(PreparedStatement.class));
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(2);
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "select 1", false, rule);
+        assertTrue(preparedStatementCache.invalidate().isEmpty());
+        verify(actual, never()).close();
+        assertFalse(preparedStatementCache.release(actual));
+        assertThat(preparedStatementCache.size(), is(0));
+    }
+    
+    @Test
+    public void assertGetPreparedStatementWithoutCache() throws SQLException {
+        PreparedStatementCache preparedStatementCache = new PreparedStatementCache(0);
+        when(connection.prepareStatement("select 1", Statement.RETURN_GENERATED_KEYS)).thenReturn(mock(PreparedStatement.class));
+        PreparedStatement actual = preparedStatementCache.getPreparedStatement(connection, "select 1", true, rule);
+        assertFalse(preparedStatementCache.release(actual));
+        assertThat(preparedStatementCache.size(), is(0));
+    }
+    
+    private Connection mockPooledConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.isWrapperFor(Connection.class)).thenReturn(true);
+        when(result.unwrap(Connection.class)).thenReturn(connection);
+        return result;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import com.google.common.base.Optional;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.sql.context.selectitem.DistinctSelectItem;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.MySQLQueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.NettyExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class NettyDatabaseCommunicationEngineTest {
+    
+    private static final String COLUMN_LABEL = "COUNT(*)";
+    
+    private final LogicSchema logicSchema = mock(LogicSchema.class, RETURNS_DEEP_STUBS);
+    
+    private final StatementExecutorWrapper executorWrapper = mock(StatementExecutorWrapper.class);
+    
+    private final NettyExecuteEngine executeEngine = mock(NettyExecuteEngine.class);
+    
+    private SelectStatement selectStatement;
+    
+    @Before
+    public void setUp() {
+        selectStatement = new SelectStatement();
+    }
+    
+    @Test
+    public void assertPassthroughPlainSelect() throws SQLException {
+        NettyDatabaseCommunicationEngine engine = createEngine(createRouteResult("ds_0"), createQueryResult("2", "3"));
+        engine.execute();
+        assertPassthroughRow(engine, "2");
+        assertPassthroughRow(engine, "3");
+        assertFalse(engine.next());
+    }
+    
+    @Test
+    public void assertPassthroughAggregationWithSingleRoute() throws SQLException {
+        selectStatement.getItems().add(new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent()));
+        NettyDatabaseCommunicationEngine engine = createEngine(createRouteResult("ds_0"), createQueryResult("5"));
+        engine.execute();
+        assertPassthroughRow(engine, "5");
+        assertFalse(engine.next());
+    }
+    
+    @Test
+    public void assertPassthroughGroupByWithSingleRoute() throws SQLException {
+        selectStatement.getGroupByItems().add(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        NettyDatabaseCommunicationEngine engine = createEngine(createRouteResult("ds_0"), createQueryResult("2", "3"));
+        engine.execute();
+        assertPassthroughRow(engine, "2");
+        assertPassthroughRow(engine, "3");
+        assertFalse(engine.next());
+    }
+    
+    @Test
+    public void assertPassthroughDistinctWithSingleRoute() throws SQLException {
+        selectStatement.getItems().add(new DistinctSelectItem(Collections.singleton(COLUMN_LABEL), Optional.<String>absent()));
+        NettyDatabaseCommunicationEngine engine = createEngine(createRouteResult("ds_0"), createQueryResult("2", "3"));
+        engine.execute();
+        assertPassthroughRow(engine, "2");
+        assertPassthroughRow(engine, "3");
+        assertFalse(engine.next());
+    }
+    
+    @Test
+    public void assertNotPassthroughAggregationWithMultipleRoutes() throws SQLException {
+        selectStatement.getItems().add(new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent()));
+        NettyDatabaseCommunicationEngine engine = createEngine(createRouteResult("ds_0", "ds_1"), createQueryResult("2"), createQueryResult("3"));
+        engine.execute();
+        assertTrue(engine.next());
+        QueryData actual = engine.getQueryData();
+        assertNull(actual.getRawData());
+        assertThat(actual.getData().get(0), is((Object) new BigDecimal("5")));
+        assertFalse(engine.next());
+    }
+    
+    private NettyDatabaseCommunicationEngine createEngine(final SQLRouteResult routeResult, final MySQLQueryResult... queryResults) throws SQLException {
+        when(executorWrapper.route(anyString(), nullable(DatabaseType.class))).thenReturn(routeResult);
+        QueryResponse queryResponse = new QueryResponse(new ArrayList<>(Collections.singletonList(new QueryHeader("schema", "t_order", COLUMN_LABEL, COLUMN_LABEL, 20, Types.BIGINT, 0))));
+        Collections.addAll(queryResponse.getQueryResults(), queryResults);
+        when(executeEngine.execute(routeResult)).thenReturn(queryResponse);
+        return new NettyDatabaseCommunicationEngine(logicSchema, "SELECT COUNT(*) FROM t_order", executorWrapper, executeEngine);
+    }
+    
+    private SQLRouteResult createRouteResult(final String... dataSourceNames) {
+        SQLRouteResult result = new SQLRouteResult(selectStatement);
+        for (String each : dataSourceNames) {
+            result.getRouteUnits().add(new RouteUnit(each, new SQLUnit("SELECT COUNT(*) FROM t_order", Collections.emptyList())));
+        }
+        return result;
+    }
+    
+    private MySQLQueryResult createQueryResult(final String... values) {
+        List<MySQLColumnDefinition41Packet> columnDefinitions = Collections.singletonList(
+                new MySQLColumnDefinition41Packet(1, "schema", "t_order", "t_order", COLUMN_LABEL, COLUMN_LABEL, 20, MySQLColumnType.MYSQL_TYPE_LONGLONG, 0));
+        MySQLQueryResult result = new MySQLQueryResult(columnDefinitions, new EmbeddedChannel(), 1000L);
+        for (String each : values) {
+            result.addRow(createRawRow(each));
+        }
+        result.finish();
+        return result;
+    }
+    
+    private byte[] createRawRow(final String value) {
+        byte[] result = new byte[value.length() + 1];
+        result[0] = (byte) value.length();
+        System.arraycopy(value.getBytes(), 0, result, 1, value.length());
+        return result;
+    }
+    
+    private void assertPassthroughRow(final NettyDatabaseCommunicationEngine engine, final String expectedValue) throws SQLException {
+        assertTrue(engine.next());
+        QueryData actual = engine.getQueryData();
+        assertThat(actual.getRawData(), is(createRawRow(expectedValue)));
+        assertThat(actual.getData().get(0), is((Object) Long.valueOf(expectedValue)));
+    }
+}
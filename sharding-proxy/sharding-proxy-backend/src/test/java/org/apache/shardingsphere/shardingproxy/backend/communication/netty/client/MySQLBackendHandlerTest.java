@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteQueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute.MySQLQueryResult;
+import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLAuthPluginData;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class MySQLBackendHandlerTest {
+    
+    private EmbeddedChannel channel;
+    
+    private MySQLBackendHandler handler;
+    
+    private Promise<Void> completionPromise;
+    
+    @Before
+    public void setUp() {
+        handler = new MySQLBackendHandler("demo_ds", "root", "root", 1000L);
+        channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()), handler);
+        completionPromise = channel.eventLoop().newPromise();
+    }
+    
+    @Test
+    public void assertAuthenticate() {
+        channel.writeInbound(createHandshakePacket());
+        MySQLPacketPayload payload = readOutbound();
+        MySQLHandshakeResponse41Packet actual = new MySQLHandshakeResponse41Packet(payload);
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getUsername(), is("root"));
+        assertThat(actual.getAuthResponse().length, is(20));
+        assertThat(actual.getDatabase(), is("demo_ds"));
+    }
+    
+    @Test
+    public void assertExecuteQuery() throws SQLException {
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        handler.execute("SELECT id, name FROM t_order", promise, completionPromise);
+        authenticate();
+        MySQLPacketPayload payload = readOutbound();
+        assertThat(payload.readInt1(), is(0));
+        assertThat(payload.readInt1(), is(MySQLCommandPacketType.COM_QUERY.getValue()));
+        assertThat(payload.readStringEOF(), is("SELECT id, name FROM t_order"));
+        channel.writeInbound(createPacket(new MySQLFieldCountPacket(1, 2)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(2, "demo_ds", "t_order_0", "t_order_0", "id", "id", 11, MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(3, "demo_ds", "t_order_0", "t_order_0", "name", "name", 20, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0)));
+        channel.writeInbound(createPacket(new MySQLEofPacket(4)));
+        assertTrue(promise.isSuccess());
+        assertThat(promise.getNow(), instanceOf(ExecuteQueryResponse.class));
+        assertFalse(completionPromise.isDone());
+        channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(5, Arrays.<Object>asList(1, "foo"))));
+        channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(6, Arrays.<Object>asList(2, null))));
+        channel.writeInbound(createPacket(new MySQLEofPacket(7)));
+        assertTrue(completionPromise.isSuccess());
+        QueryResult actual = ((ExecuteQueryResponse) promise.getNow()).getQueryResult();
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getColumnLabel(2), is("name"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1L));
+        assertThat(actual.getValue("name", Object.class), is((Object) "foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2L));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertExecuteQueryWithBackpressure() throws SQLException {
+        authenticate();
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        handler.execute("SELECT id FROM t_order", promise, completionPromise);
+        readOutbound();
+        channel.writeInbound(createPacket(new MySQLFieldCountPacket(1, 1)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(2, "demo_ds", "t_order_0", "t_order_0", "id", "id", 11, MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        channel.writeInbound(createPacket(new MySQLEofPacket(3)));
+        for (int i = 0; i < MySQLQueryResult.HIGH_WATER_MARK; i++) {
+            channel.writeInbound(createPacket(new MySQLTextResultSetRowPacket(4, Arrays.<Object>asList(i))));
+        }
+        assertFalse(channel.config().isAutoRead());
+        QueryResult actual = ((ExecuteQueryResponse) promise.getNow()).getQueryResult();
+        for (int i = 0; i < MySQLQueryResult.HIGH_WATER_MARK - MySQLQueryResult.LOW_WATER_MARK; i++) {
+            assertTrue(actual.next());
+        }
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+        channel.writeInbound(createPacket(new MySQLEofPacket(5)));
+        assertTrue(completionPromise.isSuccess());
+        for (int i = 0; i < MySQLQueryResult.LOW_WATER_MARK; i++) {
+            assertTrue(actual.next());
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertExecuteQueryWithErrorInRows() {
+        authenticate();
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        handler.execute("SELECT id FROM t_order", promise, completionPromise);
+        readOutbound();
+        channel.writeInbound(createPacket(new MySQLFieldCountPacket(1, 1)));
+        channel.writeInbound(createPacket(new MySQLColumnDefinition41Packet(2, "demo_ds", "t_order_0", "t_order_0", "id", "id", 11, MySQLColumnType.MYSQL_TYPE_LONG, 0)));
+        channel.writeInbound(createPacket(new MySQLEofPacket(3)));
+        channel.writeInbound(createPacket(new MySQLErrPacket(4, MySQLServerErrorCode.ER_NO_DB_ERROR)));
+        assertTrue(completionPromise.isSuccess());
+        QueryResult actual = ((ExecuteQueryResponse) promise.getNow()).getQueryResult();
+        try {
+            actual.next();
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(MySQLServerErrorCode.ER_NO_DB_ERROR.getErrorCode()));
+        }
+    }
+    
+    @Test
+    public void assertExecuteUpdate() {
+        authenticate();
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        handler.execute("UPDATE t_order SET status = 'OK'", promise, completionPromise);
+        readOutbound();
+        channel.writeInbound(createPacket(new MySQLOKPacket(1, 3L, 0L)));
+        assertTrue(promise.isSuccess());
+        assertTrue(completionPromise.isSuccess());
+        assertThat(((ExecuteUpdateResponse) promise.getNow()).getUpdateCount(), is(3));
+    }
+    
+    @Test
+    public void assertExecuteWithError() {
+        authenticate();
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        handler.execute("SELECT * FROM t_order", promise, completionPromise);
+        readOutbound();
+        channel.writeInbound(createPacket(new MySQLErrPacket(1, MySQLServerErrorCode.ER_NO_DB_ERROR)));
+        assertFalse(promise.isSuccess());
+        assertTrue(completionPromise.isSuccess());
+        assertThat(promise.cause(), instanceOf(SQLException.class));
+        assertThat(((SQLException) promise.cause()).getErrorCode(), is(MySQLServerErrorCode.ER_NO_DB_ERROR.getErrorCode()));
+        assertThat(((SQLException) promise.cause()).getSQLState(), is(MySQLServerErrorCode.ER_NO_DB_ERROR.getSqlState()));
+    }
+    
+    @Test
+    public void assertExecuteWithChannelClosed() {
+        authenticate();
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        handler.execute("SELECT * FROM t_order", promise, completionPromise);
+        channel.close();
+        assertFalse(promise.isSuccess());
+        assertFalse(completionPromise.isSuccess());
+        assertThat(promise.cause(), instanceOf(SQLException.class));
+    }
+    
+    @Test
+    public void assertExecuteWithPreviousCommandInFlight() {
+        authenticate();
+        handler.execute("SELECT * FROM t_order", channel.eventLoop().<ExecuteResponse>newPromise(), completionPromise);
+        readOutbound();
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        Promise<Void> nextCompletionPromise = channel.eventLoop().newPromise();
+        handler.execute("SELECT * FROM t_order_item", promise, nextCompletionPromise);
+        assertThat(promise.cause(), instanceOf(SQLException.class));
+        assertFalse(nextCompletionPromise.isSuccess());
+        assertNull(channel.readOutbound());
+        assertFalse(completionPromise.isDone());
+    }
+    
+    @Test
+    public void assertReadErrorWithoutCommandInFlight() {
+        authenticate();
+        channel.writeInbound(createPacket(new MySQLErrPacket(1, MySQLServerErrorCode.ER_NO_DB_ERROR)));
+        assertFalse(channel.isActive());
+    }
+    
+    @Test
+    public void assertExecuteAfterChannelClosed() {
+        authenticate();
+        channel.close();
+        Promise<ExecuteResponse> promise = channel.eventLoop().newPromise();
+        handler.execute("SELECT * FROM t_order", promise, completionPromise);
+        assertThat(promise.cause(), instanceOf(SQLException.class));
+        assertFalse(completionPromise.isSuccess());
+    }
+    
+    private void authenticate() {
+        channel.writeInbound(createHandshakePacket());
+        readOutbound();
+        channel.writeInbound(createPacket(new MySQLOKPacket(2)));
+    }
+    
+    private ByteBuf createHandshakePacket() {
+        return createPacket(new MySQLHandshakePacket(1, new MySQLAuthPluginData("12345678".getBytes(), "123456789012".getBytes())));
+    }
+    
+    private ByteBuf createPacket(final MySQLPacket packet) {
+        ByteBuf payload = Unpooled.buffer();
+        packet.write(new MySQLPacketPayload(payload));
+        ByteBuf result = Unpooled.buffer();
+        result.writeMediumLE(payload.readableBytes());
+        result.writeByte(packet.getSequenceId());
+        result.writeBytes(payload);
+        return result;
+    }
+    
+    private MySQLPacketPayload readOutbound() {
+        ByteBuf byteBuf = channel.readOutbound();
+        byteBuf.skipBytes(3);
+        return new MySQLPacketPayload(byteBuf);
+    }
+}
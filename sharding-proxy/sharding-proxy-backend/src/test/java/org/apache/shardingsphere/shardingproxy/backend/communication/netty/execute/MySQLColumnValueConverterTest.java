@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.execute;
+
+import com.google.common.base.Charsets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerInfo;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLColumnValueConverterTest {
+    
+    private static final int BINARY_CHARACTER_SET = 63;
+    
+    private static final int UNSIGNED_FLAG = 0x20;
+    
+    @Test
+    public void assertConvertBit() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_BIT, 1, 0, BINARY_CHARACTER_SET, new byte[]{1}, true, Types.BIT);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_BIT, 16, 0, BINARY_CHARACTER_SET, new byte[]{1, 2}, new byte[]{1, 2}, Types.VARBINARY);
+    }
+    
+    @Test
+    public void assertConvertTinyInt() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_TINY, 1, 0, MySQLServerInfo.CHARSET, "1", true, Types.BIT);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_TINY, 4, 0, MySQLServerInfo.CHARSET, "-8", -8, Types.TINYINT);
+    }
+    
+    @Test
+    public void assertConvertSmallIntAndMediumInt() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_SHORT, 6, 0, MySQLServerInfo.CHARSET, "-300", -300, Types.SMALLINT);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_INT24, 9, 0, MySQLServerInfo.CHARSET, "70000", 70000, Types.INTEGER);
+    }
+    
+    @Test
+    public void assertConvertInt() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_LONG, 11, 0, MySQLServerInfo.CHARSET, "-1", -1, Types.INTEGER);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_LONG, 10, UNSIGNED_FLAG, MySQLServerInfo.CHARSET, "4294967295", 4294967295L, Types.INTEGER);
+    }
+    
+    @Test
+    public void assertConvertBigInt() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_LONGLONG, 20, 0, MySQLServerInfo.CHARSET, "-1", -1L, Types.BIGINT);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_LONGLONG, 20, UNSIGNED_FLAG, MySQLServerInfo.CHARSET, "18446744073709551615", new BigInteger("18446744073709551615"), Types.BIGINT);
+    }
+    
+    @Test
+    public void assertConvertDecimalAndFloatingPoint() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_NEWDECIMAL, 10, 0, MySQLServerInfo.CHARSET, "1.50", new BigDecimal("1.50"), Types.DECIMAL);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_FLOAT, 12, 0, MySQLServerInfo.CHARSET, "1.5", 1.5F, Types.REAL);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_DOUBLE, 22, 0, MySQLServerInfo.CHARSET, "1.5", 1.5D, Types.DOUBLE);
+    }
+    
+    @Test
+    public void assertConvertTemporal() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_YEAR, 4, 0, BINARY_CHARACTER_SET, "2019", Date.valueOf("2019-01-01"), Types.DATE);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_DATE, 10, 0, BINARY_CHARACTER_SET, "2019-05-20", Date.valueOf("2019-05-20"), Types.DATE);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_TIME, 10, 0, BINARY_CHARACTER_SET, "12:30:45", Time.valueOf("12:30:45"), Types.TIME);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_DATETIME, 19, 0, BINARY_CHARACTER_SET, "2019-05-20 12:30:45", Timestamp.valueOf("2019-05-20 12:30:45"), Types.TIMESTAMP);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_TIMESTAMP, 26, 0, BINARY_CHARACTER_SET, "2019-05-20 12:30:45.123", Timestamp.valueOf("2019-05-20 12:30:45.123"), Types.TIMESTAMP);
+    }
+    
+    @Test
+    public void assertConvertZeroDate() {
+        assertNull(MySQLColumnValueConverter.convert(createColumnDefinition(MySQLColumnType.MYSQL_TYPE_DATE, 10, 0, BINARY_CHARACTER_SET), "0000-00-00".getBytes(Charsets.US_ASCII)));
+        assertNull(MySQLColumnValueConverter.convert(
+                createColumnDefinition(MySQLColumnType.MYSQL_TYPE_DATETIME, 19, 0, BINARY_CHARACTER_SET), "0000-00-00 00:00:00".getBytes(Charsets.US_ASCII)));
+    }
+    
+    @Test
+    public void assertConvertString() {
+        assertConvert(MySQLColumnType.MYSQL_TYPE_VAR_STRING, 40, 0, MySQLServerInfo.CHARSET, "foo", "foo", Types.VARCHAR);
+        assertConvert(MySQLColumnType.MYSQL_TYPE_BLOB, 65535, 0, BINARY_CHARACTER_SET, new byte[]{1, 2}, new byte[]{1, 2}, Types.BLOB);
+    }
+    
+    private void assertConvert(final MySQLColumnType columnType, final int columnLength, final int flags, final int characterSet, 
+                               final String value, final Object expectedValue, final int expectedJDBCType) {
+        assertConvert(columnType, columnLength, flags, characterSet, value.getBytes(Charsets.US_ASCII), expectedValue, expectedJDBCType);
+    }
+    
+    private void assertConvert(final MySQLColumnType columnType, final int columnLength, final int flags, final int characterSet, 
+                               final byte[] value, final Object expectedValue, final int expectedJDBCType) {
+        MySQLColumnDefinition41Packet columnDefinition = createColumnDefinition(columnType, columnLength, flags, characterSet);
+        assertThat(MySQLColumnValueConverter.convert(columnDefinition, value), is(expectedValue));
+        assertThat(MySQLColumnValueConverter.getJDBCType(columnDefinition), is(expectedJDBCType));
+    }
+    
+    private MySQLColumnDefinition41Packet createColumnDefinition(final MySQLColumnType columnType, final int columnLength, final int flags, final int characterSet) {
+        ByteBuf byteBuf = Unpooled.buffer();
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
+        payload.writeInt1(1);
+        payload.writeStringLenenc("def");
+        payload.writeStringLenenc("schema");
+        payload.writeStringLenenc("t_order");
+        payload.writeStringLenenc("t_order");
+        payload.writeStringLenenc("col");
+        payload.writeStringLenenc("col");
+        payload.writeIntLenenc(0x0c);
+        payload.writeInt2(characterSet);
+        payload.writeInt4(columnLength);
+        payload.writeInt1(columnType.getValue());
+        payload.writeInt2(flags);
+        payload.writeInt1(0);
+        payload.writeReserved(2);
+        return new MySQLColumnDefinition41Packet(payload);
+    }
+}
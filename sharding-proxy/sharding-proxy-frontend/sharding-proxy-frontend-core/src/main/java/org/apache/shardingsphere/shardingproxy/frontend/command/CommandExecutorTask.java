@@ -27,6 +27,8 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ConnectionCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
@@ -53,18 +55,27 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final ConnectionCommandExecutor connectionCommandExecutor;
+    
+    private boolean suspended;
+    
     @Override
     public void run() {
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
         int connectionSize = 0;
         boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
-            backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
-            backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
-            connectionSize = backendConnection.getConnectionSize();
+        try {
+            try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+                if (!databaseProtocolFrontendEngine.getCommandExecuteEngine().isBackendConnectionHeld()) {
+                    backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
+                    backendConnection.getStateHandler().setRunningStatusIfNecessary();
+                }
+                isNeedFlush = executeCommand(context, payload, backendConnection);
+                connectionSize = backendConnection.getConnectionSize();
+            } finally {
+                closeBackendConnectionIfNecessary();
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -72,7 +83,7 @@ public final class CommandExecutorTask implements Runnable {
             context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
         } finally {
             if (isNeedFlush) {
-                context.flush();
+                flushIfNoPendingCommands();
             }
             rootInvokeHook.finish(connectionSize);
         }
@@ -84,16 +95,60 @@ public final class CommandExecutorTask implements Runnable {
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
         Collection<DatabasePacket> responsePackets = commandExecutor.execute();
-        if (responsePackets.isEmpty()) {
-            return false;
-        }
         for (DatabasePacket each : responsePackets) {
             context.write(each);
         }
-        if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+        boolean result = databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket() || commandExecuteEngine.isFlushCommand(type);
+        if (isQueryDataNeeded(commandExecutor, responsePackets)) {
+            writeQueryData((QueryCommandExecutor) commandExecutor, new QueryDataWriteProgress(responsePackets.size()));
+        }
+        return result;
+    }
+    
+    private boolean isQueryDataNeeded(final CommandExecutor commandExecutor, final Collection<DatabasePacket> responsePackets) {
+        return commandExecutor instanceof QueryCommandExecutor && (!responsePackets.isEmpty() || ((QueryCommandExecutor) commandExecutor).isQuery());
+    }
+    
+    private void writeQueryData(final QueryCommandExecutor queryCommandExecutor, final QueryDataWriteProgress progress) throws SQLException {
+        suspended = false;
+        if (!databaseProtocolFrontendEngine.getCommandExecuteEngine().writeQueryData(context, queryCommandExecutor, progress)) {
+            suspended = true;
+            connectionCommandExecutor.suspend(new Runnable() {
+                
+                @Override
+                public void run() {
+                    resumeWriteQueryData(queryCommandExecutor, progress);
+                }
+            });
+        }
+    }
+    
+    private void resumeWriteQueryData(final QueryCommandExecutor queryCommandExecutor, final QueryDataWriteProgress progress) {
+        try {
+            try {
+                writeQueryData(queryCommandExecutor, progress);
+            } finally {
+                closeBackendConnectionIfNecessary();
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur: ", ex);
+            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        } finally {
+            flushIfNoPendingCommands();
+        }
+    }
+    
+    private void flushIfNoPendingCommands() {
+        if (0 == connectionCommandExecutor.getPendingCommandsCount()) {
+            context.flush();
+        }
+    }
+    
+    private void closeBackendConnectionIfNecessary() throws SQLException {
+        if (!suspended && !databaseProtocolFrontendEngine.getCommandExecuteEngine().isBackendConnectionHeld()) {
+            backendConnection.close();
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
 }
@@ -41,7 +41,17 @@ public final class CommandExecutorSelector {
      * @return executor service
      */
     public static ExecutorService getExecutor(final boolean isOccupyThreadForPerConnection, final TransactionType transactionType, final ChannelId channelId) {
-        return (isOccupyThreadForPerConnection || TransactionType.XA == transactionType || TransactionType.BASE == transactionType)
-            ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
+        return isOccupyThread(isOccupyThreadForPerConnection, transactionType) ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
+    }
+    
+    /**
+     * Judge whether commands should be executed in thread occupied by channel.
+     *
+     * @param isOccupyThreadForPerConnection is occupy thread for per connection or not
+     * @param transactionType transaction type
+     * @return is occupy thread or not
+     */
+    public static boolean isOccupyThread(final boolean isOccupyThreadForPerConnection, final TransactionType transactionType) {
+        return isOccupyThreadForPerConnection || TransactionType.XA == transactionType || TransactionType.BASE == transactionType;
     }
 }
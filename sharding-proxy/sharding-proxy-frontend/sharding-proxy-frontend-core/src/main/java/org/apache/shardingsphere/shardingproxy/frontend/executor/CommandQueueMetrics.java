@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of frontend command queues.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CommandQueueMetrics {
+    
+    private static final CommandQueueMetrics INSTANCE = new CommandQueueMetrics();
+    
+    private final AtomicLong pendingCommandsCount = new AtomicLong();
+    
+    private final AtomicLong executedCommandsCount = new AtomicLong();
+    
+    private final AtomicLong ioThreadExecutedCommandsCount = new AtomicLong();
+    
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    
+    /**
+     * Get command queue metrics.
+     *
+     * @return command queue metrics
+     */
+    public static CommandQueueMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record command enqueued.
+     */
+    public void recordEnqueue() {
+        pendingCommandsCount.incrementAndGet();
+    }
+    
+    /**
+     * Record command dequeued.
+     *
+     * @param waitNanos nanoseconds of command waited in queue
+     */
+    public void recordDequeue(final long waitNanos) {
+        pendingCommandsCount.decrementAndGet();
+        executedCommandsCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        long currentMaxWaitNanos = maxWaitNanos.get();
+        while (waitNanos > currentMaxWaitNanos && !maxWaitNanos.compareAndSet(currentMaxWaitNanos, waitNanos)) {
+            currentMaxWaitNanos = maxWaitNanos.get();
+        }
+    }
+    
+    /**
+     * Record command executed in I/O thread without queued.
+     */
+    public void recordIOThreadExecuted() {
+        ioThreadExecutedCommandsCount.incrementAndGet();
+    }
+    
+    /**
+     * Get count of commands pending in queues of all connections.
+     *
+     * @return count of pending commands
+     */
+    public long getPendingCommandsCount() {
+        return pendingCommandsCount.get();
+    }
+    
+    /**
+     * Get count of commands dequeued and executed.
+     *
+     * @return count of executed commands
+     */
+    public long getExecutedCommandsCount() {
+        return executedCommandsCount.get();
+    }
+    
+    /**
+     * Get count of commands executed in I/O thread directly.
+     *
+     * @return count of commands executed in I/O thread
+     */
+    public long getIOThreadExecutedCommandsCount() {
+        return ioThreadExecutedCommandsCount.get();
+    }
+    
+    /**
+     * Get average nanoseconds of commands waited in queue.
+     *
+     * @return average wait nanoseconds
+     */
+    public long getAverageWaitNanos() {
+        long executedCount = executedCommandsCount.get();
+        return 0 == executedCount ? 0 : totalWaitNanos.get() / executedCount;
+    }
+    
+    /**
+     * Get max nanoseconds of commands waited in queue.
+     *
+     * @return max wait nanoseconds
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import com.google.common.base.Supplier;
+import io.netty.channel.Channel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Command executor for each frontend connection.
+ * 
+ * <p>
+ *     Commands of one connection are executed one by one in arrival order.
+ *     Only one command of a connection is submitted to executor service at a time, so connections take turns on shared threads.
+ *     Reading from channel is suspended when pending commands reach max pending commands, and resumed when they are drained to half.
+ *     Executing command can suspend itself until channel is writable without holding thread, commands after it keep pending until it finished.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ConnectionCommandExecutor {
+    
+    private final Channel channel;
+    
+    private final int maxPendingCommands;
+    
+    private final Queue<PendingCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger pendingCommandsCount = new AtomicInteger();
+    
+    private final AtomicBoolean executing = new AtomicBoolean();
+    
+    private final AtomicBoolean readSuspended = new AtomicBoolean();
+    
+    private final AtomicReference<PendingCommand> suspendedCommand = new AtomicReference<>();
+    
+    private Runnable resumeCommand;
+    
+    private final Runnable executeNextTask = new Runnable() {
+        
+        @Override
+        public void run() {
+            try {
+                executeNext();
+            } finally {
+                scheduleNext();
+            }
+        }
+    };
+    
+    private final Runnable resumeReadTask = new Runnable() {
+        
+        @Override
+        public void run() {
+            resumeRead();
+        }
+    };
+    
+    /**
+     * Execute command after pending commands of current connection.
+     * 
+     * <p>This method should be invoked in I/O thread of channel.</p>
+     *
+     * @param executorService executor service to execute command
+     * @param command command to be executed
+     */
+    public void execute(final ExecutorService executorService, final Runnable command) {
+        pendingCommands.offer(new PendingCommand(executorService, command, System.nanoTime()));
+        CommandQueueMetrics.getInstance().recordEnqueue();
+        if (pendingCommandsCount.incrementAndGet() >= maxPendingCommands) {
+            suspendRead();
+        }
+        scheduleNext();
+    }
+    
+    /**
+     * Execute command in current thread if no other commands of current connection are pending or executing.
+     *
+     * <p>
+     *     This method should be invoked in I/O thread of channel.
+     *     Condition is checked after previous commands finished, so it can rely on state changed by them, such as transaction status.
+     * </p>
+     *
+     * @param executorService executor service to resume command if command suspended
+     * @param command command to be executed
+     * @param condition condition to execute command in current thread
+     * @return command executed or not
+     */
+    public boolean executeInCurrentThreadIfIdle(final ExecutorService executorService, final Runnable command, final Supplier<Boolean> condition) {
+        if (!pendingCommands.isEmpty() || !executing.compareAndSet(false, true)) {
+            return false;
+        }
+        if (!condition.get()) {
+            executing.set(false);
+            scheduleNext();
+            return false;
+        }
+        CommandQueueMetrics.getInstance().recordIOThreadExecuted();
+        try {
+            runCommand(executorService, command);
+        } finally {
+            scheduleNext();
+        }
+        return true;
+    }
+    
+    /**
+     * Suspend current command until channel is writable.
+     * 
+     * <p>
+     *     This method should be invoked in thread executing command of current connection.
+     *     Resume command will be executed after current command returned and channel is writable or inactive.
+     * </p>
+     *
+     * @param resumeCommand command to resume current command
+     */
+    public void suspend(final Runnable resumeCommand) {
+        this.resumeCommand = resumeCommand;
+    }
+    
+    /**
+     * Resume suspended command.
+     * 
+     * <p>This method should be invoked when channel is writable or inactive.</p>
+     */
+    public void resume() {
+        final PendingCommand command = suspendedCommand.getAndSet(null);
+        if (null == command) {
+            return;
+        }
+        Runnable resumeTask = new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    runCommand(command.getExecutorService(), command.getCommand());
+                } finally {
+                    scheduleNext();
+                }
+            }
+        };
+        try {
+            command.getExecutorService().execute(resumeTask);
+        } catch (final RejectedExecutionException ignored) {
+            resumeTask.run();
+        }
+    }
+    
+    /**
+     * Get count of pending commands.
+     *
+     * @return count of pending commands
+     */
+    public int getPendingCommandsCount() {
+        return pendingCommandsCount.get();
+    }
+    
+    private void scheduleNext() {
+        while (!pendingCommands.isEmpty() && executing.compareAndSet(false, true)) {
+            PendingCommand next = pendingCommands.peek();
+            if (null == next) {
+                executing.set(false);
+                continue;
+            }
+            try {
+                next.getExecutorService().execute(executeNextTask);
+                return;
+            } catch (final RejectedExecutionException ignored) {
+                // Executor service of channel is shut down after channel inactive, run remaining commands in current thread as it did before shut down.
+                executeNext();
+            }
+        }
+    }
+    
+    private void executeNext() {
+        PendingCommand pendingCommand = pendingCommands.poll();
+        if (pendingCommandsCount.decrementAndGet() <= maxPendingCommands / 2 && readSuspended.get()) {
+            channel.eventLoop().execute(resumeReadTask);
+        }
+        CommandQueueMetrics.getInstance().recordDequeue(System.nanoTime() - pendingCommand.getEnqueueNanoTime());
+        runCommand(pendingCommand.getExecutorService(), pendingCommand.getCommand());
+    }
+    
+    private void runCommand(final ExecutorService executorService, final Runnable command) {
+        try {
+            command.run();
+        } finally {
+            if (null == resumeCommand) {
+                executing.set(false);
+            } else {
+                suspendedCommand.set(new PendingCommand(executorService, resumeCommand, System.nanoTime()));
+                resumeCommand = null;
+                if (channel.isWritable() || !channel.isActive()) {
+                    resume();
+                }
+            }
+        }
+    }
+    
+    private void suspendRead() {
+        readSuspended.set(true);
+        channel.config().setAutoRead(false);
+        if (pendingCommandsCount.get() <= maxPendingCommands / 2) {
+            resumeRead();
+        }
+    }
+    
+    private void resumeRead() {
+        if (readSuspended.compareAndSet(true, false)) {
+            channel.config().setAutoRead(true);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingCommand {
+        
+        private final ExecutorService executorService;
+        
+        private final Runnable command;
+        
+        private final long enqueueNanoTime;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive flush handler.
+ * 
+ * <p>
+ *     Encoded data are flushed when unflushed bytes reach flush bytes or flush interval elapsed since first unflushed data written, whichever comes first.
+ *     Explicit flushes are passed through only if there are unflushed data.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class AdaptiveFlushHandler extends ChannelDuplexHandler {
+    
+    private final int flushBytes;
+    
+    private final long flushIntervalMicroseconds;
+    
+    private int unflushedBytes;
+    
+    private boolean unflushed;
+    
+    private ScheduledFuture<?> scheduledFlush;
+    
+    private ChannelHandlerContext context;
+    
+    private final Runnable scheduledFlushTask = new Runnable() {
+        
+        @Override
+        public void run() {
+            scheduledFlush = null;
+            if (unflushed) {
+                FlushMetrics.getInstance().recordIntervalFlush();
+                doFlush();
+            }
+        }
+    };
+    
+    @Override
+    public void handlerAdded(final ChannelHandlerContext context) {
+        this.context = context;
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (message instanceof ByteBuf) {
+            unflushedBytes += ((ByteBuf) message).readableBytes();
+        }
+        unflushed = true;
+        context.write(message, promise);
+        if (unflushedBytes >= flushBytes) {
+            FlushMetrics.getInstance().recordBytesFlush();
+            doFlush();
+        } else if (null == scheduledFlush) {
+            scheduledFlush = context.executor().schedule(scheduledFlushTask, flushIntervalMicroseconds, TimeUnit.MICROSECONDS);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (unflushed) {
+            FlushMetrics.getInstance().recordExplicitFlush();
+            doFlush();
+        }
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        cancelScheduledFlush();
+    }
+    
+    @Override
+    public void close(final ChannelHandlerContext context, final ChannelPromise promise) {
+        cancelScheduledFlush();
+        context.close(promise);
+    }
+    
+    private void doFlush() {
+        cancelScheduledFlush();
+        FlushMetrics.getInstance().recordFlushedBytes(unflushedBytes);
+        unflushedBytes = 0;
+        unflushed = false;
+        context.flush();
+    }
+    
+    private void cancelScheduledFlush() {
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+}
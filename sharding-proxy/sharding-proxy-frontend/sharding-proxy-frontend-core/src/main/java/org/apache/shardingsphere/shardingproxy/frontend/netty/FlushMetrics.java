@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of flushing frontend connections.
+ * 
+ * <p>Each flush issues at least one write system call to socket.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FlushMetrics {
+    
+    private static final FlushMetrics INSTANCE = new FlushMetrics();
+    
+    private final AtomicLong bytesFlushCount = new AtomicLong();
+    
+    private final AtomicLong intervalFlushCount = new AtomicLong();
+    
+    private final AtomicLong explicitFlushCount = new AtomicLong();
+    
+    private final AtomicLong flushedBytes = new AtomicLong();
+    
+    /**
+     * Get flush metrics.
+     *
+     * @return flush metrics
+     */
+    public static FlushMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record flush caused by unflushed bytes reaching flush bytes.
+     */
+    public void recordBytesFlush() {
+        bytesFlushCount.incrementAndGet();
+    }
+    
+    /**
+     * Record flush caused by flush interval elapsed.
+     */
+    public void recordIntervalFlush() {
+        intervalFlushCount.incrementAndGet();
+    }
+    
+    /**
+     * Record flush explicitly invoked.
+     */
+    public void recordExplicitFlush() {
+        explicitFlushCount.incrementAndGet();
+    }
+    
+    /**
+     * Record flushed bytes.
+     *
+     * @param bytes flushed bytes
+     */
+    public void recordFlushedBytes(final int bytes) {
+        flushedBytes.addAndGet(bytes);
+    }
+    
+    /**
+     * Get count of flushes caused by unflushed bytes reaching flush bytes.
+     *
+     * @return count of flushes
+     */
+    public long getBytesFlushCount() {
+        return bytesFlushCount.get();
+    }
+    
+    /**
+     * Get count of flushes caused by flush interval elapsed.
+     *
+     * @return count of flushes
+     */
+    public long getIntervalFlushCount() {
+        return intervalFlushCount.get();
+    }
+    
+    /**
+     * Get count of flushes explicitly invoked.
+     *
+     * @return count of flushes
+     */
+    public long getExplicitFlushCount() {
+        return explicitFlushCount.get();
+    }
+    
+    /**
+     * Get total count of flushes.
+     *
+     * @return total count of flushes
+     */
+    public long getFlushCount() {
+        return bytesFlushCount.get() + intervalFlushCount.get() + explicitFlushCount.get();
+    }
+    
+    /**
+     * Get total flushed bytes.
+     *
+     * @return flushed bytes
+     */
+    public long getFlushedBytes() {
+        return flushedBytes.get();
+    }
+}
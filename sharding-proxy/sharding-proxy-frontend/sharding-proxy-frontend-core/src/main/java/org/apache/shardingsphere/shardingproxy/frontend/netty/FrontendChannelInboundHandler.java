@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.netty;
 
+import com.google.common.base.Supplier;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -29,10 +30,13 @@ import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ConnectionCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Frontend channel inbound handler.
  * 
@@ -49,9 +53,24 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     private final BackendConnection backendConnection = new BackendConnection(
             TransactionType.valueOf(ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.PROXY_TRANSACTION_TYPE)));
     
+    private final boolean lightweightCommandInIOThreadEnabled = ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(
+            ShardingPropertiesConstant.PROXY_FRONTEND_LIGHTWEIGHT_COMMAND_IN_IO_THREAD_ENABLED);
+    
+    private final Supplier<Boolean> notInTransaction = new Supplier<Boolean>() {
+        
+        @Override
+        public Boolean get() {
+            return !backendConnection.getStateHandler().isInTransaction();
+        }
+    };
+    
+    private ConnectionCommandExecutor connectionCommandExecutor;
+    
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        connectionCommandExecutor = new ConnectionCommandExecutor(
+                context.channel(), ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_MAX_PENDING_COMMANDS));
         databaseProtocolFrontendEngine.getAuthEngine().handshake(context, backendConnection);
     }
     
@@ -61,8 +80,21 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authorized = auth(context, (ByteBuf) message);
             return;
         }
-        CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.getTransactionType(), context.channel().id())
-                .execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+        boolean isOccupyThreadForPerConnection = databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection();
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message, connectionCommandExecutor);
+        ExecutorService executorService = CommandExecutorSelector.getExecutor(isOccupyThreadForPerConnection, backendConnection.getTransactionType(), context.channel().id());
+        if (isExecuteInIOThread(isOccupyThreadForPerConnection, (ByteBuf) message) && connectionCommandExecutor.executeInCurrentThreadIfIdle(executorService, commandExecutorTask, notInTransaction)) {
+            return;
+        }
+        connectionCommandExecutor.execute(executorService, commandExecutorTask);
+    }
+    
+    private boolean isExecuteInIOThread(final boolean isOccupyThreadForPerConnection, final ByteBuf message) {
+        return lightweightCommandInIOThreadEnabled && !CommandExecutorSelector.isOccupyThread(isOccupyThreadForPerConnection, backendConnection.getTransactionType()) && isLightweightCommand(message);
+    }
+    
+    private boolean isLightweightCommand(final ByteBuf message) {
+        return databaseProtocolFrontendEngine.getCommandExecuteEngine().isLightweightCommand(databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload(message));
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -83,13 +115,14 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
         context.fireChannelInactive();
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
+        connectionCommandExecutor.resume();
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            backendConnection.getResourceSynchronizer().doNotify();
+            connectionCommandExecutor.resume();
         }
     }
 }
@@ -21,7 +21,10 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.DatabaseProtocolFrontendEngineFactory;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
@@ -39,6 +42,9 @@ public final class ServerHandlerInitializer extends ChannelInitializer<SocketCha
     protected void initChannel(final SocketChannel socketChannel) {
         DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine = DatabaseProtocolFrontendEngineFactory.newInstance(LogicSchemas.getInstance().getDatabaseType());
         ChannelPipeline pipeline = socketChannel.pipeline();
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        pipeline.addLast(new AdaptiveFlushHandler(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_BYTES),
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_INTERVAL_MICROSECONDS)));
         pipeline.addLast(new PacketCodec(databaseProtocolFrontendEngine.getCodecEngine()));
         pipeline.addLast(new FrontendChannelInboundHandler(databaseProtocolFrontendEngine));
     }
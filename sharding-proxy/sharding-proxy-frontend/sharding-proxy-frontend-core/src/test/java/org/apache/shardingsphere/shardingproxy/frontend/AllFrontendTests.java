@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.shardingproxy.frontend;
 
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroupTest;
+import org.apache.shardingsphere.shardingproxy.frontend.executor.ConnectionCommandExecutorTest;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ExecutorGroupTest;
+import org.apache.shardingsphere.shardingproxy.frontend.netty.AdaptiveFlushHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -28,7 +30,9 @@ import org.junit.runners.Suite.SuiteClasses;
         DatabaseFrontendEngineFactoryTest.class,
         ConnectionIdGeneratorTest.class, 
         ExecutorGroupTest.class, 
-        ChannelThreadExecutorGroupTest.class
+        ChannelThreadExecutorGroupTest.class, 
+        ConnectionCommandExecutorTest.class, 
+        AdaptiveFlushHandlerTest.class
 })
 public final class AllFrontendTests {
 }
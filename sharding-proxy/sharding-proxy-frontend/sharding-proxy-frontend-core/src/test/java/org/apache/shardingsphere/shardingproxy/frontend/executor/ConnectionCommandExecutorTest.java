@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import com.google.common.base.Suppliers;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import lombok.RequiredArgsConstructor;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class ConnectionCommandExecutorTest {
+    
+    private final List<String> executedCommands = new LinkedList<>();
+    
+    @Test
+    public void assertExecuteInArrivalOrder() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(new EmbeddedChannel(), 16);
+        connectionCommandExecutor.execute(executorService, new RecordCommand("first"));
+        connectionCommandExecutor.execute(executorService, new RecordCommand("second"));
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(taskCaptor.capture());
+        assertThat(connectionCommandExecutor.getPendingCommandsCount(), is(2));
+        taskCaptor.getValue().run();
+        verify(executorService, times(2)).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        assertThat(executedCommands.size(), is(2));
+        assertThat(executedCommands.get(0), is("first"));
+        assertThat(executedCommands.get(1), is("second"));
+        assertThat(connectionCommandExecutor.getPendingCommandsCount(), is(0));
+    }
+    
+    @Test
+    public void assertSuspendAndResumeRead() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(channel, 2);
+        connectionCommandExecutor.execute(executorService, new RecordCommand("first"));
+        assertTrue(channel.config().isAutoRead());
+        connectionCommandExecutor.execute(executorService, new RecordCommand("second"));
+        assertFalse(channel.config().isAutoRead());
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertExecuteInCurrentThreadIfIdle() {
+        ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(new EmbeddedChannel(), 16);
+        assertTrue(connectionCommandExecutor.executeInCurrentThreadIfIdle(mock(ExecutorService.class), new RecordCommand("first"), Suppliers.ofInstance(true)));
+        assertThat(executedCommands.size(), is(1));
+    }
+    
+    @Test
+    public void assertExecuteInCurrentThreadIfIdleWithoutCondition() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(new EmbeddedChannel(), 16);
+        assertFalse(connectionCommandExecutor.executeInCurrentThreadIfIdle(executorService, new RecordCommand("first"), Suppliers.ofInstance(false)));
+        connectionCommandExecutor.execute(executorService, new RecordCommand("first"));
+        verify(executorService).execute(any(Runnable.class));
+        assertTrue(executedCommands.isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteInCurrentThreadIfNotIdle() {
+        ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(new EmbeddedChannel(), 16);
+        connectionCommandExecutor.execute(mock(ExecutorService.class), new RecordCommand("first"));
+        assertFalse(connectionCommandExecutor.executeInCurrentThreadIfIdle(mock(ExecutorService.class), new RecordCommand("second"), Suppliers.ofInstance(true)));
+        assertTrue(executedCommands.isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteWithRejectedExecutorService() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).when(executorService).execute(any(Runnable.class));
+        ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(new EmbeddedChannel(), 16);
+        connectionCommandExecutor.execute(executorService, new RecordCommand("first"));
+        assertThat(executedCommands.size(), is(1));
+        assertThat(connectionCommandExecutor.getPendingCommandsCount(), is(0));
+    }
+    
+    @Test
+    public void assertSuspendUntilChannelWritable() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1, 2));
+        channel.write(Unpooled.buffer().writeZero(16));
+        final ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(channel, 16);
+        connectionCommandExecutor.execute(executorService, new Runnable() {
+            
+            @Override
+            public void run() {
+                executedCommands.add("first");
+                connectionCommandExecutor.suspend(new RecordCommand("resumed"));
+            }
+        });
+        connectionCommandExecutor.execute(executorService, new RecordCommand("second"));
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        verify(executorService).execute(any(Runnable.class));
+        channel.flush();
+        connectionCommandExecutor.resume();
+        verify(executorService, times(2)).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        verify(executorService, times(3)).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        assertThat(executedCommands.size(), is(3));
+        assertThat(executedCommands.get(0), is("first"));
+        assertThat(executedCommands.get(1), is("resumed"));
+        assertThat(executedCommands.get(2), is("second"));
+    }
+    
+    @Test
+    public void assertSuspendWithWritableChannel() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        final ConnectionCommandExecutor connectionCommandExecutor = new ConnectionCommandExecutor(new EmbeddedChannel(), 16);
+        connectionCommandExecutor.execute(executorService, new Runnable() {
+            
+            @Override
+            public void run() {
+                connectionCommandExecutor.suspend(new RecordCommand("resumed"));
+            }
+        });
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        verify(executorService, times(2)).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        assertThat(executedCommands.size(), is(1));
+        assertThat(executedCommands.get(0), is("resumed"));
+    }
+    
+    @RequiredArgsConstructor
+    private final class RecordCommand implements Runnable {
+        
+        private final String name;
+        
+        @Override
+        public void run() {
+            executedCommands.add(name);
+        }
+    }
+}
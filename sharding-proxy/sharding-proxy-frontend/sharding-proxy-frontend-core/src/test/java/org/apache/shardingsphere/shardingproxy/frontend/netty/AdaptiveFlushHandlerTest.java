@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveFlushHandlerTest {
+    
+    @Test
+    public void assertFlushWhenBytesReached() {
+        EmbeddedChannel channel = new EmbeddedChannel(new AdaptiveFlushHandler(4, 1000000L));
+        channel.write(Unpooled.buffer().writeZero(2));
+        assertTrue(channel.outboundMessages().isEmpty());
+        channel.write(Unpooled.buffer().writeZero(2));
+        assertThat(channel.outboundMessages().size(), is(2));
+    }
+    
+    @Test
+    public void assertFlushExplicitly() {
+        EmbeddedChannel channel = new EmbeddedChannel(new AdaptiveFlushHandler(1024, 1000000L));
+        channel.write(Unpooled.buffer().writeZero(2));
+        channel.flush();
+        assertThat(channel.outboundMessages().size(), is(1));
+    }
+    
+    @Test
+    public void assertFlushWhenIntervalElapsed() throws InterruptedException {
+        EmbeddedChannel channel = new EmbeddedChannel(new AdaptiveFlushHandler(1024, 1L));
+        channel.write(Unpooled.buffer().writeZero(2));
+        assertTrue(channel.outboundMessages().isEmpty());
+        Thread.sleep(10L);
+        channel.runPendingTasks();
+        assertThat(channel.outboundMessages().size(), is(1));
+    }
+}
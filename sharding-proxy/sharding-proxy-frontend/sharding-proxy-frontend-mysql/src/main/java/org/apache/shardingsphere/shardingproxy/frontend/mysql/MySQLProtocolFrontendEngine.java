@@ -26,6 +26,7 @@ import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.MySQLComma
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 
 /**
  * Frontend engine for MySQL protocol.
@@ -53,5 +54,6 @@ public final class MySQLProtocolFrontendEngine implements DatabaseProtocolFronte
     
     @Override
     public void release(final BackendConnection backendConnection) {
+        MySQLBinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
     }
 }
@@ -17,14 +17,17 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.netty.util.CharsetUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.backend.text.sctl.ShardingCTLBackendHandlerFactory;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketFactory;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
@@ -40,54 +43,81 @@ import java.sql.SQLException;
 
 /**
  * Command execute engine for MySQL.
+ * 
+ * <p>
+ * Command sent by client as several packets shifts sequence IDs of its response packets by the extra packets count.
+ * The offset is taken from payload of current command, commands of same connection are executed one by one.
+ * </p>
  *
  * @author zhangliang
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private volatile int sequenceIdOffset;
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
+        sequenceIdOffset = (payload.getByteBuf().readableBytes() - MySQLPacket.SEQUENCE_LENGTH) / MySQLPacket.MAX_PAYLOAD_LENGTH;
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
     }
     
+    @Override
+    public boolean isLightweightCommand(final PacketPayload payload) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        int typeIndex = byteBuf.readerIndex() + MySQLPacket.SEQUENCE_LENGTH;
+        if (byteBuf.writerIndex() <= typeIndex) {
+            return false;
+        }
+        int type = byteBuf.getUnsignedByte(typeIndex);
+        if (MySQLCommandPacketType.COM_PING.getValue() == type || MySQLCommandPacketType.COM_INIT_DB.getValue() == type) {
+            return true;
+        }
+        int sqlIndex = typeIndex + 1;
+        return MySQLCommandPacketType.COM_QUERY.getValue() == type && byteBuf.writerIndex() - sqlIndex >= ShardingCTLBackendHandlerFactory.SCTL.length()
+                && ShardingCTLBackendHandlerFactory.SCTL.equalsIgnoreCase(byteBuf.toString(sqlIndex, ShardingCTLBackendHandlerFactory.SCTL.length(), CharsetUtil.US_ASCII));
+    }
+    
+    @Override
+    public boolean isFlushCommand(final CommandPacketType type) {
+        return false;
+    }
+    
+    @Override
+    public boolean isBackendConnectionHeld() {
+        return false;
+    }
+    
     @Override
     public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
-        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
+        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, backendConnection.getConnectionId());
     }
     
     @Override
     public CommandExecutor getCommandExecutor(final CommandPacketType type, final CommandPacket packet, final BackendConnection backendConnection) {
-        return MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, backendConnection);
+        CommandExecutor result = MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, backendConnection);
+        return 0 == sequenceIdOffset ? result : new MySQLSequenceIdOffsetCommandExecutor(result, sequenceIdOffset);
     }
     
     @Override
     public DatabasePacket getErrorPacket(final Exception cause) {
-        return MySQLErrPacketFactory.newInstance(1, cause);
+        return MySQLErrPacketFactory.newInstance(1 + sequenceIdOffset, cause);
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public boolean writeQueryData(final ChannelHandlerContext context, final QueryCommandExecutor queryCommandExecutor, final QueryDataWriteProgress progress) throws SQLException {
         if (!queryCommandExecutor.isQuery() || !context.channel().isActive()) {
-            return;
+            return true;
         }
-        int count = 0;
-        int flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+        while (context.channel().isWritable()) {
+            if (!queryCommandExecutor.next()) {
+                context.write(new MySQLEofPacket(progress.getWrittenQueryDataCount() + 1 + progress.getHeaderPackagesCount() + sequenceIdOffset));
+                return true;
             }
             DatabasePacket dataValue = queryCommandExecutor.getQueryData();
             context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
-            currentSequenceId++;
+            progress.increaseWrittenQueryDataCount();
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+        context.flush();
+        return false;
     }
 }
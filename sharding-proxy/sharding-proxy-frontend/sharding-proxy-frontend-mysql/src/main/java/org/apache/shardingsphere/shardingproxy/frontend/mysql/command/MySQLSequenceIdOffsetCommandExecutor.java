@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Command executor for MySQL which shifts sequence IDs of response packets.
+ */
+@RequiredArgsConstructor
+public final class MySQLSequenceIdOffsetCommandExecutor implements QueryCommandExecutor {
+    
+    private final CommandExecutor commandExecutor;
+    
+    private final int sequenceIdOffset;
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        Collection<DatabasePacket> packets = commandExecutor.execute();
+        Collection<DatabasePacket> result = new ArrayList<>(packets.size());
+        for (DatabasePacket each : packets) {
+            result.add(new SequenceIdOffsetPacket((MySQLPacket) each, sequenceIdOffset));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return commandExecutor instanceof QueryCommandExecutor && ((QueryCommandExecutor) commandExecutor).isQuery();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return ((QueryCommandExecutor) commandExecutor).next();
+    }
+    
+    @Override
+    public DatabasePacket getQueryData() throws SQLException {
+        return new SequenceIdOffsetPacket((MySQLPacket) ((QueryCommandExecutor) commandExecutor).getQueryData(), sequenceIdOffset);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SequenceIdOffsetPacket implements MySQLPacket {
+        
+        private final MySQLPacket packet;
+        
+        private final int sequenceIdOffset;
+        
+        @Override
+        public int getSequenceId() {
+            return packet.getSequenceId() + sequenceIdOffset;
+        }
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            packet.write(payload);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLCommandExecuteEngineTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Test
+    public void assertSequenceIdOfResponsesWithPipelinedCommands() throws SQLException {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf in = Unpooled.buffer();
+        writeLargePingPacket(in);
+        writePingPacket(in);
+        List<Object> commands = new LinkedList<>();
+        codecEngine.decode(context, in, commands, in.readableBytes());
+        codecEngine.decode(context, in, commands, in.readableBytes());
+        assertThat(commands.size(), is(2));
+        MySQLCommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+        assertThat(getResponseSequenceId(codecEngine, commandExecuteEngine, (ByteBuf) commands.get(0)), is(2));
+        assertThat(getResponseSequenceId(codecEngine, commandExecuteEngine, (ByteBuf) commands.get(1)), is(1));
+    }
+    
+    @Test
+    public void assertGetErrorPacketAfterLargeCommand() throws SQLException {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf in = Unpooled.buffer();
+        writeLargePingPacket(in);
+        List<Object> commands = new LinkedList<>();
+        codecEngine.decode(context, in, commands, in.readableBytes());
+        MySQLCommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
+        try (MySQLPacketPayload payload = codecEngine.createPacketPayload((ByteBuf) commands.get(0))) {
+            commandExecuteEngine.getCommandPacketType(payload);
+        }
+        assertThat(((MySQLPacket) commandExecuteEngine.getErrorPacket(new SQLException("test"))).getSequenceId(), is(2));
+    }
+    
+    private int getResponseSequenceId(final MySQLPacketCodecEngine codecEngine, final MySQLCommandExecuteEngine commandExecuteEngine, final ByteBuf command) throws SQLException {
+        Collection<DatabasePacket> responses;
+        try (MySQLPacketPayload payload = codecEngine.createPacketPayload(command)) {
+            MySQLCommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+            CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
+            CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+            responses = commandExecutor.execute();
+        }
+        assertThat(responses.size(), is(1));
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, (MySQLPacket) responses.iterator().next(), out);
+        return out.getUnsignedByte(MySQLPacket.PAYLOAD_LENGTH);
+    }
+    
+    private void writeLargePingPacket(final ByteBuf out) {
+        out.writeMediumLE(MySQLPacket.MAX_PAYLOAD_LENGTH);
+        out.writeByte(0);
+        out.writeByte(MySQLCommandPacketType.COM_PING.getValue());
+        out.writeZero(MySQLPacket.MAX_PAYLOAD_LENGTH - 1);
+        out.writeMediumLE(10);
+        out.writeByte(1);
+        out.writeZero(10);
+    }
+    
+    private void writePingPacket(final ByteBuf out) {
+        out.writeMediumLE(1);
+        out.writeByte(0);
+        out.writeByte(MySQLCommandPacketType.COM_PING.getValue());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
@@ -28,6 +29,8 @@ import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCod
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.codec.PostgreSQLPacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.BinaryStatementRegistry;
 
+import java.sql.SQLException;
+
 /**
  * Frontend engine for PostgreSQL protocol.
  *
@@ -35,6 +38,7 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.comma
  * @author zhangliang
  */
 @Getter
+@Slf4j
 public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolFrontendEngine {
     
     private final FrontendContext frontendContext = new FrontendContext(true, false);
@@ -52,6 +56,11 @@ public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolF
     
     @Override
     public void release(final BackendConnection backendConnection) {
+        try {
+            commandExecuteEngine.getPortalRegistry().closeAll();
+        } catch (final SQLException ex) {
+            log.warn("Close portals failure.", ex);
+        }
         BinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
     }
 }
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import lombok.Getter;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriteProgress;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
@@ -46,11 +48,29 @@ import java.sql.SQLException;
  */
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    @Getter
+    private final PostgreSQLPortalRegistry portalRegistry = new PostgreSQLPortalRegistry();
+    
     @Override
     public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return PostgreSQLCommandPacketTypeLoader.getCommandPacketType((PostgreSQLPacketPayload) payload);
     }
     
+    @Override
+    public boolean isLightweightCommand(final PacketPayload payload) {
+        return false;
+    }
+    
+    @Override
+    public boolean isFlushCommand(final CommandPacketType type) {
+        return PostgreSQLCommandPacketType.SYNC == type || PostgreSQLCommandPacketType.QUERY == type;
+    }
+    
+    @Override
+    public boolean isBackendConnectionHeld() {
+        return !portalRegistry.isEmpty();
+    }
+    
     @Override
     public PostgreSQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
         return PostgreSQLCommandPacketFactory.newInstance((PostgreSQLCommandPacketType) type, (PostgreSQLPacketPayload) payload, backendConnection.getConnectionId());
@@ -58,7 +78,7 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     
     @Override
     public CommandExecutor getCommandExecutor(final CommandPacketType type, final CommandPacket packet, final BackendConnection backendConnection) {
-        return PostgreSQLCommandExecutorFactory.newInstance((PostgreSQLCommandPacketType) type, (PostgreSQLCommandPacket) packet, backendConnection);
+        return PostgreSQLCommandExecutorFactory.newInstance((PostgreSQLCommandPacketType) type, (PostgreSQLCommandPacket) packet, backendConnection, portalRegistry);
     }
     
     @Override
@@ -67,27 +87,30 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
-        if (queryCommandExecutor.isQuery() && !context.channel().isActive()) {
-            context.write(new PostgreSQLCommandCompletePacket());
-            context.write(new PostgreSQLReadyForQueryPacket());
-            return;
+    public boolean writeQueryData(final ChannelHandlerContext context, final QueryCommandExecutor queryCommandExecutor, final QueryDataWriteProgress progress) throws SQLException {
+        if (!context.channel().isActive()) {
+            writeCompletionPackets(context, queryCommandExecutor);
+            return true;
         }
-        int count = 0;
-        int proxyFrontendFlushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+        while (context.channel().isWritable()) {
+            if (!queryCommandExecutor.next()) {
+                writeCompletionPackets(context, queryCommandExecutor);
+                return true;
             }
             DatabasePacket resultValue = queryCommandExecutor.getQueryData();
             context.write(resultValue);
-            if (proxyFrontendFlushThreshold == count) {
-                context.flush();
-                count = 0;
+            progress.increaseWrittenQueryDataCount();
+        }
+        context.flush();
+        return false;
+    }
+    
+    private void writeCompletionPackets(final ChannelHandlerContext context, final QueryCommandExecutor queryCommandExecutor) {
+        if (queryCommandExecutor instanceof PostgreSQLComExecuteExecutor) {
+            if (queryCommandExecutor.isQuery()) {
+                context.write(((PostgreSQLComExecuteExecutor) queryCommandExecutor).getCompletionPacket());
             }
+            return;
         }
         context.write(new PostgreSQLCommandCompletePacket());
         context.write(new PostgreSQLReadyForQueryPacket());
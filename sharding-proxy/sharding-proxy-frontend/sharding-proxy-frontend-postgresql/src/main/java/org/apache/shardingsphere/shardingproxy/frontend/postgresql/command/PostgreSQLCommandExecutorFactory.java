@@ -24,6 +24,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.describe.PostgreSQLComDescribeExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
@@ -33,6 +34,8 @@ import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 
@@ -51,9 +54,12 @@ public final class PostgreSQLCommandExecutorFactory {
      * @param commandPacketType command packet type for PostgreSQL
      * @param commandPacket command packet for PostgreSQL
      * @param backendConnection backend connection
+     * @param portalRegistry portal registry of connection
      * @return command executor
      */
-    public static CommandExecutor newInstance(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket, final BackendConnection backendConnection) {
+    public static CommandExecutor newInstance(
+            final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLCommandPacket commandPacket,
+            final BackendConnection backendConnection, final PostgreSQLPortalRegistry portalRegistry) {
         log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
         switch (commandPacketType) {
             case QUERY:
@@ -61,13 +67,13 @@ public final class PostgreSQLCommandExecutorFactory {
             case PARSE:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, backendConnection);
             case BIND:
-                return new PostgreSQLComBindExecutor((PostgreSQLComBindPacket) commandPacket, backendConnection);
+                return new PostgreSQLComBindExecutor((PostgreSQLComBindPacket) commandPacket, backendConnection, portalRegistry);
             case DESCRIBE:
-                return new PostgreSQLComDescribeExecutor();
+                return new PostgreSQLComDescribeExecutor((PostgreSQLComDescribePacket) commandPacket, portalRegistry);
             case EXECUTE:
-                return new PostgreSQLComExecuteExecutor();
+                return new PostgreSQLComExecuteExecutor((PostgreSQLComExecutePacket) commandPacket, portalRegistry);
             case SYNC:
-                return new PostgreSQLComSyncExecutor();
+                return new PostgreSQLComSyncExecutor(backendConnection, portalRegistry);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.constant.PostgreSQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.describe.PostgreSQLNoDataPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Portal for PostgreSQL, which is a bound statement whose rows are fetched by execute commands.
+ * 
+ * <p>
+ * Statement of portal is not executed when it is bound, but when its result is needed by first execute or describe command.
+ * </p>
+ */
+public final class PostgreSQLPortal {
+    
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private final boolean binaryRowData;
+    
+    private BackendResponse backendResponse;
+    
+    private List<PostgreSQLColumnDescription> columnDescriptions = Collections.emptyList();
+    
+    public PostgreSQLPortal(final DatabaseCommunicationEngine databaseCommunicationEngine, final boolean binaryRowData) {
+        this.databaseCommunicationEngine = databaseCommunicationEngine;
+        this.binaryRowData = binaryRowData;
+    }
+    
+    /**
+     * Execute statement of portal if it is not executed yet.
+     *
+     * @return backend response of statement
+     */
+    public BackendResponse execute() {
+        if (null == backendResponse) {
+            backendResponse = databaseCommunicationEngine.execute();
+            if (backendResponse instanceof QueryResponse) {
+                columnDescriptions = getPostgreSQLColumnDescriptions((QueryResponse) backendResponse);
+            }
+        }
+        return backendResponse;
+    }
+    
+    private List<PostgreSQLColumnDescription> getPostgreSQLColumnDescriptions(final QueryResponse queryResponse) {
+        List<PostgreSQLColumnDescription> result = new LinkedList<>();
+        int columnIndex = 0;
+        for (QueryHeader each : queryResponse.getQueryHeaders()) {
+            result.add(new PostgreSQLColumnDescription(each.getColumnName(), ++columnIndex, each.getColumnType(), each.getColumnLength()));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether portal is executed and returns rows.
+     *
+     * @return portal returns rows or not
+     */
+    public boolean isQuery() {
+        return !columnDescriptions.isEmpty();
+    }
+    
+    /**
+     * Describe rows of portal.
+     *
+     * @return packets of row description
+     */
+    public Collection<DatabasePacket> describe() {
+        if (!isQuery()) {
+            return Collections.<DatabasePacket>singletonList(new PostgreSQLNoDataPacket());
+        }
+        if (binaryRowData) {
+            return Collections.emptyList();
+        }
+        return Collections.<DatabasePacket>singletonList(new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions));
+    }
+    
+    /**
+     * Goto next row.
+     *
+     * @return has next row or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        return databaseCommunicationEngine.next();
+    }
+    
+    /**
+     * Get current row.
+     *
+     * @return packet of current row
+     * @throws SQLException SQL exception
+     */
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        QueryData queryData = databaseCommunicationEngine.getQueryData();
+        return binaryRowData ? new PostgreSQLBinaryResultSetRowPacket(queryData.getData(), getPostgreSQLColumnTypes(queryData)) : new PostgreSQLDataRowPacket(queryData.getData());
+    }
+    
+    /**
+     * Close portal and its backend results.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        databaseCommunicationEngine.close();
+    }
+    
+    private List<PostgreSQLColumnType> getPostgreSQLColumnTypes(final QueryData queryData) {
+        List<PostgreSQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
+        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
+            result.add(PostgreSQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
+        }
+        return result;
+    }
+}
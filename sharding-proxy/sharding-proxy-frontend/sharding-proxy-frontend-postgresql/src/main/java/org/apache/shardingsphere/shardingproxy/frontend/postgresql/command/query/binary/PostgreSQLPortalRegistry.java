@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Portal registry of one PostgreSQL frontend connection.
+ *
+ * <p>
+ * Rows of portals are fetched by backend connection which is kept open until all portals are closed.
+ * Backend results of portal are closed when portal is closed or replaced.
+ * </p>
+ */
+public final class PostgreSQLPortalRegistry {
+    
+    private final Map<String, PostgreSQLPortal> portals = new ConcurrentHashMap<>();
+    
+    /**
+     * Register portal, portal with same name is replaced and closed.
+     *
+     * @param name portal name
+     * @param portal portal
+     * @throws SQLException SQL exception
+     */
+    public void register(final String name, final PostgreSQLPortal portal) throws SQLException {
+        PostgreSQLPortal replaced = portals.put(name, portal);
+        if (null != replaced) {
+            replaced.close();
+        }
+    }
+    
+    /**
+     * Get portal.
+     *
+     * @param name portal name
+     * @return portal, null if not registered
+     */
+    public PostgreSQLPortal get(final String name) {
+        return portals.get(name);
+    }
+    
+    /**
+     * Close portal.
+     *
+     * @param name portal name
+     * @throws SQLException SQL exception
+     */
+    public void close(final String name) throws SQLException {
+        PostgreSQLPortal portal = portals.remove(name);
+        if (null != portal) {
+            portal.close();
+        }
+    }
+    
+    /**
+     * Close all portals.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void closeAll() throws SQLException {
+        SQLException exception = null;
+        for (String each : portals.keySet()) {
+            try {
+                close(each);
+            } catch (final SQLException ex) {
+                exception = ex;
+            }
+        }
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    /**
+     * Judge whether no portal is open.
+     *
+     * @return no portal is open or not
+     */
+    public boolean isEmpty() {
+        return portals.isEmpty();
+    }
+}
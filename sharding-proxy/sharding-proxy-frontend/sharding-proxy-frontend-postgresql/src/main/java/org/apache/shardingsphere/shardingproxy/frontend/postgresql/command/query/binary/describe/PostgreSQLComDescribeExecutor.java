@@ -17,22 +17,51 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.describe;
 
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
- * Command describe for PostgreSQL.
+ * Command describe executor for PostgreSQL.
+ *
+ * <p>
+ * Columns of portal are known after its statement is executed, so describe command executes portal if it has not been executed.
+ * </p>
  *
  * @author zhangyonglun
  * @author zhangliang
  */
+@RequiredArgsConstructor
 public final class PostgreSQLComDescribeExecutor implements CommandExecutor {
     
+    private static final char PORTAL_TYPE = 'P';
+    
+    private final PostgreSQLComDescribePacket packet;
+    
+    private final PostgreSQLPortalRegistry portalRegistry;
+    
     @Override
-    public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (PORTAL_TYPE != packet.getType()) {
+            return Collections.emptyList();
+        }
+        PostgreSQLPortal portal = portalRegistry.get(packet.getName());
+        if (null == portal) {
+            return Collections.emptyList();
+        }
+        if (portal.execute() instanceof ErrorResponse) {
+            portalRegistry.close(packet.getName());
+            return Collections.<DatabasePacket>singletonList(new PostgreSQLErrorResponsePacket());
+        }
+        return portal.describe();
     }
 }
@@ -17,22 +17,101 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute;
 
-import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute.PostgreSQLPortalSuspendedPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
  * Command execute executor for PostgreSQL.
  *
+ * <p>
+ * Statement of portal is executed by its first execute command, if it has not been executed by describe command.
+ * At most max rows of execute packet are fetched from portal, and the portal is suspended if the limit is reached.
+ * Error response is returned if portal does not exist.
+ * </p>
+ *
  * @author zhangyonglun
  * @author zhangliang
  */
-public final class PostgreSQLComExecuteExecutor implements CommandExecutor {
+public final class PostgreSQLComExecuteExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLComExecutePacket packet;
+    
+    private final PostgreSQLPortalRegistry portalRegistry;
+    
+    private final PostgreSQLPortal portal;
+    
+    private int fetchedRows;
+    
+    private volatile boolean portalSuspended;
+    
+    public PostgreSQLComExecuteExecutor(final PostgreSQLComExecutePacket packet, final PostgreSQLPortalRegistry portalRegistry) {
+        this.packet = packet;
+        this.portalRegistry = portalRegistry;
+        portal = portalRegistry.get(packet.getPortal());
+    }
     
     @Override
-    public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (null == portal) {
+            throw new SQLException(String.format("Portal '%s' does not exist.", packet.getPortal()));
+        }
+        BackendResponse backendResponse = portal.execute();
+        if (portal.isQuery()) {
+            return Collections.emptyList();
+        }
+        portalRegistry.close(packet.getPortal());
+        if (backendResponse instanceof ErrorResponse) {
+            return Collections.<DatabasePacket>singletonList(new PostgreSQLErrorResponsePacket());
+        }
+        return Collections.<DatabasePacket>singletonList(new PostgreSQLCommandCompletePacket());
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return null != portal && portal.isQuery();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (!isQuery()) {
+            return false;
+        }
+        if (packet.getMaxRows() > 0 && fetchedRows >= packet.getMaxRows()) {
+            portalSuspended = true;
+            return false;
+        }
+        if (portal.next()) {
+            fetchedRows++;
+            return true;
+        }
+        portalRegistry.close(packet.getPortal());
+        return false;
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        return portal.getQueryData();
+    }
+    
+    /**
+     * Get packet to complete execution.
+     *
+     * @return portal suspended packet if max rows reached, otherwise command complete packet
+     */
+    public PostgreSQLPacket getCompletionPacket() {
+        return portalSuspended ? new PostgreSQLPortalSuspendedPacket() : new PostgreSQLCommandCompletePacket();
     }
 }
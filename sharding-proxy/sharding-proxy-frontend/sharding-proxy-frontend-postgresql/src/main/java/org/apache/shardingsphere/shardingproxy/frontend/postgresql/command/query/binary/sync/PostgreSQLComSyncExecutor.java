@@ -17,22 +17,39 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.sync;
 
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
  * Command sync executor for PostgreSQL.
  *
+ * <p>
+ * Portals are closed at sync unless in transaction, so that cursors can be fetched by later execute commands in same transaction.
+ * </p>
+ *
  * @author zhangyonglun
  * @author zhangliang
  */
+@RequiredArgsConstructor
 public final class PostgreSQLComSyncExecutor implements CommandExecutor {
     
+    private final BackendConnection backendConnection;
+    
+    private final PostgreSQLPortalRegistry portalRegistry;
+    
     @Override
-    public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (!backendConnection.getStateHandler().isInTransaction()) {
+            portalRegistry.closeAll();
+        }
+        return Collections.<DatabasePacket>singletonList(new PostgreSQLReadyForQueryPacket());
     }
 }
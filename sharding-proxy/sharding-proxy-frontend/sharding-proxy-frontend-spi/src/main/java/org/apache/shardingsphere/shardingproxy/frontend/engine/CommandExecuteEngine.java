@@ -43,6 +43,33 @@ public interface CommandExecuteEngine {
      */
     CommandPacketType getCommandPacketType(PacketPayload packetPayload);
     
+    /**
+     * Judge whether command is lightweight, which can be executed in I/O thread.
+     * 
+     * <p>Reader index of packet payload should not be changed.</p>
+     *
+     * @param payload packet payload
+     * @return is lightweight command or not
+     */
+    boolean isLightweightCommand(PacketPayload payload);
+    
+    /**
+     * Judge whether responses should be flushed after command, even if frontend does not flush for per command packet.
+     *
+     * @param type command packet type
+     * @return responses should be flushed or not
+     */
+    boolean isFlushCommand(CommandPacketType type);
+    
+    /**
+     * Judge whether backend connection is held across commands, such as cursor of suspended portal is still open.
+     * 
+     * <p>Backend connection is not closed after command if it is held.</p>
+     *
+     * @return backend connection is held or not
+     */
+    boolean isBackendConnectionHeld();
+    
     /**
      * Get command packet.
      *
@@ -74,12 +101,17 @@ public interface CommandExecuteEngine {
     
     /**
      * Write query data.
+     * 
+     * <p>
+     *     Query data are written until channel is not writable,
+     *     remaining query data should be written by invoking this method with same progress again after channel is writable.
+     * </p>
      *
      * @param context channel handler context
-     * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
-     * @param headerPackagesCount count of header packages
+     * @param progress progress of writing query data
+     * @return all query data written or not
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    boolean writeQueryData(ChannelHandlerContext context, QueryCommandExecutor queryCommandExecutor, QueryDataWriteProgress progress) throws SQLException;
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
+
+import io.netty.channel.CombinedChannelDuplexHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compression codec for MySQL compressed protocol.
+ *
+ * <p>
+ * Each compressed packet has a 7 bytes header: 3 bytes length of compressed payload, 1 byte compressed sequence id and 3 bytes length of payload before compression.
+ * The payload is compressed by zlib, and is sent without compression if the length of payload before compression is 0.
+ * </p>
+ */
+public final class MySQLCompressionCodec extends CombinedChannelDuplexHandler<MySQLCompressionDecoder, MySQLCompressionEncoder> {
+    
+    static final int HEADER_LENGTH = 7;
+    
+    static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    public MySQLCompressionCodec() {
+        AtomicInteger compressedSequenceId = new AtomicInteger();
+        init(new MySQLCompressionDecoder(compressedSequenceId), new MySQLCompressionEncoder(compressedSequenceId));
+    }
+}
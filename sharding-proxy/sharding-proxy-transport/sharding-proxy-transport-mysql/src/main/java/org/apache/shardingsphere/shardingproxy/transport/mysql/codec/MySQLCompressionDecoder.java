@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decoder for MySQL compressed protocol.
+ */
+@RequiredArgsConstructor
+final class MySQLCompressionDecoder extends ByteToMessageDecoder {
+    
+    private final AtomicInteger compressedSequenceId;
+    
+    private final Inflater inflater = new Inflater();
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) throws DataFormatException {
+        if (in.readableBytes() < MySQLCompressionCodec.HEADER_LENGTH) {
+            return;
+        }
+        int compressedLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (in.readableBytes() < MySQLCompressionCodec.HEADER_LENGTH + compressedLength) {
+            return;
+        }
+        in.skipBytes(3);
+        compressedSequenceId.set(in.readUnsignedByte() + 1);
+        int uncompressedLength = in.readUnsignedMediumLE();
+        out.add(0 == uncompressedLength ? in.readRetainedSlice(compressedLength) : inflate(context, in, compressedLength, uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ChannelHandlerContext context, final ByteBuf in, final int compressedLength, final int uncompressedLength) throws DataFormatException {
+        byte[] input = new byte[compressedLength];
+        in.readBytes(input);
+        ByteBuf result = context.alloc().heapBuffer(uncompressedLength);
+        boolean success = false;
+        try {
+            inflater.reset();
+            inflater.setInput(input);
+            int inflatedLength = inflater.inflate(result.array(), result.arrayOffset(), uncompressedLength);
+            if (!inflater.finished() || inflatedLength != uncompressedLength) {
+                throw new CorruptedFrameException(String.format("Compressed packet expects %d bytes but %d bytes inflated.", uncompressedLength, inflatedLength));
+            }
+            result.writerIndex(uncompressedLength);
+            success = true;
+            return result;
+        } finally {
+            if (!success) {
+                result.release();
+            }
+        }
+    }
+    
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext context) {
+        inflater.end();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.PromiseCombiner;
+import io.netty.util.concurrent.PromiseNotifier;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * Encoder for MySQL compressed protocol.
+ *
+ * <p>
+ * Packets written are gathered until flush, then compressed together to make zlib work on bigger blocks.
+ * </p>
+ */
+@RequiredArgsConstructor
+final class MySQLCompressionEncoder extends ChannelOutboundHandlerAdapter {
+    
+    private static final int MIN_COMPRESS_LENGTH = 50;
+    
+    private final AtomicInteger compressedSequenceId;
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final List<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    private CompositeByteBuf pendingMessages;
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (!(message instanceof ByteBuf)) {
+            writePendingMessages(context);
+            context.write(message, promise);
+            return;
+        }
+        if (null == pendingMessages) {
+            pendingMessages = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pendingMessages.addComponent(true, (ByteBuf) message);
+        if (!promise.isVoid()) {
+            pendingPromises.add(promise);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        writePendingMessages(context);
+        context.flush();
+    }
+    
+    private void writePendingMessages(final ChannelHandlerContext context) {
+        if (null == pendingMessages) {
+            return;
+        }
+        CompositeByteBuf messages = pendingMessages;
+        pendingMessages = null;
+        PromiseCombiner promiseCombiner = new PromiseCombiner();
+        try {
+            while (messages.isReadable()) {
+                promiseCombiner.add(context.write(compress(context, messages, Math.min(messages.readableBytes(), MySQLCompressionCodec.MAX_PAYLOAD_LENGTH))));
+            }
+        } finally {
+            messages.release();
+        }
+        ChannelPromise aggregatePromise = context.newPromise();
+        aggregatePromise.addListener(new PromiseNotifier<Void, ChannelFuture>(pendingPromises.toArray(new ChannelPromise[pendingPromises.size()])));
+        pendingPromises.clear();
+        promiseCombiner.finish(aggregatePromise);
+    }
+    
+    private ByteBuf compress(final ChannelHandlerContext context, final ByteBuf messages, final int length) {
+        ByteBuf result = context.alloc().heapBuffer(MySQLCompressionCodec.HEADER_LENGTH + length);
+        result.writerIndex(MySQLCompressionCodec.HEADER_LENGTH);
+        if (length < MIN_COMPRESS_LENGTH) {
+            result.writeBytes(messages, length);
+            writeHeader(result, length, 0);
+            return result;
+        }
+        byte[] input = new byte[length];
+        messages.readBytes(input);
+        deflater.reset();
+        deflater.setInput(input);
+        deflater.finish();
+        int compressedLength = deflater.deflate(result.array(), result.arrayOffset() + MySQLCompressionCodec.HEADER_LENGTH, length);
+        if (deflater.finished() && compressedLength < length) {
+            result.writerIndex(MySQLCompressionCodec.HEADER_LENGTH + compressedLength);
+            writeHeader(result, compressedLength, length);
+        } else {
+            result.writerIndex(MySQLCompressionCodec.HEADER_LENGTH);
+            result.writeBytes(input);
+            writeHeader(result, length, 0);
+        }
+        return result;
+    }
+    
+    private void writeHeader(final ByteBuf result, final int compressedLength, final int uncompressedLength) {
+        result.setMediumLE(0, compressedLength);
+        result.setByte(3, compressedSequenceId.getAndIncrement());
+        result.setMediumLE(4, uncompressedLength);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        if (null != pendingMessages) {
+            pendingMessages.release();
+            pendingMessages = null;
+        }
+        for (ChannelPromise each : pendingPromises) {
+            each.tryFailure(new ClosedChannelException());
+        }
+        pendingPromises.clear();
+        deflater.end();
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
@@ -27,34 +28,92 @@ import java.util.List;
 
 /**
  * Database packet codec for MySQL.
+ *
+ * <p>
+ * Packets whose payload reaches 0xFFFFFF bytes are split into several packets on the wire, and reassembled into one payload when decoding.
+ * Sequence IDs of packets to be encoded are written as they are, offset of sequence IDs caused by split command is handled by command execute engine.
+ * </p>
  * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
-        return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+        return readableBytes > HEADER_LENGTH;
     }
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
-        int realPacketLength = payloadLength + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
-        if (readableBytes < realPacketLength) {
-            in.resetReaderIndex();
+        int payloadLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (readableBytes < payloadLength + HEADER_LENGTH) {
+            return;
+        }
+        if (payloadLength < MySQLPacket.MAX_PAYLOAD_LENGTH) {
+            in.skipBytes(MySQLPacket.PAYLOAD_LENGTH);
+            out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
             return;
         }
-        out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        decodeLargePacket(context, in, out, readableBytes);
+    }
+    
+    private void decodeLargePacket(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
+        int packetsCount = 0;
+        int offset = 0;
+        int payloadLength;
+        do {
+            if (readableBytes < offset + HEADER_LENGTH) {
+                return;
+            }
+            payloadLength = in.getUnsignedMediumLE(in.readerIndex() + offset);
+            offset += payloadLength + HEADER_LENGTH;
+            if (readableBytes < offset) {
+                return;
+            }
+            packetsCount++;
+        } while (MySQLPacket.MAX_PAYLOAD_LENGTH == payloadLength);
+        in.skipBytes(MySQLPacket.PAYLOAD_LENGTH);
+        CompositeByteBuf result = context.alloc().compositeBuffer(packetsCount);
+        result.addComponent(true, in.readRetainedSlice(MySQLPacket.SEQUENCE_LENGTH + MySQLPacket.MAX_PAYLOAD_LENGTH));
+        for (int i = 1; i < packetsCount; i++) {
+            payloadLength = in.readUnsignedMediumLE();
+            in.skipBytes(MySQLPacket.SEQUENCE_LENGTH);
+            result.addComponent(true, in.readRetainedSlice(payloadLength));
+        }
+        out.add(result);
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writeZero(MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength < MySQLPacket.MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, message.getSequenceId());
+            return;
+        }
+        splitLargePacket(message.getSequenceId(), out, headerIndex, payloadLength);
+    }
+    
+    private void splitLargePacket(final int sequenceId, final ByteBuf out, final int headerIndex, final int payloadLength) {
+        int payloadIndex = headerIndex + HEADER_LENGTH;
+        ByteBuf payload = out.copy(payloadIndex, payloadLength);
+        try {
+            out.writerIndex(headerIndex);
+            int currentSequenceId = sequenceId;
+            int chunkLength;
+            do {
+                chunkLength = Math.min(payload.readableBytes(), MySQLPacket.MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(chunkLength);
+                out.writeByte(currentSequenceId++);
+                out.writeBytes(payload, chunkLength);
+            } while (MySQLPacket.MAX_PAYLOAD_LENGTH == chunkLength);
+        } finally {
+            payload.release();
         }
     }
     
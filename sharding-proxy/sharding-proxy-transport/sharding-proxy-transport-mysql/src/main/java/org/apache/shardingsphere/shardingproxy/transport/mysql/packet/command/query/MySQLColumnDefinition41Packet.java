@@ -35,13 +35,13 @@ import java.sql.SQLException;
  * @author zhangliang
  * @author zhangyonglun
  */
+@Getter
 public final class MySQLColumnDefinition41Packet implements MySQLPacket {
     
     private static final String CATALOG = "def";
     
     private static final int NEXT_LENGTH = 0x0c;
     
-    @Getter
     private final int sequenceId;
     
     private final int characterSet;
@@ -38,7 +38,7 @@ public final class MySQLFieldCountPacket implements MySQLPacket {
     private final int columnCount;
     
     public MySQLFieldCountPacket(final MySQLPacketPayload payload) {
-        this(payload.readInt1(), payload.readInt1());
+        this(payload.readInt1(), (int) payload.readIntLenenc());
     }
     
     @Override
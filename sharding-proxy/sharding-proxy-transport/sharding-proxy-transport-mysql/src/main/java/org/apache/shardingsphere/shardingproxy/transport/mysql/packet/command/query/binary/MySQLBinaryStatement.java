@@ -20,6 +20,8 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.List;
 
@@ -37,5 +39,9 @@ public final class MySQLBinaryStatement {
     
     private final int parametersCount;
     
+    private final SQLStatement sqlStatement;
+    
+    private final ShardingRule shardingRule;
+    
     private List<MySQLBinaryStatementParameterType> parameterTypes;
 }
@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
 import lombok.ToString;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 
 /**
@@ -37,15 +39,21 @@ public final class MySQLComStmtClosePacket extends MySQLCommandPacket {
     
     private final int statementId;
     
-    public MySQLComStmtClosePacket(final MySQLPacketPayload payload) {
+    private final int connectionId;
+    
+    public MySQLComStmtClosePacket(final MySQLPacketPayload payload, final int connectionId) {
         super(MySQLCommandPacketType.COM_STMT_CLOSE);
         statementId = payload.readInt4();
+        this.connectionId = connectionId;
     }
     
     /**
      * Remove cached statement.
      */
     public void removeCachedStatement() {
-        MySQLBinaryStatementRegistry.getInstance().remove(statementId);
+        Optional<MySQLConnectionScopeBinaryStatementRegistry> binaryStatementRegistry = MySQLBinaryStatementRegistry.getInstance().get(connectionId);
+        if (binaryStatementRegistry.isPresent()) {
+            binaryStatementRegistry.get().remove(statementId);
+        }
     }
 }
@@ -17,16 +17,21 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.ToString;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatement;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementParameterType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
@@ -62,13 +67,24 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final String sql;
     
+    @Getter
+    private final SQLStatement sqlStatement;
+    
+    @Getter
+    private final ShardingRule shardingRule;
+    
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        Optional<MySQLConnectionScopeBinaryStatementRegistry> binaryStatementRegistry = MySQLBinaryStatementRegistry.getInstance().get(connectionId);
+        binaryStatement = binaryStatementRegistry.isPresent() ? binaryStatementRegistry.get().getBinaryStatement(statementId) : null;
+        if (null == binaryStatement) {
+            MySQLServerErrorCode errorCode = MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER;
+            throw new SQLException(String.format(errorCode.getErrorMessage(), statementId, "mysqld_stmt_execute"), errorCode.getSqlState(), errorCode.getErrorCode());
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -81,6 +97,8 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
             binaryStatement.setParameterTypes(getParameterTypes(payload, parametersCount));
         }
         sql = binaryStatement.getSql();
+        sqlStatement = binaryStatement.getSqlStatement();
+        shardingRule = binaryStatement.getShardingRule();
         parameters = getParameters(payload, parametersCount);
     }
     
@@ -189,10 +189,10 @@ public final class MySQLPacketPayload implements PacketPayload {
             return 0;
         }
         if (0xfc == firstByte) {
-            return byteBuf.readShortLE();
+            return byteBuf.readUnsignedShortLE();
         }
         if (0xfd == firstByte) {
-            return byteBuf.readMediumLE();
+            return byteBuf.readUnsignedMediumLE();
         }
         return byteBuf.readLongLE();
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql;
 
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLCompressionCodecTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngineTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.AllMySQLConstantTests;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.AllMySQLPacketTests;
@@ -28,6 +29,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         MySQLPacketCodecEngineTest.class, 
+        MySQLCompressionCodecTest.class, 
         MySQLPacketPayloadTest.class, 
         AllMySQLConstantTests.class, 
         AllMySQLPacketTests.class
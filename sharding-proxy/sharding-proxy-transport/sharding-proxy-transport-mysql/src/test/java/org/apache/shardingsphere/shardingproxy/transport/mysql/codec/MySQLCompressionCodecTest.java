@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressionCodecTest {
+    
+    @Test
+    public void assertEncodeWithoutCompression() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        ChannelFuture future = channel.write(Unpooled.wrappedBuffer(new byte[] {1, 2, 3}));
+        assertFalse(future.isDone());
+        channel.flush();
+        assertTrue(future.isSuccess());
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(3));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(actual.readByte(), is((byte) 1));
+        assertThat(actual.readByte(), is((byte) 2));
+        assertThat(actual.readByte(), is((byte) 3));
+        actual.release();
+        channel.finish();
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeWithCompression() {
+        EmbeddedChannel serverChannel = new EmbeddedChannel(new MySQLCompressionCodec());
+        serverChannel.write(Unpooled.wrappedBuffer(new byte[600]));
+        serverChannel.writeAndFlush(Unpooled.wrappedBuffer(new byte[400]));
+        ByteBuf compressed = serverChannel.readOutbound();
+        assertTrue(compressed.readableBytes() < 1000);
+        assertThat(compressed.getUnsignedMediumLE(0), is(compressed.readableBytes() - 7));
+        assertThat(compressed.getUnsignedMediumLE(4), is(1000));
+        EmbeddedChannel clientChannel = new EmbeddedChannel(new MySQLCompressionCodec());
+        clientChannel.writeInbound(compressed);
+        ByteBuf actual = clientChannel.readInbound();
+        assertThat(actual.readableBytes(), is(1000));
+        actual.release();
+        serverChannel.finish();
+        clientChannel.finish();
+    }
+    
+    @Test
+    public void assertDecodeWithoutCompression() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(2);
+        in.writeByte(0);
+        in.writeMediumLE(0);
+        in.writeByte(1);
+        assertFalse(channel.writeInbound(in));
+        assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(new byte[] {2})));
+        ByteBuf actual = channel.readInbound();
+        assertThat(actual.readableBytes(), is(2));
+        actual.release();
+        channel.finish();
+    }
+    
+    @Test
+    public void assertSequenceIdFollowsInboundPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        ByteBuf in = Unpooled.buffer();
+        in.writeMediumLE(1);
+        in.writeByte(3);
+        in.writeMediumLE(0);
+        in.writeByte(1);
+        channel.writeInbound(in);
+        ((ByteBuf) channel.readInbound()).release();
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+        ByteBuf first = channel.readOutbound();
+        ByteBuf second = channel.readOutbound();
+        assertThat(first.getUnsignedByte(3), is((short) 4));
+        assertThat(second.getUnsignedByte(3), is((short) 5));
+        first.release();
+        second.release();
+        channel.finish();
+    }
+}
@@ -18,13 +18,12 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
-import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLRawTextResultSetRowPacket;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -35,8 +34,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -60,8 +57,7 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertDecode() {
-        when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.getUnsignedMediumLE(0)).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
@@ -70,27 +66,107 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertDecodeWithStickyPacket() {
-        when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.getUnsignedMediumLE(0)).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 40);
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    public void assertDecodeLargePacket() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf in = createLargePacket(0, 10);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodecEngine().decode(context, in, out, in.readableBytes());
+        assertThat(out.size(), is(1));
+        ByteBuf actual = (ByteBuf) out.get(0);
+        assertThat(actual.readableBytes(), is(1 + 0xFFFFFF + 10));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.getByte(0xFFFFFF), is((byte) 1));
+        assertThat(actual.getByte(0xFFFFFF + 1), is((byte) 2));
+        assertFalse(in.isReadable());
+        actual.release();
+    }
+    
+    @Test
+    public void assertDecodeIncompleteLargePacket() {
+        ByteBuf in = createLargePacket(0, 10);
+        List<Object> out = new LinkedList<>();
+        new MySQLPacketCodecEngine().decode(context, in, out, in.readableBytes() - 1);
+        assertTrue(out.isEmpty());
+        assertThat(in.readerIndex(), is(0));
+    }
+    
+    @Test
+    public void assertEncodeWithoutSequenceIdOffsetAfterDecodeLargePacket() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf in = createLargePacket(0, 10);
+        List<Object> out = new LinkedList<>();
+        codecEngine.decode(context, in, out, in.readableBytes());
+        ((ByteBuf) out.get(0)).release();
+        ByteBuf actual = Unpooled.buffer();
+        codecEngine.encode(context, new MySQLRawTextResultSetRowPacket(1, new byte[] {1}), actual);
+        actual.skipBytes(3);
+        assertThat(actual.readUnsignedByte(), is((short) 1));
+    }
+    
+    private ByteBuf createLargePacket(final int sequenceId, final int remainLength) {
+        ByteBuf result = Unpooled.buffer(0xFFFFFF + remainLength + 8);
+        result.writeMediumLE(0xFFFFFF);
+        result.writeByte(sequenceId);
+        result.writeZero(0xFFFFFF - 1);
+        result.writeByte(1);
+        result.writeMediumLE(remainLength);
+        result.writeByte(sequenceId + 1);
+        result.writeByte(2);
+        result.writeZero(remainLength - 1);
+        return result;
+    }
+    
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new MySQLRawTextResultSetRowPacket(1, new byte[] {1, 2, 3}), out);
+        assertThat(out.readableBytes(), is(7));
+        assertThat(out.readMediumLE(), is(3));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        assertThat(out.readByte(), is((byte) 1));
+        assertThat(out.readByte(), is((byte) 2));
+        assertThat(out.readByte(), is((byte) 3));
+    }
+    
+    @Test
+    public void assertEncodeWithExistedBytes() {
+        ByteBuf out = Unpooled.buffer();
+        out.writeByte(9);
+        new MySQLPacketCodecEngine().encode(context, new MySQLRawTextResultSetRowPacket(2, new byte[] {1}), out);
+        assertThat(out.readByte(), is((byte) 9));
+        assertThat(out.readMediumLE(), is(1));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+        assertThat(out.readByte(), is((byte) 1));
+    }
+    
+    @Test
+    public void assertEncodeLargePacket() {
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new MySQLRawTextResultSetRowPacket(1, new byte[0xFFFFFF + 10]), out);
+        assertThat(out.readableBytes(), is(0xFFFFFF + 10 + 8));
+        assertThat(out.readUnsignedMediumLE(), is(0xFFFFFF));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        out.skipBytes(0xFFFFFF);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+    }
+    
+    @Test
+    public void assertEncodeLargePacketWithExactMaxLength() {
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new MySQLRawTextResultSetRowPacket(1, new byte[0xFFFFFF]), out);
+        assertThat(out.readableBytes(), is(0xFFFFFF + 8));
+        out.skipBytes(0xFFFFFF + 4);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readUnsignedByte(), is((short) 2));
     }
     
     @Test
@@ -38,6 +38,13 @@ public final class MySQLServerErrorCodeTest {
         assertThat(MySQLServerErrorCode.ER_BAD_DB_ERROR.getErrorMessage(), is("Unknown database '%s'"));
     }
     
+    @Test
+    public void assertUnknownStmtHandler() {
+        assertThat(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode(), is(1243));
+        assertThat(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getSqlState(), is("HY000"));
+        assertThat(MySQLServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorMessage(), is("Unknown prepared statement handler (%s) given to %s"));
+    }
+    
     @Test
     public void assertErrorOnModifyingGtidExecutedTable() {
         assertThat(MySQLServerErrorCode.ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE.getErrorCode(), is(3176));
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.ad
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41PacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLFieldCountPacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistryTest;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLConnectionScopeBinaryStatementRegistryTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close.MySQLComStmtClosePacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacketTest;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.qu
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.prepare.MySQLComStmtPrepareMySQLOKPacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacketTest;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLRawTextResultSetRowPacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLTextResultSetRowPacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacketTest;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.MySQLComQueryPacketTest;
@@ -45,11 +47,13 @@ import org.junit.runners.Suite.SuiteClasses;
         MySQLMySQLCommandPacketTypeTest.class, 
         MySQLMySQLCommandPacketFactoryTest.class, 
         MySQLBinaryStatementRegistryTest.class,
+        MySQLConnectionScopeBinaryStatementRegistryTest.class,
         MySQLNullBitmapTest.class, 
         AllMySQLBinaryProtocolTests.class, 
         MySQLFieldCountPacketTest.class, 
         MySQLColumnDefinition41PacketTest.class, 
-        MySQLTextResultSetRowPacketTest.class, 
+        MySQLTextResultSetRowPacketTest.class,
+        MySQLRawTextResultSetRowPacketTest.class, 
         MySQLComFieldListPacketTest.class, 
         MySQLComQueryPacketTest.class, 
         MySQLComStmtPreparePacketTest.class, 
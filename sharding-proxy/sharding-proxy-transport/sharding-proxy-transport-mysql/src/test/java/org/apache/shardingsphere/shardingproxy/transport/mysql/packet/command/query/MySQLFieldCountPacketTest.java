@@ -36,7 +36,8 @@ public final class MySQLFieldCountPacketTest {
     
     @Test
     public void assertWrite() {
-        when(payload.readInt1()).thenReturn(1, 3);
+        when(payload.readInt1()).thenReturn(1);
+        when(payload.readIntLenenc()).thenReturn(3L);
         MySQLFieldCountPacket actual = new MySQLFieldCountPacket(payload);
         assertThat(actual.getSequenceId(), is(1));
         assertThat(actual.getColumnCount(), is(3));
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
+
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class MySQLConnectionScopeBinaryStatementRegistryTest {
+    
+    private final String sql = "SELECT * FROM tbl WHERE id=?";
+    
+    private final SQLStatement sqlStatement = mock(SQLStatement.class);
+    
+    private final ShardingRule shardingRule = mock(ShardingRule.class);
+    
+    private final MySQLConnectionScopeBinaryStatementRegistry registry = new MySQLConnectionScopeBinaryStatementRegistry();
+    
+    @Test
+    public void assertRegisterIfAbsent() {
+        assertThat(registry.register(sql, 1, sqlStatement, shardingRule), is(1));
+        MySQLBinaryStatement actual = registry.getBinaryStatement(1);
+        assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getParametersCount(), is(1));
+        assertThat(actual.getSqlStatement(), is(sqlStatement));
+        assertThat(actual.getShardingRule(), is(shardingRule));
+    }
+    
+    @Test
+    public void assertRegisterSameSQLTwice() {
+        assertThat(registry.register(sql, 1, sqlStatement, shardingRule), is(1));
+        assertThat(registry.register(sql, 1, sqlStatement, shardingRule), is(2));
+        registry.remove(1);
+        assertNull(registry.getBinaryStatement(1));
+        MySQLBinaryStatement actual = registry.getBinaryStatement(2);
+        assertThat(actual.getSql(), is(sql));
+        assertThat(actual.getParametersCount(), is(1));
+    }
+    
+    @Test
+    public void assertRegisterAfterRemoved() {
+        registry.register(sql, 1, sqlStatement, shardingRule);
+        registry.remove(1);
+        assertThat(registry.register(sql, 1, sqlStatement, shardingRule), is(2));
+    }
+    
+    @Test
+    public void assertRemoveIfPresent() {
+        registry.register(sql, 1, sqlStatement, shardingRule);
+        registry.remove(1);
+        MySQLBinaryStatement actual = registry.getBinaryStatement(1);
+        assertNull(actual);
+    }
+}
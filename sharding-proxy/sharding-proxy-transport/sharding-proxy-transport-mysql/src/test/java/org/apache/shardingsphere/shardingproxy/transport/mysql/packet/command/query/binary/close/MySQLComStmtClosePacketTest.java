@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close;
 
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,7 +27,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -36,21 +41,34 @@ public final class MySQLComStmtClosePacketTest {
     @Test
     public void assertNew() {
         when(payload.readInt4()).thenReturn(1);
-        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
+        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload, 1);
         assertThat(actual.getStatementId(), is(1));
     }
     
     @Test
     public void assertWrite() {
         when(payload.readInt4()).thenReturn(1);
-        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
+        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload, 1);
         actual.write(payload);
     }
     
     @Test
     public void assertRemoveCachedStatement() {
+        MySQLBinaryStatementRegistry.getInstance().register(1);
+        try {
+            MySQLBinaryStatementRegistry.getInstance().get(1).get().register("SELECT 1", 0, mock(SQLStatement.class), mock(ShardingRule.class));
+            when(payload.readInt4()).thenReturn(1);
+            MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload, 1);
+            actual.removeCachedStatement();
+            assertNull(MySQLBinaryStatementRegistry.getInstance().get(1).get().getBinaryStatement(1));
+        } finally {
+            MySQLBinaryStatementRegistry.getInstance().unregister(1);
+        }
+    }
+    
+    @Test
+    public void assertRemoveCachedStatementWithUnregisteredConnection() {
         when(payload.readInt4()).thenReturn(1);
-        MySQLComStmtClosePacket actual = new MySQLComStmtClosePacket(payload);
-        actual.removeCachedStatement();
+        new MySQLComStmtClosePacket(payload, 2).removeCachedStatement();
     }
 }
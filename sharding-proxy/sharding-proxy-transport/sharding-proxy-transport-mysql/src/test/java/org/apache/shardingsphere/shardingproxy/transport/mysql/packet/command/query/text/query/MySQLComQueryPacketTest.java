@@ -43,6 +43,13 @@ public final class MySQLComQueryPacketTest {
         assertThat(actual.getSql(), is("SELECT id FROM tbl"));
     }
     
+    @Test
+    public void assertNewWithSQL() {
+        MySQLComQueryPacket actual = new MySQLComQueryPacket("SELECT id FROM tbl");
+        assertThat(actual.getSequenceId(), is(0));
+        assertThat(actual.getSql(), is("SELECT id FROM tbl"));
+    }
+    
     @Test
     public void assertWrite() {
         when(payload.readStringEOF()).thenReturn("SELECT id FROM tbl");
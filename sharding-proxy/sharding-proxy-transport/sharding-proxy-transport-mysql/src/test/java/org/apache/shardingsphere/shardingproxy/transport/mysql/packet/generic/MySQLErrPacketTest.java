@@ -27,6 +27,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLErrPacketTest {
@@ -43,6 +44,20 @@ public final class MySQLErrPacketTest {
         assertThat(actual.getErrorMessage(), is(String.format(MySQLServerErrorCode.ER_ACCESS_DENIED_ERROR.getErrorMessage(), "root", "localhost", "root")));
     }
     
+    @Test
+    public void assertNewErrPacketWithPayload() {
+        when(payload.readInt1()).thenReturn(1, MySQLErrPacket.HEADER);
+        when(payload.readInt2()).thenReturn(1046);
+        when(payload.readStringFix(1)).thenReturn("#");
+        when(payload.readStringFix(5)).thenReturn("3D000");
+        when(payload.readStringEOF()).thenReturn("No database selected");
+        MySQLErrPacket actual = new MySQLErrPacket(payload);
+        assertThat(actual.getSequenceId(), is(1));
+        assertThat(actual.getErrorCode(), is(1046));
+        assertThat(actual.getSqlState(), is("3D000"));
+        assertThat(actual.getErrorMessage(), is("No database selected"));
+    }
+    
     @Test
     public void assertWrite() {
         new MySQLErrPacket(1, MySQLServerErrorCode.ER_NO_DB_ERROR).write(payload);
@@ -120,15 +120,15 @@ public final class MySQLPacketPayloadTest {
     @Test
     public void assertReadIntLenencWithTwoBytes() {
         when(byteBuf.readByte()).thenReturn((byte) 0xfc);
-        when(byteBuf.readShortLE()).thenReturn((short) 100);
-        assertThat(new MySQLPacketPayload(byteBuf).readIntLenenc(), is(100L));
+        when(byteBuf.readUnsignedShortLE()).thenReturn(65535);
+        assertThat(new MySQLPacketPayload(byteBuf).readIntLenenc(), is(65535L));
     }
     
     @Test
     public void assertReadIntLenencWithThreeBytes() {
         when(byteBuf.readByte()).thenReturn((byte) 0xfd);
-        when(byteBuf.readMediumLE()).thenReturn(99999);
-        assertThat(new MySQLPacketPayload(byteBuf).readIntLenenc(), is(99999L));
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(16777215);
+        assertThat(new MySQLPacketPayload(byteBuf).readIntLenenc(), is(16777215L));
     }
     
     @Test
@@ -30,10 +30,14 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.Post
 @Getter
 public final class PostgreSQLComDescribePacket extends PostgreSQLCommandPacket {
     
+    private final char type;
+    
+    private final String name;
+    
     public PostgreSQLComDescribePacket(final PostgreSQLPacketPayload payload) {
         payload.readInt4();
-        payload.readInt1();
-        payload.readStringNul();
+        type = (char) payload.readInt1();
+        name = payload.readStringNul();
     }
     
     @Override